@@ -0,0 +1,70 @@
+package test;
+
+import org.junit.jupiter.api.*;
+import static org.junit.jupiter.api.Assertions.*;
+import dao.AsyncDAO;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+@DisplayName("Async DAO Tests")
+class AsyncDAOTest {
+
+    private AsyncDAO asyncDAO;
+
+    @BeforeEach
+    void setUp() {
+        asyncDAO = new AsyncDAO(null, null, null, null, null, 200);
+    }
+
+    @Test
+    @DisplayName("Should run calls on virtual threads")
+    void testVirtualThreads() throws Exception {
+        assertTrue(asyncDAO.supply(() -> Thread.currentThread().isVirtual()).get(1, TimeUnit.SECONDS));
+    }
+
+    @Test
+    @DisplayName("Should pass on the call's exception")
+    void testFailure() {
+        CompletableFuture<Object> call = asyncDAO.supply(() -> {
+            throw new IllegalStateException("Database unavailable");
+        });
+
+        ExecutionException e = assertThrows(ExecutionException.class, () -> call.get(1, TimeUnit.SECONDS));
+        assertInstanceOf(IllegalStateException.class, e.getCause());
+    }
+
+    @Test
+    @DisplayName("Should time out and interrupt a slow call")
+    void testTimeout() throws Exception {
+        CountDownLatch interrupted = new CountDownLatch(1);
+        CompletableFuture<String> call = asyncDAO.supply(() -> sleepUntilInterrupted(interrupted));
+
+        ExecutionException e = assertThrows(ExecutionException.class, () -> call.get(1, TimeUnit.SECONDS));
+        assertInstanceOf(TimeoutException.class, e.getCause());
+        assertTrue(interrupted.await(1, TimeUnit.SECONDS));
+    }
+
+    @Test
+    @DisplayName("Should interrupt a cancelled call")
+    void testCancel() throws Exception {
+        CountDownLatch interrupted = new CountDownLatch(1);
+        CompletableFuture<String> call = asyncDAO.supply(() -> sleepUntilInterrupted(interrupted), 0);
+
+        Thread.sleep(50);
+        assertTrue(call.cancel(true));
+        assertTrue(interrupted.await(1, TimeUnit.SECONDS));
+    }
+
+    private static String sleepUntilInterrupted(CountDownLatch interrupted) throws InterruptedException {
+        try {
+            Thread.sleep(10_000);
+            return "finished";
+        } catch (InterruptedException e) {
+            interrupted.countDown();
+            throw e;
+        }
+    }
+}
@@ -0,0 +1,81 @@
+package test;
+
+import org.junit.jupiter.api.*;
+import static org.junit.jupiter.api.Assertions.*;
+import model.Attendance;
+import service.AttendanceBlock;
+import java.sql.Date;
+import java.sql.Time;
+import java.time.LocalDate;
+import java.util.Arrays;
+import java.util.List;
+
+@DisplayName("Attendance Block Tests")
+class AttendanceBlockTest {
+
+    private static final int STANDARD_LOGIN = 8 * 60;
+    private static final int LATE_THRESHOLD = 8 * 60 + 15;
+    private static final int STANDARD_LOGOUT = 17 * 60;
+
+    private Attendance attendance(int day, String logIn, String logOut) {
+        Attendance attendance = new Attendance();
+        attendance.setEmployeeId(10001);
+        attendance.setDate(Date.valueOf(LocalDate.of(2024, 6, day)));
+        attendance.setLogIn(logIn != null ? Time.valueOf(logIn) : null);
+        attendance.setLogOut(logOut != null ? Time.valueOf(logOut) : null);
+        return attendance;
+    }
+
+    @Test
+    @DisplayName("Should total days worked, late and undertime minutes in one pass")
+    void testSummarize() {
+        List<Attendance> records = Arrays.asList(
+            attendance(3, "08:00:00", "17:00:00"),
+            attendance(4, "08:15:00", "17:00:00"),   // within grace period
+            attendance(5, "08:30:00", "16:30:00"),   // 30 late, 30 undertime
+            null,
+            attendance(6, "09:00:00", null)          // 60 late, no log out
+        );
+
+        AttendanceBlock block = AttendanceBlock.of(records);
+        AttendanceBlock.Totals totals = block.summarize(STANDARD_LOGIN, LATE_THRESHOLD, STANDARD_LOGOUT, new AttendanceBlock.Totals());
+
+        assertAll("Attendance totals",
+            () -> assertEquals(4, block.size()),
+            () -> assertEquals(4, totals.getDaysWorked()),
+            () -> assertEquals(90, totals.getLateMinutes()),
+            () -> assertEquals(30, totals.getUndertimeMinutes()),
+            () -> assertEquals(540 + 525 + 480, totals.getWorkedMinutes())
+        );
+    }
+
+    @Test
+    @DisplayName("Should truncate log-ins and round log-outs up to the minute")
+    void testSecondsBoundaries() {
+        List<Attendance> records = Arrays.asList(
+            attendance(3, "08:15:30", "16:59:30"),   // within grace period, no undertime
+            attendance(4, "08:16:00", "16:58:59"),   // 16 late, 1 undertime
+            attendance(5, "08:00:00", "16:59:00")    // 1 undertime
+        );
+
+        AttendanceBlock block = AttendanceBlock.of(records);
+        AttendanceBlock.Totals totals = block.summarize(STANDARD_LOGIN, LATE_THRESHOLD, STANDARD_LOGOUT, new AttendanceBlock.Totals());
+
+        assertAll("Seconds boundaries",
+            () -> assertEquals(8 * 60 + 15, block.logInMinute(0)),
+            () -> assertEquals(17 * 60, block.logOutMinute(0)),
+            () -> assertEquals(16, totals.getLateMinutes()),
+            () -> assertEquals(2, totals.getUndertimeMinutes())
+        );
+    }
+
+    @Test
+    @DisplayName("Should handle empty attendance")
+    void testEmpty() {
+        AttendanceBlock.Totals totals = AttendanceBlock.of(null)
+                .summarize(STANDARD_LOGIN, LATE_THRESHOLD, STANDARD_LOGOUT, new AttendanceBlock.Totals());
+
+        assertEquals(0, totals.getDaysWorked());
+        assertEquals(0, totals.getLateMinutes());
+    }
+}
@@ -0,0 +1,214 @@
+package test;
+
+import org.junit.jupiter.api.*;
+import org.junit.jupiter.api.io.TempDir;
+import static org.junit.jupiter.api.Assertions.*;
+import dao.AttendanceDAO;
+import dao.EmployeeDAO;
+import model.Attendance;
+import model.EmployeeSummary;
+import service.AttendanceCsvImporter;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.sql.Time;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+@DisplayName("Attendance CSV Importer Tests")
+class AttendanceCsvImporterTest {
+
+    @TempDir
+    Path dir;
+
+    private RecordingAttendanceDAO attendanceDAO;
+    private AttendanceCsvImporter importer;
+    private LocalDate yesterday;
+
+    @BeforeEach
+    void setUp() {
+        attendanceDAO = new RecordingAttendanceDAO();
+        importer = new AttendanceCsvImporter(attendanceDAO, new FixedEmployeeDAO(10001, 10002), 2);
+        yesterday = LocalDate.now().minusDays(1);
+    }
+
+    @Test
+    @DisplayName("Should parse a line with quoted fields and an empty log out")
+    void testParse() {
+        Attendance attendance = AttendanceCsvImporter.parse("\"10001\", 2024-06-03 ,08:05,");
+
+        assertAll("Parsed record",
+            () -> assertEquals(10001, attendance.getEmployeeId()),
+            () -> assertEquals(LocalDate.of(2024, 6, 3), attendance.getDate().toLocalDate()),
+            () -> assertEquals(Time.valueOf("08:05:00"), attendance.getLogIn()),
+            () -> assertNull(attendance.getLogOut())
+        );
+    }
+
+    @Test
+    @DisplayName("Should reject malformed lines when parsing")
+    void testParseMalformed() {
+        assertAll("Malformed lines",
+            () -> assertThrows(IllegalArgumentException.class, () -> AttendanceCsvImporter.parse("10001,2024-06-03")),
+            () -> assertThrows(IllegalArgumentException.class,
+                    () -> AttendanceCsvImporter.parse("10001,2024-06-03,08:00,17:00,extra")),
+            () -> assertThrows(IllegalArgumentException.class,
+                    () -> AttendanceCsvImporter.parse("E-10001,2024-06-03,08:00,17:00"))
+        );
+    }
+
+    @Test
+    @DisplayName("Should import valid rows and write the rest to the reject file")
+    void testImportRejects() throws IOException {
+        Path csv = write(
+            "employee_id,date,log_in,log_out",
+            "10001," + yesterday + ",08:00,17:00",
+            "10001," + yesterday,
+            "abc," + yesterday + ",08:00,17:00",
+            "10002," + yesterday + ",25:00,17:00",
+            "10002," + yesterday + ",17:00,08:00",
+            "10002," + yesterday + ",08:00,17:00",
+            "99999," + yesterday + ",08:00,17:00"
+        );
+
+        AttendanceCsvImporter.ImportResult result = importer.importFile(csv, dir.resolve("rejects.csv"));
+
+        assertAll("Import result",
+            () -> assertEquals(7, result.getRowsRead()),
+            () -> assertEquals(2, result.getRowsImported()),
+            () -> assertEquals(5, result.getRowsRejected()),
+            () -> assertEquals(List.of(3, 4, 5, 6, 8), lineNumbers(result)),
+            () -> assertTrue(result.getErrors().get(2).getMessage().contains("25:00")),
+            () -> assertTrue(result.getErrors().get(3).getMessage().contains("cannot be before log in")),
+            () -> assertTrue(result.getErrors().get(4).getMessage().contains("99999")),
+            () -> assertEquals(2, attendanceDAO.inserted.size())
+        );
+    }
+
+    @Test
+    @DisplayName("Should reject dates outside the last 30 days")
+    void testImportDateWindow() throws IOException {
+        LocalDate today = LocalDate.now();
+        Path csv = write(
+            "10001," + today.minusDays(30) + ",08:00,17:00",
+            "10001," + today.minusDays(31) + ",08:00,17:00",
+            "10001," + today.plusDays(1) + ",08:00,17:00"
+        );
+
+        AttendanceCsvImporter.ImportResult result = importer.importFile(csv, dir.resolve("rejects.csv"));
+
+        assertAll("Date window",
+            () -> assertEquals(1, result.getRowsImported()),
+            () -> assertEquals(List.of(2, 3), lineNumbers(result)),
+            () -> assertTrue(result.getErrors().get(0).getMessage().contains("too far in the past")),
+            () -> assertTrue(result.getErrors().get(1).getMessage().contains("in the future"))
+        );
+    }
+
+    @Test
+    @DisplayName("Should reject repeated days within a file across chunks")
+    void testImportDuplicates() throws IOException {
+        Path csv = write(
+            "10001," + yesterday + ",08:00,17:00",
+            "10002," + yesterday + ",08:00,17:00",
+            "10001," + yesterday + ",09:00,18:00",
+            "10001," + yesterday + ",10:00,19:00"
+        );
+        Path rejectFile = dir.resolve("rejects.csv");
+
+        AttendanceCsvImporter.ImportResult result = importer.importFile(csv, rejectFile);
+        List<String> rejects = Files.readAllLines(rejectFile);
+
+        assertAll("Duplicates",
+            () -> assertEquals(2, result.getRowsImported()),
+            () -> assertEquals(List.of(3, 4), lineNumbers(result)),
+            () -> assertEquals(3, rejects.size()),
+            () -> assertEquals("line,error,record", rejects.get(0)),
+            () -> assertTrue(rejects.get(1).startsWith("3,\"Attendance record already exists")),
+            () -> assertTrue(rejects.get(2).endsWith(",\"10001," + yesterday + ",10:00,19:00\""))
+        );
+    }
+
+    @Test
+    @DisplayName("Should keep rejections in file order when the database refuses a row")
+    void testImportRejectOrder() throws IOException {
+        importer = new AttendanceCsvImporter(attendanceDAO, new FixedEmployeeDAO(10001, 10002), 3);
+        Path csv = write(
+            "10001," + yesterday + ",08:00,17:00",
+            "10001," + yesterday + ",09:00,18:00",
+            "abc," + yesterday + ",08:00,17:00",
+            "10002," + yesterday + ",08:00,17:00",
+            "10002," + yesterday
+        );
+        Path rejectFile = dir.resolve("rejects.csv");
+
+        AttendanceCsvImporter.ImportResult result = importer.importFile(csv, rejectFile);
+        List<String> rejects = Files.readAllLines(rejectFile);
+
+        assertAll("Reject order",
+            () -> assertEquals(2, result.getRowsImported()),
+            () -> assertEquals(List.of(2, 3, 5), lineNumbers(result)),
+            () -> assertEquals(4, rejects.size()),
+            () -> assertTrue(rejects.get(1).startsWith("2,\"Attendance record already exists")),
+            () -> assertTrue(rejects.get(2).startsWith("3,")),
+            () -> assertTrue(rejects.get(3).startsWith("5,"))
+        );
+    }
+
+    private Path write(String... lines) throws IOException {
+        return Files.write(dir.resolve("attendance.csv"), List.of(lines));
+    }
+
+    private static List<Integer> lineNumbers(AttendanceCsvImporter.ImportResult result) {
+        List<Integer> lines = new ArrayList<>();
+        for (AttendanceCsvImporter.RowError error : result.getErrors()) {
+            lines.add(error.getLineNumber());
+        }
+        return lines;
+    }
+
+    /**
+     * Stores batches in memory, refusing a second record for the same employee and day
+     * as the unique key on the attendance table does
+     */
+    private static class RecordingAttendanceDAO extends AttendanceDAO {
+        private final Set<String> keys = new HashSet<>();
+        private final List<Attendance> inserted = new ArrayList<>();
+
+        @Override
+        public Map<Integer, String> insertAttendanceBatch(List<Attendance> chunk) {
+            Map<Integer, String> rejected = new HashMap<>();
+            for (int i = 0; i < chunk.size(); i++) {
+                Attendance attendance = chunk.get(i);
+                if (keys.add(attendance.getEmployeeId() + "@" + attendance.getDate())) {
+                    inserted.add(attendance);
+                } else {
+                    rejected.put(i, "Attendance record already exists for employee " +
+                            attendance.getEmployeeId() + " on date " + attendance.getDate());
+                }
+            }
+            return rejected;
+        }
+    }
+
+    private static class FixedEmployeeDAO extends EmployeeDAO {
+        private final List<EmployeeSummary> employees = new ArrayList<>();
+
+        FixedEmployeeDAO(int... employeeIds) {
+            for (int employeeId : employeeIds) {
+                employees.add(new EmployeeSummary(employeeId, "Garcia", "Manuel", "Chief Executive Officer",
+                        "Regular", "966-860-270", 90000));
+            }
+        }
+
+        @Override
+        public List<EmployeeSummary> getEmployeeSummaries() {
+            return employees;
+        }
+    }
+}
@@ -0,0 +1,65 @@
+package test;
+
+import org.junit.jupiter.api.*;
+import static org.junit.jupiter.api.Assertions.*;
+import model.ContributionBracket;
+import service.ContributionRateTables;
+import java.time.LocalDate;
+import java.util.List;
+
+@DisplayName("Contribution Rate Tables Tests")
+class ContributionRateTablesTest {
+
+    private static final LocalDate PERIOD_END = LocalDate.of(2024, 6, 30);
+
+    @Test
+    @DisplayName("Should apply built-in tables when no brackets are configured")
+    void testBuiltInTables() {
+        ContributionRateTables.Rates rates = ContributionRateTables.fromBrackets(List.of()).ratesFor(PERIOD_END);
+
+        assertAll("Built-in rates",
+            () -> assertEquals(180.00, rates.sss(4000), 0.001),
+            () -> assertEquals(202.50, rates.sss(4000.01), 0.001),
+            () -> assertEquals(1125.00, rates.sss(90000), 0.001),
+            () -> assertEquals(500.00, rates.philHealth(10000), 0.001),
+            () -> assertEquals(1125.00, rates.philHealth(45000), 0.001),
+            () -> assertEquals(5000.00, rates.philHealth(500000), 0.001),
+            () -> assertEquals(15.00, rates.pagIbig(1500), 0.001),
+            () -> assertEquals(200.00, rates.pagIbig(50000), 0.001),
+            () -> assertEquals(0.0, rates.incomeTax(20000), 0.001),
+            () -> assertEquals(1375.00, rates.incomeTax(30000), 0.001)
+        );
+    }
+
+    @Test
+    @DisplayName("Should pick the version effective on the period date")
+    void testEffectiveDatedVersions() {
+        LocalDate oldRates = LocalDate.of(2023, 1, 1);
+        LocalDate newRates = LocalDate.of(2024, 7, 1);
+        List<ContributionBracket> brackets = List.of(
+            new ContributionBracket("PAGIBIG", oldRates, null, 0, 0.02, 0, null, 100.0),
+            new ContributionBracket("PAGIBIG", newRates, null, 0, 0.02, 0, null, 200.0)
+        );
+
+        ContributionRateTables tables = ContributionRateTables.fromBrackets(brackets);
+
+        assertAll("Versioned rates",
+            () -> assertEquals(100.00, tables.ratesFor(PERIOD_END).pagIbig(50000), 0.001),
+            () -> assertEquals(200.00, tables.ratesFor(LocalDate.of(2024, 7, 31)).pagIbig(50000), 0.001),
+            () -> assertEquals(100.00, tables.ratesFor(LocalDate.of(2020, 1, 31)).pagIbig(50000), 0.001),
+            () -> assertEquals(1125.00, tables.ratesFor(PERIOD_END).sss(90000), 0.001)
+        );
+    }
+
+    @Test
+    @DisplayName("Should reject brackets sharing an upper bound")
+    void testDuplicateUpperBound() {
+        LocalDate effective = LocalDate.of(2024, 1, 1);
+        List<ContributionBracket> brackets = List.of(
+            new ContributionBracket("SSS", effective, 5000.0, 200, 0, 0, null, null),
+            new ContributionBracket("SSS", effective, 5000.0, 250, 0, 0, null, null)
+        );
+
+        assertThrows(IllegalArgumentException.class, () -> ContributionRateTables.fromBrackets(brackets));
+    }
+}
@@ -0,0 +1,39 @@
+package test;
+
+import org.junit.jupiter.api.*;
+import static org.junit.jupiter.api.Assertions.*;
+import model.Deduction;
+import model.DeductionType;
+import model.Payroll;
+
+@DisplayName("Deduction Type Tests")
+class DeductionTypeTest {
+
+    @Test
+    @DisplayName("Should map stored type codes ignoring case")
+    void testFromCode() {
+        assertAll("Codes",
+            () -> assertEquals(DeductionType.SSS, DeductionType.fromCode(Deduction.TYPE_SSS)),
+            () -> assertEquals(DeductionType.PHILHEALTH, DeductionType.fromCode("philhealth")),
+            () -> assertEquals(DeductionType.UNPAID_LEAVE, DeductionType.fromCode(" UnpaidLeave ")),
+            () -> assertNull(DeductionType.fromCode("Loan")),
+            () -> assertNull(DeductionType.fromCode(null))
+        );
+    }
+
+    @Test
+    @DisplayName("Should read each type's amount from the payroll")
+    void testAmountOf() {
+        Payroll payroll = new Payroll();
+        payroll.setLateDeduction(125.50);
+        payroll.setSss(1125.00);
+        payroll.setTax(2083.33);
+
+        assertAll("Amounts",
+            () -> assertEquals(12550L, DeductionType.LATE.amountOf(payroll)),
+            () -> assertEquals(112500L, DeductionType.SSS.amountOf(payroll)),
+            () -> assertEquals(208333L, DeductionType.TAX.amountOf(payroll)),
+            () -> assertEquals(0L, DeductionType.PAGIBIG.amountOf(payroll))
+        );
+    }
+}
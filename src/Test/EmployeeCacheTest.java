@@ -0,0 +1,105 @@
+package test;
+
+import org.junit.jupiter.api.*;
+import static org.junit.jupiter.api.Assertions.*;
+import dao.EmployeeCache;
+import model.Employee;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.IntFunction;
+
+@DisplayName("Employee Cache Tests")
+class EmployeeCacheTest {
+
+    private AtomicInteger loads;
+    private IntFunction<Employee> loader;
+
+    @BeforeEach
+    void setUp() {
+        loads = new AtomicInteger();
+        loader = id -> {
+            loads.incrementAndGet();
+            Employee employee = new Employee("Manuel", "Garcia", id);
+            employee.setPosition("Chief Executive Officer");
+            employee.setBasicSalary(90000);
+            return employee;
+        };
+    }
+
+    @Test
+    @DisplayName("Should load once and serve repeated reads from the cache")
+    void testReadThrough() {
+        EmployeeCache cache = new EmployeeCache(10, 60_000);
+
+        cache.get(10001, loader);
+        cache.get(10001, loader);
+        Employee employee = cache.get(10001, loader);
+
+        assertAll("Cache hits",
+            () -> assertEquals(1, loads.get()),
+            () -> assertEquals("Manuel Garcia", employee.getFullName()),
+            () -> assertEquals(2, cache.getHitCount()),
+            () -> assertEquals(1, cache.getMissCount()),
+            () -> assertEquals(2.0 / 3, cache.getHitRate(), 1e-9)
+        );
+    }
+
+    @Test
+    @DisplayName("Should hand out copies callers cannot use to change the cache")
+    void testDefensiveCopies() {
+        EmployeeCache cache = new EmployeeCache(10, 60_000);
+
+        Employee first = cache.get(10001, loader);
+        first.setBasicSalary(1);
+        first.setPosition("Intern");
+        Employee second = cache.get(10001, loader);
+
+        assertNotSame(first, second);
+        assertEquals(90000, second.getBasicSalary());
+        assertEquals("Chief Executive Officer", second.getPosition());
+    }
+
+    @Test
+    @DisplayName("Should evict the least recently used employee when full")
+    void testEviction() {
+        EmployeeCache cache = new EmployeeCache(2, 60_000);
+
+        cache.get(10001, loader);
+        cache.get(10002, loader);
+        cache.get(10001, loader);
+        cache.get(10003, loader);   // evicts 10002
+        cache.get(10001, loader);
+        cache.get(10002, loader);
+
+        assertAll("Eviction",
+            () -> assertEquals(2, cache.size()),
+            () -> assertEquals(2, cache.getEvictionCount()),
+            () -> assertEquals(4, loads.get())
+        );
+    }
+
+    @Test
+    @DisplayName("Should reload after invalidation and expiry")
+    void testInvalidationAndExpiry() throws InterruptedException {
+        EmployeeCache cache = new EmployeeCache(10, 60_000);
+        cache.get(10001, loader);
+        cache.invalidate(10001);
+        cache.get(10001, loader);
+        assertEquals(2, loads.get());
+
+        EmployeeCache shortLived = new EmployeeCache(10, 1);
+        shortLived.get(10001, loader);
+        Thread.sleep(5);
+        shortLived.get(10001, loader);
+        assertEquals(4, loads.get());
+        assertEquals(1, shortLived.getExpirationCount());
+    }
+
+    @Test
+    @DisplayName("Should not cache missing employees")
+    void testMissingEmployee() {
+        EmployeeCache cache = new EmployeeCache(10, 60_000);
+
+        assertNull(cache.get(99999, id -> null));
+        assertEquals(0, cache.size());
+    }
+}
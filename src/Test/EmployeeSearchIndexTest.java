@@ -0,0 +1,118 @@
+package test;
+
+import org.junit.jupiter.api.*;
+import static org.junit.jupiter.api.Assertions.*;
+import model.EmployeeSummary;
+import util.EmployeeSearchIndex;
+import java.util.Arrays;
+import java.util.List;
+
+@DisplayName("Employee Search Index Tests")
+class EmployeeSearchIndexTest {
+
+    private EmployeeSearchIndex index;
+
+    private static EmployeeSummary employee(int id, String lastName, String firstName, String position) {
+        return new EmployeeSummary(id, lastName, firstName, position, "Regular", null, 50000);
+    }
+
+    private static int[] ids(List<EmployeeSummary> results) {
+        return results.stream().mapToInt(EmployeeSummary::employeeId).toArray();
+    }
+
+    @BeforeEach
+    void setUp() {
+        index = EmployeeSearchIndex.getInstance();
+        index.invalidate();
+    }
+
+    @AfterEach
+    void tearDown() {
+        index.invalidate();
+    }
+
+    @Test
+    @DisplayName("Should refuse to search before it is built")
+    void testCold() {
+        assertFalse(index.isWarm());
+        assertThrows(IllegalStateException.class, () -> index.search("garcia"));
+    }
+
+    @Test
+    @DisplayName("Should match names, IDs and positions like the SQL search")
+    void testSubstringMatches() {
+        index.rebuild(Arrays.asList(
+            employee(10001, "Garcia", "Manuel III", "Chief Executive Officer"),
+            employee(10002, "Lim", "Antonio", "Chief Operating Officer"),
+            employee(10003, "Aquino", "Bianca Sofia", "Chief Finance Officer"),
+            employee(10004, "Reyes", "Isabella", "Chief Marketing Officer")
+        ));
+
+        assertAll("Matches",
+            () -> assertArrayEquals(new int[]{10001}, ids(index.search("GARC"))),
+            () -> assertArrayEquals(new int[]{10003}, ids(index.search("sofia aqu"))),
+            () -> assertArrayEquals(new int[]{10003}, ids(index.search("finance"))),
+            () -> assertEquals(4, index.search("officer").size()),
+            () -> assertEquals(0, index.search("zzz").size()),
+            () -> assertEquals(4, index.search("a").size())
+        );
+    }
+
+    @Test
+    @DisplayName("Should rank ID and name prefix matches first")
+    void testRanking() {
+        index.rebuild(Arrays.asList(
+            employee(10001, "Santos", "Ana", "Lim Branch Coordinator"),
+            employee(10002, "Salim", "Pedro", "Accountant"),
+            employee(10003, "Lim", "Antonio", "Chief Operating Officer")
+        ));
+
+        assertAll("Ranking",
+            () -> assertArrayEquals(new int[]{10003, 10002, 10001}, ids(index.search("lim"))),
+            () -> assertArrayEquals(new int[]{10002}, ids(index.search("10002"))),
+            () -> assertArrayEquals(new int[]{10003, 10002, 10001}, ids(index.search("1000")))
+        );
+    }
+
+    @Test
+    @DisplayName("Should hand out one rebuild per interval and drop rebuilds that raced with a write")
+    void testRebuildInterval() {
+        EmployeeSearchIndex due = new EmployeeSearchIndex(0);
+        assertFalse(due.claimRebuild());
+        due.rebuild(Arrays.asList(employee(10001, "Garcia", "Manuel III", "Chief Executive Officer")));
+
+        long generation = due.generation();
+        due.put(employee(10002, "Lim", "Antonio", "Chief Operating Officer"));
+        boolean raced = due.rebuild(Arrays.asList(employee(10001, "Garcia", "Manuel III", "Chairman")), generation);
+
+        EmployeeSearchIndex notDue = new EmployeeSearchIndex(60_000);
+        notDue.rebuild(Arrays.asList(employee(10001, "Garcia", "Manuel III", "Chief Executive Officer")));
+
+        assertAll("Rebuilds",
+            () -> assertTrue(due.claimRebuild()),
+            () -> assertFalse(raced),
+            () -> assertEquals(2, due.size()),
+            () -> assertTrue(due.rebuild(Arrays.asList(employee(10003, "Aquino", "Bianca Sofia", "Chief Finance Officer")),
+                    due.generation())),
+            () -> assertArrayEquals(new int[]{10003}, ids(due.search("bianca"))),
+            () -> assertFalse(notDue.claimRebuild())
+        );
+    }
+
+    @Test
+    @DisplayName("Should follow inserts, updates and deletes")
+    void testUpdates() {
+        index.rebuild(Arrays.asList(employee(10001, "Garcia", "Manuel III", "Chief Executive Officer")));
+
+        index.put(employee(10002, "Lim", "Antonio", "Chief Operating Officer"));
+        index.put(employee(10001, "Garcia", "Manuel III", "Chairman"));
+        index.remove(10002);
+
+        assertAll("Updated index",
+            () -> assertEquals(1, index.size()),
+            () -> assertEquals(0, index.search("executive").size()),
+            () -> assertArrayEquals(new int[]{10001}, ids(index.search("chairman"))),
+            () -> assertEquals(0, index.search("antonio").size())
+        );
+    }
+}
@@ -0,0 +1,113 @@
+package test;
+
+import org.junit.jupiter.api.*;
+import static org.junit.jupiter.api.Assertions.*;
+import dao.LeaveIntervalIndex;
+import model.LeaveRequest;
+import java.sql.Date;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.IntFunction;
+
+@DisplayName("Leave Interval Index Tests")
+class LeaveIntervalIndexTest {
+
+    private List<LeaveRequest> stored;
+    private AtomicInteger loads;
+    private IntFunction<List<LeaveRequest>> loader;
+
+    private static LocalDate day(int month, int day) {
+        return LocalDate.of(2024, month, day);
+    }
+
+    private void leave(int leaveId, LocalDate start, LocalDate end, String status) {
+        LeaveRequest leave = new LeaveRequest(10001, Date.valueOf(start), Date.valueOf(end), "Unpaid");
+        leave.setLeaveId(leaveId);
+        leave.setStatus(status);
+        stored.add(leave);
+    }
+
+    private static int[] ids(List<LeaveRequest> leaves) {
+        return leaves.stream().mapToInt(LeaveRequest::getLeaveId).toArray();
+    }
+
+    @BeforeEach
+    void setUp() {
+        stored = new ArrayList<>();
+        loads = new AtomicInteger();
+        loader = id -> {
+            loads.incrementAndGet();
+            return new ArrayList<>(stored);
+        };
+
+        leave(1, day(5, 28), day(6, 3), LeaveRequest.STATUS_APPROVED);    // starts before June
+        leave(2, day(6, 10), day(6, 12), LeaveRequest.STATUS_APPROVED);
+        leave(3, day(6, 11), day(6, 11), LeaveRequest.STATUS_PENDING);
+        leave(4, day(6, 25), day(7, 5), LeaveRequest.STATUS_APPROVED);    // ends after June
+        leave(5, day(7, 15), day(7, 16), LeaveRequest.STATUS_APPROVED);
+        leave(6, day(1, 1), day(12, 31), LeaveRequest.STATUS_PENDING);    // long pending leave
+    }
+
+    @Test
+    @DisplayName("Should find leaves overlapping a range by start date descending")
+    void testRangeQuery() {
+        LeaveIntervalIndex index = new LeaveIntervalIndex(60_000);
+
+        List<LeaveRequest> june = index.findOverlapping(10001, day(6, 1), day(6, 30),
+                LeaveRequest.STATUS_APPROVED, null, loader);
+        List<LeaveRequest> pending = index.findOverlapping(10001, day(6, 11), day(6, 11),
+                LeaveRequest.STATUS_PENDING, null, loader);
+
+        assertAll("Overlaps",
+            () -> assertArrayEquals(new int[]{4, 2, 1}, ids(june)),
+            () -> assertArrayEquals(new int[]{3, 6}, ids(pending)),
+            () -> assertEquals(0, index.findOverlapping(10001, day(7, 6), day(7, 14),
+                    LeaveRequest.STATUS_APPROVED, null, loader).size()),
+            () -> assertEquals(1, loads.get())
+        );
+    }
+
+    @Test
+    @DisplayName("Should match ranges touching a leave on either end")
+    void testBoundaries() {
+        LeaveIntervalIndex index = new LeaveIntervalIndex(60_000);
+
+        assertArrayEquals(new int[]{2}, ids(index.findOverlapping(10001, day(6, 12), day(6, 20),
+                LeaveRequest.STATUS_APPROVED, null, loader)));
+        assertArrayEquals(new int[]{2}, ids(index.findOverlapping(10001, day(6, 5), day(6, 10),
+                LeaveRequest.STATUS_APPROVED, null, loader)));
+        assertArrayEquals(new int[]{4}, ids(index.findOverlapping(10001, day(6, 13), day(7, 1),
+                LeaveRequest.STATUS_APPROVED, 2, loader)));
+    }
+
+    @Test
+    @DisplayName("Should read an employee's leaves again after invalidation")
+    void testInvalidation() {
+        LeaveIntervalIndex index = new LeaveIntervalIndex(60_000);
+        index.findOverlapping(10001, day(8, 1), day(8, 31), LeaveRequest.STATUS_APPROVED, null, loader);
+
+        leave(7, day(8, 5), day(8, 6), LeaveRequest.STATUS_APPROVED);
+        index.invalidate(10001);
+        List<LeaveRequest> august = index.findOverlapping(10001, day(8, 1), day(8, 31),
+                LeaveRequest.STATUS_APPROVED, null, loader);
+
+        assertArrayEquals(new int[]{7}, ids(august));
+        assertEquals(2, loads.get());
+    }
+
+    @Test
+    @DisplayName("Should hand out new leave objects on every query")
+    void testCopies() {
+        LeaveIntervalIndex index = new LeaveIntervalIndex(60_000);
+        LeaveRequest first = index.findOverlapping(10001, day(6, 10), day(6, 10),
+                LeaveRequest.STATUS_APPROVED, null, loader).get(0);
+        first.setStatus(LeaveRequest.STATUS_REJECTED);
+
+        LeaveRequest second = index.findOverlapping(10001, day(6, 10), day(6, 10),
+                LeaveRequest.STATUS_APPROVED, null, loader).get(0);
+        assertNotSame(first, second);
+        assertEquals(LeaveRequest.STATUS_APPROVED, second.getStatus());
+    }
+}
@@ -0,0 +1,60 @@
+package test;
+
+import org.junit.jupiter.api.*;
+import static org.junit.jupiter.api.Assertions.*;
+import model.Money;
+import model.Payroll;
+import java.math.BigDecimal;
+import java.sql.Date;
+import java.time.LocalDate;
+
+@DisplayName("Money Tests")
+class MoneyTest {
+
+    @Test
+    @DisplayName("Should round half away from zero to the centavo")
+    void testRounding() {
+        assertAll("Rounding",
+            () -> assertEquals(101, Money.toCentavos(1.005)),
+            () -> assertEquals(-101, Money.toCentavos(-1.005)),
+            () -> assertEquals(100, Money.toCentavos(1.004)),
+            () -> assertEquals(123456789, Money.toCentavos(1234567.89)),
+            () -> assertEquals(0, Money.toCentavos(0.0049))
+        );
+    }
+
+    @Test
+    @DisplayName("Should convert to and from BigDecimal exactly")
+    void testBigDecimalConversion() {
+        assertEquals(new BigDecimal("1234.50"), Money.toBigDecimal(123450));
+        assertEquals(123450, Money.fromBigDecimal(new BigDecimal("1234.5")));
+        assertEquals(0, Money.fromBigDecimal(null));
+        assertEquals("0.30", Money.of(0.1).plus(Money.of(0.2)).toString());
+    }
+
+    @Test
+    @DisplayName("Should reject non-finite amounts")
+    void testNonFinite() {
+        assertThrows(ArithmeticException.class, () -> Money.toCentavos(Double.NaN));
+        assertThrows(ArithmeticException.class, () -> Money.toCentavos(Double.POSITIVE_INFINITY));
+    }
+
+    @Test
+    @DisplayName("Should total payroll components exactly")
+    void testPayrollTotals() {
+        Payroll payroll = new Payroll(10001, Date.valueOf(LocalDate.of(2024, 6, 1)), Date.valueOf(LocalDate.of(2024, 6, 30)));
+        payroll.setGrossEarnings(0.1);
+        payroll.setOvertimePay(0.2);
+        payroll.setSss(0.1);
+        payroll.setTax(0.2);
+
+        payroll.calculateNetPay();
+
+        assertAll("Exact totals",
+            () -> assertEquals(30, payroll.getGrossPayCentavos()),
+            () -> assertEquals(30, payroll.getTotalDeductionsCentavos()),
+            () -> assertEquals(0, payroll.getNetPayCentavos()),
+            () -> assertEquals(0.3, payroll.getGrossPay())
+        );
+    }
+}
@@ -0,0 +1,58 @@
+package test;
+
+import org.junit.jupiter.api.*;
+import static org.junit.jupiter.api.Assertions.*;
+import model.OvertimeTotals;
+
+@DisplayName("Overtime Totals Tests")
+class OvertimeTotalsTest {
+
+    @Test
+    @DisplayName("Should report 0 for employees without overtime")
+    void testMissingEmployee() {
+        OvertimeTotals totals = new OvertimeTotals();
+        totals.add(10001, 3.5, 2);
+
+        assertAll("Missing",
+            () -> assertEquals(0.0, totals.getHours(10002), 0.001),
+            () -> assertEquals(0, totals.getCount(10002)),
+            () -> assertFalse(totals.contains(10002)),
+            () -> assertTrue(totals.contains(10001)),
+            () -> assertEquals(1, totals.size())
+        );
+    }
+
+    @Test
+    @DisplayName("Should add up repeated employees")
+    void testAccumulate() {
+        OvertimeTotals totals = new OvertimeTotals();
+        totals.add(10001, 3.5, 2);
+        totals.add(10001, 1.25, 1);
+
+        assertEquals(4.75, totals.getHours(10001), 0.001);
+        assertEquals(3, totals.getCount(10001));
+        assertEquals(1, totals.size());
+    }
+
+    @Test
+    @DisplayName("Should keep every employee while growing")
+    void testGrow() {
+        OvertimeTotals totals = new OvertimeTotals(1);
+        for (int id = 10001; id <= 11000; id++) {
+            totals.add(id, id % 7, 1);
+        }
+
+        assertEquals(1000, totals.size());
+        for (int id = 10001; id <= 11000; id++) {
+            assertEquals(id % 7, totals.getHours(id), 0.001, "Employee " + id);
+        }
+    }
+
+    @Test
+    @DisplayName("Should reject non-positive employee IDs")
+    void testInvalidId() {
+        OvertimeTotals totals = new OvertimeTotals();
+        assertThrows(IllegalArgumentException.class, () -> totals.add(0, 1.0, 1));
+        assertFalse(totals.contains(0));
+    }
+}
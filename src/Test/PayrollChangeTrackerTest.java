@@ -0,0 +1,98 @@
+package test;
+
+import org.junit.jupiter.api.*;
+import static org.junit.jupiter.api.Assertions.*;
+import util.PayrollChangeTracker;
+import java.time.LocalDate;
+import java.util.Set;
+
+@DisplayName("Payroll Change Tracker Tests")
+class PayrollChangeTrackerTest {
+
+    private static final LocalDate JUNE_START = LocalDate.of(2024, 6, 1);
+    private static final LocalDate JUNE_END = LocalDate.of(2024, 6, 30);
+    private static final LocalDate JULY_START = LocalDate.of(2024, 7, 1);
+    private static final LocalDate JULY_END = LocalDate.of(2024, 7, 31);
+
+    private PayrollChangeTracker tracker;
+
+    @BeforeEach
+    void setUp() {
+        tracker = PayrollChangeTracker.getInstance();
+        tracker.reset();
+    }
+
+    @AfterEach
+    void tearDown() {
+        tracker.reset();
+    }
+
+    @Test
+    @DisplayName("Should report only the period containing the changed day")
+    void testSingleDayChange() {
+        tracker.markDirty(10001, LocalDate.of(2024, 6, 12));
+
+        assertAll("Dirty periods",
+            () -> assertTrue(tracker.isDirty(10001, JUNE_START, JUNE_END)),
+            () -> assertFalse(tracker.isDirty(10001, JULY_START, JULY_END)),
+            () -> assertFalse(tracker.isDirty(10002, JUNE_START, JUNE_END))
+        );
+    }
+
+    @Test
+    @DisplayName("Should clear drained period but keep changes outside it")
+    void testDrainKeepsOtherPeriods() {
+        tracker.markDirty(10001, LocalDate.of(2024, 6, 28), LocalDate.of(2024, 7, 3));
+
+        Set<Integer> drained = tracker.drainDirty(JUNE_START, JUNE_END);
+
+        assertAll("After drain",
+            () -> assertEquals(Set.of(10001), drained),
+            () -> assertFalse(tracker.isDirty(10001, JUNE_START, JUNE_END)),
+            () -> assertTrue(tracker.isDirty(10001, JULY_START, JULY_END))
+        );
+    }
+
+    @Test
+    @DisplayName("Should mark every period dirty after an employee change")
+    void testEmployeeChangeAffectsAllPeriods() {
+        tracker.markEmployeeDirty(10003);
+
+        assertEquals(Set.of(10003), tracker.drainDirty(JUNE_START, JUNE_END));
+        assertTrue(tracker.isDirty(10003, JULY_START, JULY_END));
+        assertTrue(tracker.isDirty(10003, LocalDate.of(2020, 1, 1), LocalDate.of(2020, 1, 31)));
+    }
+
+    @Test
+    @DisplayName("Should merge overlapping ranges")
+    void testOverlappingRangesMerge() {
+        tracker.markDirty(10001, LocalDate.of(2024, 6, 5), LocalDate.of(2024, 6, 10));
+        tracker.markDirty(10001, LocalDate.of(2024, 6, 8), LocalDate.of(2024, 6, 20));
+        tracker.markDirty(10001, LocalDate.of(2024, 6, 21));
+
+        tracker.drainDirty(LocalDate.of(2024, 6, 1), LocalDate.of(2024, 6, 21));
+
+        assertFalse(tracker.isDirty(10001, JUNE_START, JUNE_END));
+    }
+
+    @Test
+    @DisplayName("Should track baselined periods")
+    void testBaseline() {
+        assertFalse(tracker.isBaselined(JUNE_START, JUNE_END));
+
+        tracker.markBaselined(JUNE_START, JUNE_END);
+
+        assertTrue(tracker.isBaselined(JUNE_START, JUNE_END));
+        assertFalse(tracker.isBaselined(JULY_START, JULY_END));
+    }
+
+    @Test
+    @DisplayName("Should forget a baseline once it expires")
+    void testBaselineExpires() {
+        PayrollChangeTracker expiring = new PayrollChangeTracker(0);
+
+        expiring.markBaselined(JUNE_START, JUNE_END);
+
+        assertFalse(expiring.isBaselined(JUNE_START, JUNE_END));
+    }
+}
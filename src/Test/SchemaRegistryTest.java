@@ -0,0 +1,72 @@
+package test;
+
+import org.junit.jupiter.api.*;
+import static org.junit.jupiter.api.Assertions.*;
+import util.SchemaRegistry;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+@DisplayName("Schema Registry Tests")
+class SchemaRegistryTest {
+
+    private SchemaRegistry registry;
+
+    @BeforeEach
+    void setUp() {
+        Map<String, List<String>> columns = new HashMap<>();
+        columns.put("leave_request", Arrays.asList("leave_id", "employee_id", "leave_type", "start_date", "end_date", "status"));
+        columns.put("Employees", Arrays.asList("employee_id", "last_name", "first_name"));
+        registry = SchemaRegistry.fromColumns(columns);
+    }
+
+    @Test
+    @DisplayName("Should report tables and columns ignoring case")
+    void testPresence() {
+        assertAll("Presence",
+            () -> assertTrue(registry.hasTable("leave_request")),
+            () -> assertTrue(registry.hasTable("EMPLOYEES")),
+            () -> assertFalse(registry.hasTable("overtime")),
+            () -> assertTrue(registry.hasColumn("leave_request", "Status")),
+            () -> assertFalse(registry.hasColumn("leave_request", "reason")),
+            () -> assertFalse(registry.hasColumn("overtime", "hours"))
+        );
+    }
+
+    @Test
+    @DisplayName("Should give 1-based column ordinals")
+    void testOrdinals() {
+        assertAll("Ordinals",
+            () -> assertEquals(1, registry.columnOrdinal("leave_request", "leave_id")),
+            () -> assertEquals(6, registry.columnOrdinal("leave_request", "status")),
+            () -> assertEquals(-1, registry.columnOrdinal("leave_request", "reason")),
+            () -> assertEquals(Arrays.asList("employee_id", "last_name", "first_name"), registry.getColumns("employees"))
+        );
+    }
+
+    @Test
+    @DisplayName("Should list missing tables in the order asked")
+    void testMissingTables() {
+        assertEquals(Arrays.asList("payroll", "overtime"),
+                registry.missingTables("employees", "payroll", "leave_request", "overtime"));
+    }
+
+    @Test
+    @DisplayName("Should match unique keys on their exact columns in any order")
+    void testUniqueKeys() {
+        Map<String, List<String>> columns = new HashMap<>();
+        columns.put("attendance", Arrays.asList("id", "employee_id", "date", "log_in", "log_out"));
+        Map<String, List<List<String>>> keys = new HashMap<>();
+        keys.put("Attendance", Arrays.asList(Arrays.asList("id"), Arrays.asList("employee_id", "DATE")));
+        SchemaRegistry withKeys = SchemaRegistry.fromColumns(columns, keys);
+
+        assertAll("Unique keys",
+            () -> assertTrue(withKeys.hasUniqueKey("attendance", "date", "employee_id")),
+            () -> assertTrue(withKeys.hasUniqueKey("attendance", "id")),
+            () -> assertFalse(withKeys.hasUniqueKey("attendance", "employee_id")),
+            () -> assertFalse(withKeys.hasUniqueKey("employees", "employee_id")),
+            () -> assertFalse(SchemaRegistry.fromColumns(columns).hasUniqueKey("attendance", "employee_id", "date"))
+        );
+    }
+}
@@ -0,0 +1,190 @@
+package dao;
+
+import model.Attendance;
+import model.Employee;
+import model.EmployeeSummary;
+import model.LeaveRequest;
+import model.Overtime;
+import model.OvertimeTotals;
+import model.Payroll;
+import util.ConfigurationManager;
+
+import java.time.LocalDate;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Asynchronous access to the employee, attendance, payroll, leave and overtime
+ * DAOs for UI code. Each call runs on a shared virtual-thread executor and
+ * returns a {@link CompletableFuture}, so screens can start several fetches at
+ * once and continue on the event dispatch thread when they complete, e.g.
+ * {@code thenAcceptAsync(this::showRows, SwingUtilities::invokeLater)}.
+ *
+ * Calls time out after {@code dao.async.timeout.ms} unless a timeout is given.
+ * Cancelling a future, or letting it time out, interrupts the thread running
+ * the call; a query already sent to the database may still finish, but its
+ * result is discarded.
+ */
+public class AsyncDAO {
+    private static final ExecutorService EXECUTOR = Executors.newThreadPerTaskExecutor(
+            Thread.ofVirtual().name("motorph-dao-", 0).factory());
+
+    private final EmployeeDAO employeeDAO;
+    private final AttendanceDAO attendanceDAO;
+    private final PayrollDAO payrollDAO;
+    private final LeaveRequestDAO leaveDAO;
+    private final OvertimeDAO overtimeDAO;
+    private final long timeoutMillis;
+
+    public AsyncDAO() {
+        this(new EmployeeDAO(), new AttendanceDAO(), new PayrollDAO(), new LeaveRequestDAO(), new OvertimeDAO(),
+                ConfigurationManager.getInstance().getAsyncDaoTimeoutMillis());
+    }
+
+    /**
+     * @param timeoutMillis Deadline for each call, 0 for none
+     */
+    public AsyncDAO(EmployeeDAO employeeDAO, AttendanceDAO attendanceDAO, PayrollDAO payrollDAO,
+                    LeaveRequestDAO leaveDAO, OvertimeDAO overtimeDAO, long timeoutMillis) {
+        if (timeoutMillis < 0) {
+            throw new IllegalArgumentException("Timeout cannot be negative");
+        }
+        this.employeeDAO = employeeDAO;
+        this.attendanceDAO = attendanceDAO;
+        this.payrollDAO = payrollDAO;
+        this.leaveDAO = leaveDAO;
+        this.overtimeDAO = overtimeDAO;
+        this.timeoutMillis = timeoutMillis;
+    }
+
+    /**
+     * @return the shared executor the calls run on, for composing other blocking work
+     */
+    public static Executor executor() {
+        return EXECUTOR;
+    }
+
+    /**
+     * Runs a blocking task on the shared executor with the default timeout
+     */
+    public <T> CompletableFuture<T> supply(Callable<T> task) {
+        return supply(task, timeoutMillis);
+    }
+
+    /**
+     * Runs a blocking task on the shared executor
+     * @param task Task to run, typically one or more DAO calls
+     * @param timeoutMillis Deadline after which the future fails with a TimeoutException, 0 for none
+     * @return Future completed with the task's result or exception
+     */
+    public <T> CompletableFuture<T> supply(Callable<T> task, long timeoutMillis) {
+        if (task == null) {
+            throw new IllegalArgumentException("Task cannot be null");
+        }
+        if (timeoutMillis < 0) {
+            throw new IllegalArgumentException("Timeout cannot be negative");
+        }
+
+        CompletableFuture<T> result = new CompletableFuture<>();
+        Future<?> running = EXECUTOR.submit(() -> {
+            try {
+                result.complete(task.call());
+            } catch (Throwable t) {
+                result.completeExceptionally(t);
+            }
+        });
+        // Cancellation and timeouts complete the result early; stop the task as well
+        result.whenComplete((value, failure) -> {
+            if (failure != null) {
+                running.cancel(true);
+            }
+        });
+        return timeoutMillis > 0 ? result.orTimeout(timeoutMillis, TimeUnit.MILLISECONDS) : result;
+    }
+
+    // Employees
+
+    public CompletableFuture<Employee> getEmployeeById(int employeeId) {
+        return supply(() -> employeeDAO.getEmployeeById(employeeId));
+    }
+
+    public CompletableFuture<List<Employee>> getAllEmployees() {
+        return supply(employeeDAO::getAllEmployees);
+    }
+
+    public CompletableFuture<List<EmployeeSummary>> getEmployeeSummaries() {
+        return supply(employeeDAO::getEmployeeSummaries);
+    }
+
+    public CompletableFuture<List<EmployeeSummary>> searchEmployeeSummaries(String searchTerm) {
+        return supply(() -> employeeDAO.searchEmployeeSummaries(searchTerm));
+    }
+
+    // Attendance
+
+    public CompletableFuture<List<Attendance>> getAttendanceByEmployeeIdBetweenDates(int employeeId,
+                                                                                   LocalDate periodStart,
+                                                                                   LocalDate periodEnd) {
+        return supply(() -> attendanceDAO.getAttendanceByEmployeeIdBetweenDates(employeeId, periodStart, periodEnd));
+    }
+
+    /**
+     * @param employeeIds Employees to include, or null for all employees
+     */
+    public CompletableFuture<Map<Integer, List<Attendance>>> getAttendanceByEmployeesBetweenDates(
+            Collection<Integer> employeeIds, LocalDate periodStart, LocalDate periodEnd) {
+        return supply(() -> attendanceDAO.getAttendanceByEmployeesBetweenDates(employeeIds, periodStart, periodEnd));
+    }
+
+    // Payroll
+
+    public CompletableFuture<List<Payroll>> getPayrollByEmployeeId(int employeeId) {
+        return supply(() -> payrollDAO.getPayrollByEmployeeId(employeeId));
+    }
+
+    public CompletableFuture<List<Payroll>> getPayrollsForPeriod(LocalDate periodStart, LocalDate periodEnd) {
+        return supply(() -> payrollDAO.getPayrollsForPeriod(periodStart, periodEnd));
+    }
+
+    // Leave
+
+    public CompletableFuture<List<LeaveRequest>> getLeaveRequestsByEmployeeId(int employeeId) {
+        return supply(() -> leaveDAO.getLeaveRequestsByEmployeeId(employeeId));
+    }
+
+    public CompletableFuture<List<LeaveRequest>> getLeaveRequestsByStatus(String status) {
+        return supply(() -> leaveDAO.getLeaveRequestsByStatus(status));
+    }
+
+    /**
+     * @param employeeIds Employees to include, or null for all employees
+     */
+    public CompletableFuture<Map<Integer, List<LeaveRequest>>> getApprovedLeavesByEmployeesAndDateRange(
+            Collection<Integer> employeeIds, LocalDate periodStart, LocalDate periodEnd) {
+        return supply(() -> leaveDAO.getApprovedLeavesByEmployeesAndDateRange(employeeIds, periodStart, periodEnd));
+    }
+
+    // Overtime
+
+    public CompletableFuture<List<Overtime>> getOvertimeByEmployeeIdAndDateRange(int employeeId,
+                                                                               LocalDate periodStart,
+                                                                               LocalDate periodEnd) {
+        return supply(() -> overtimeDAO.getOvertimeByEmployeeIdAndDateRange(employeeId, periodStart, periodEnd));
+    }
+
+    /**
+     * @param employeeIds Employees to include, or null for all employees
+     */
+    public CompletableFuture<OvertimeTotals> getApprovedOvertimeTotals(Collection<Integer> employeeIds,
+                                                                       LocalDate periodStart, LocalDate periodEnd) {
+        return supply(() -> overtimeDAO.getApprovedOvertimeTotals(employeeIds, periodStart, periodEnd));
+    }
+}
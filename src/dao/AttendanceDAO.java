@@ -1,11 +1,14 @@
 package dao;
 
 import util.DBConnection;
+import util.PayrollChangeTracker;
+import util.SchemaRegistry;
 import model.Attendance;
 import java.sql.*;
 import java.time.LocalDate;
 import java.time.LocalTime;
 import java.util.*;
+import java.util.stream.Stream;
 import java.util.logging.Logger;
 import java.util.logging.Level;
 
@@ -25,8 +28,9 @@ public class AttendanceDAO {
 
             stmt.setInt(1, empId);
             try (ResultSet rs = stmt.executeQuery()) {
+                RowMapper<Attendance> mapper = ATTENDANCE_MAPPER.bind(rs);
                 while (rs.next()) {
-                    Attendance a = mapResultSetToAttendance(rs);
+                    Attendance a = mapper.map(rs);
                     list.add(a);
                 }
             }
@@ -40,6 +44,102 @@ public class AttendanceDAO {
     }
 
 
+    /**
+     * Streams an employee's full attendance history without loading it into memory.
+     * The stream holds a database connection and must be closed, e.g. with try-with-resources.
+     * @param empId Employee ID
+     * @return Attendance records by date descending
+     */
+    public Stream<Attendance> streamAttendanceByEmployeeId(int empId) {
+        if (empId <= 0) {
+            throw new IllegalArgumentException("Employee ID must be positive");
+        }
+        return ResultSetStream.of("SELECT * FROM attendance WHERE employee_id = ? ORDER BY date DESC",
+                stmt -> stmt.setInt(1, empId), ATTENDANCE_MAPPER);
+    }
+
+    /**
+     * Streams the attendance of all employees within a period without loading it into memory.
+     * The stream holds a database connection and must be closed, e.g. with try-with-resources.
+     * @param periodStart Start date (inclusive)
+     * @param periodEnd End date (inclusive)
+     * @return Attendance records ordered by employee ID, then date
+     */
+    public Stream<Attendance> streamAttendanceBetweenDates(LocalDate periodStart, LocalDate periodEnd) {
+        if (periodStart == null || periodEnd == null) {
+            throw new IllegalArgumentException("Period start and end dates cannot be null");
+        }
+        if (periodStart.isAfter(periodEnd)) {
+            throw new IllegalArgumentException("Period start date cannot be after end date");
+        }
+        return ResultSetStream.of(
+                "SELECT * FROM attendance WHERE date >= ? AND date <= ? ORDER BY employee_id, date",
+                stmt -> {
+                    stmt.setDate(1, java.sql.Date.valueOf(periodStart));
+                    stmt.setDate(2, java.sql.Date.valueOf(periodEnd));
+                },
+                ATTENDANCE_MAPPER);
+    }
+
+
+    /**
+     * Retrieves one page of attendance ordered by date descending, then ID.
+     * Pages are keyed on the last row already shown rather than an offset,
+     * so each page is an index range scan however deep the user scrolls.
+     * @param employeeId Employee ID, or 0 for all employees
+     * @param lastSeen Last record of the previous page (only date and ID are read), or null for the first page
+     * @param limit Maximum number of records to return
+     * @return Attendance records following lastSeen
+     */
+    public List<Attendance> getAttendancePage(int employeeId, Attendance lastSeen, int limit) {
+        if (employeeId < 0) {
+            throw new IllegalArgumentException("Employee ID cannot be negative");
+        }
+        if (limit <= 0) {
+            throw new IllegalArgumentException("Page size must be positive");
+        }
+
+        StringBuilder query = new StringBuilder("SELECT * FROM attendance WHERE 1 = 1");
+        if (employeeId > 0) {
+            query.append(" AND employee_id = ?");
+        }
+        if (lastSeen != null) {
+            query.append(" AND (date < ? OR (date = ? AND id > ?))");
+        }
+        query.append(" ORDER BY date DESC, id LIMIT ?");
+
+        List<Attendance> list = new ArrayList<>(limit);
+
+        try (Connection conn = DBConnection.getConnection();
+             PreparedStatement stmt = conn.prepareStatement(query.toString())) {
+
+            int index = 1;
+            if (employeeId > 0) {
+                stmt.setInt(index++, employeeId);
+            }
+            if (lastSeen != null) {
+                stmt.setDate(index++, lastSeen.getDate());
+                stmt.setDate(index++, lastSeen.getDate());
+                stmt.setInt(index++, lastSeen.getId());
+            }
+            stmt.setInt(index, limit);
+
+            try (ResultSet rs = stmt.executeQuery()) {
+                RowMapper<Attendance> mapper = ATTENDANCE_MAPPER.bind(rs);
+                while (rs.next()) {
+                    list.add(mapper.map(rs));
+                }
+            }
+
+        } catch (SQLException ex) {
+            logger.log(Level.SEVERE, "Error retrieving attendance page for employee ID: " + employeeId, ex);
+            throw new RuntimeException("Failed to retrieve attendance records", ex);
+        }
+
+        return list;
+    }
+
+
     public List<Attendance> getAttendanceByEmployeeIdBetweenDates(int employeeId, LocalDate periodStart, LocalDate periodEnd) {
         if (employeeId <= 0) {
             throw new IllegalArgumentException("Employee ID must be positive");
@@ -62,8 +162,9 @@ public class AttendanceDAO {
             stmt.setDate(3, java.sql.Date.valueOf(periodEnd));
 
             try (ResultSet rs = stmt.executeQuery()) {
+                RowMapper<Attendance> mapper = ATTENDANCE_MAPPER.bind(rs);
                 while (rs.next()) {
-                    Attendance a = mapResultSetToAttendance(rs);
+                    Attendance a = mapper.map(rs);
                     list.add(a);
                 }
             }
@@ -78,33 +179,95 @@ public class AttendanceDAO {
     }
 
 
-    public int insertAttendance(Attendance attendance) {
+    /**
+     * Retrieves attendance for several employees within a period in one query,
+     * grouped by employee while the result set is read.
+     * @param employeeIds Employees to include, or null for all employees
+     * @param periodStart Start date (inclusive)
+     * @param periodEnd End date (inclusive)
+     * @return Records by employee ID in ascending ID order, each list by date descending;
+     *         employees without attendance are absent
+     */
+    public Map<Integer, List<Attendance>> getAttendanceByEmployeesBetweenDates(Collection<Integer> employeeIds,
+                                                                               LocalDate periodStart, LocalDate periodEnd) {
+        if (periodStart == null || periodEnd == null) {
+            throw new IllegalArgumentException("Period start and end dates cannot be null");
+        }
+        if (periodStart.isAfter(periodEnd)) {
+            throw new IllegalArgumentException("Period start date cannot be after end date");
+        }
+
+        Map<Integer, List<Attendance>> grouped = new LinkedHashMap<>();
+        if (employeeIds != null && employeeIds.isEmpty()) {
+            return grouped;
+        }
+
+        String query = "SELECT * FROM attendance WHERE date >= ? AND date <= ?" +
+                EmployeeIdFilter.clause(employeeIds) + " ORDER BY employee_id, date DESC";
+
+        try (Connection conn = DBConnection.getConnection();
+             PreparedStatement stmt = conn.prepareStatement(query)) {
+
+            stmt.setDate(1, java.sql.Date.valueOf(periodStart));
+            stmt.setDate(2, java.sql.Date.valueOf(periodEnd));
+            EmployeeIdFilter.bind(stmt, 3, employeeIds);
+
+            try (ResultSet rs = stmt.executeQuery()) {
+                List<Attendance> current = null;
+                int currentEmployeeId = 0;
+                RowMapper<Attendance> mapper = ATTENDANCE_MAPPER.bind(rs);
+                while (rs.next()) {
+                    Attendance a = mapper.map(rs);
+                    if (current == null || a.getEmployeeId() != currentEmployeeId) {
+                        currentEmployeeId = a.getEmployeeId();
+                        current = new ArrayList<>();
+                        grouped.put(currentEmployeeId, current);
+                    }
+                    current.add(a);
+                }
+            }
+
+        } catch (SQLException ex) {
+            logger.log(Level.SEVERE, "Error retrieving attendance by employee between dates: " + periodStart + " and " + periodEnd, ex);
+            throw new RuntimeException("Failed to retrieve attendance records", ex);
+        }
+
+        return grouped;
+    }
+
+
+    /**
+     * Checks an attendance record against the rules enforced on insert
+     * @param attendance Attendance to check
+     * @param today Date the record is checked against
+     * @return Message for the first rule broken, or null if the record is valid
+     */
+    public static String validateAttendance(Attendance attendance, LocalDate today) {
         // ENHANCED: Comprehensive input validation
         if (attendance == null) {
-            throw new IllegalArgumentException("Attendance cannot be null");
+            return "Attendance cannot be null";
         }
         if (attendance.getEmployeeId() <= 0) {
-            throw new IllegalArgumentException("Employee ID must be positive, got: " + attendance.getEmployeeId());
+            return "Employee ID must be positive, got: " + attendance.getEmployeeId();
         }
         if (attendance.getDate() == null) {
-            throw new IllegalArgumentException("Date cannot be null");
+            return "Date cannot be null";
         }
         if (attendance.getLogIn() == null) {
-            throw new IllegalArgumentException("Log in time cannot be null");
+            return "Log in time cannot be null";
         }
 
         // ENHANCED: Validate date is not in the future
-        LocalDate today = LocalDate.now();
         LocalDate attendanceDate = attendance.getDate().toLocalDate();
         if (attendanceDate.isAfter(today)) {
-            throw new IllegalArgumentException("Attendance date cannot be in the future: " + attendanceDate);
+            return "Attendance date cannot be in the future: " + attendanceDate;
         }
 
         // ENHANCED: Validate date is not too far in the past (optional business rule)
         LocalDate maxPastDate = today.minusDays(30); // Allow up to 30 days past
         if (attendanceDate.isBefore(maxPastDate)) {
-            throw new IllegalArgumentException("Attendance date is too far in the past: " + attendanceDate +
-                    ". Maximum allowed past date is: " + maxPastDate);
+            return "Attendance date is too far in the past: " + attendanceDate +
+                    ". Maximum allowed past date is: " + maxPastDate;
         }
 
         // ENHANCED: Validate log times
@@ -113,59 +276,43 @@ public class AttendanceDAO {
             LocalTime logOut = attendance.getLogOut().toLocalTime();
 
             if (logOut.isBefore(logIn)) {
-                throw new IllegalArgumentException("Log out time (" + logOut +
-                        ") cannot be before log in time (" + logIn + ")");
+                return "Log out time (" + logOut + ") cannot be before log in time (" + logIn + ")";
             }
 
             // Check for reasonable working hours (24 hours max)
             long workingMinutes = java.time.Duration.between(logIn, logOut).toMinutes();
             if (workingMinutes > 24 * 60) { // More than 24 hours
-                throw new IllegalArgumentException("Working hours cannot exceed 24 hours. " +
-                        "Log in: " + logIn + ", Log out: " + logOut);
+                return "Working hours cannot exceed 24 hours. " +
+                        "Log in: " + logIn + ", Log out: " + logOut;
             }
         }
+        return null;
+    }
 
-        // ENHANCED: Check if employee exists
-        try (Connection conn = DBConnection.getConnection();
-             PreparedStatement checkStmt = conn.prepareStatement("SELECT 1 FROM employees WHERE employee_id = ?")) {
 
-            checkStmt.setInt(1, attendance.getEmployeeId());
-            try (ResultSet rs = checkStmt.executeQuery()) {
-                if (!rs.next()) {
-                    throw new IllegalArgumentException("Employee ID " + attendance.getEmployeeId() +
-                            " does not exist in the system. Please verify the employee ID.");
-                }
-            }
-        } catch (SQLException e) {
-            logger.log(Level.SEVERE, "Error validating employee existence for ID: " + attendance.getEmployeeId(), e);
-            throw new RuntimeException("Error validating employee: " + e.getMessage(), e);
+    public int insertAttendance(Attendance attendance) {
+        String validationError = validateAttendance(attendance, LocalDate.now());
+        if (validationError != null) {
+            throw new IllegalArgumentException(validationError);
         }
+        LocalDate attendanceDate = attendance.getDate().toLocalDate();
 
-        // ENHANCED: Check for duplicate attendance on the same date
-        try (Connection conn = DBConnection.getConnection();
-             PreparedStatement duplicateStmt = conn.prepareStatement(
-                     "SELECT id FROM attendance WHERE employee_id = ? AND date = ?")) {
+        // The employee foreign key and unique_attendance_employee_date reject unknown
+        // employees and duplicate days, so the insert is the only round trip.
+        // Databases created before the unique key still need the duplicate check.
+        String query = "INSERT INTO attendance (employee_id, date, log_in, log_out) VALUES (?, ?, ?, ?)";
 
-            duplicateStmt.setInt(1, attendance.getEmployeeId());
-            duplicateStmt.setDate(2, attendance.getDate());
+        try (Connection conn = DBConnection.getConnection();
+             PreparedStatement stmt = conn.prepareStatement(query, Statement.RETURN_GENERATED_KEYS)) {
 
-            try (ResultSet rs = duplicateStmt.executeQuery()) {
-                if (rs.next()) {
+            if (!hasUniqueAttendanceKey()) {
+                int existingId = findAttendanceId(conn, attendance.getEmployeeId(), attendance.getDate());
+                if (existingId > 0) {
                     throw new IllegalArgumentException("Attendance record already exists for employee " +
                             attendance.getEmployeeId() + " on date " + attendance.getDate() +
-                            ". Existing record ID: " + rs.getInt("id"));
+                            ". Existing record ID: " + existingId);
                 }
             }
-        } catch (SQLException e) {
-            logger.log(Level.SEVERE, "Error checking for duplicate attendance", e);
-            throw new RuntimeException("Error checking duplicate attendance: " + e.getMessage(), e);
-        }
-
-        // ENHANCED: Insert attendance record with detailed logging
-        String query = "INSERT INTO attendance (employee_id, date, log_in, log_out) VALUES (?, ?, ?, ?)";
-
-        try (Connection conn = DBConnection.getConnection();
-             PreparedStatement stmt = conn.prepareStatement(query, Statement.RETURN_GENERATED_KEYS)) {
 
             stmt.setInt(1, attendance.getEmployeeId());
             stmt.setDate(2, attendance.getDate());
@@ -176,15 +323,17 @@ public class AttendanceDAO {
                     attendance.getEmployeeId(), attendance.getDate(),
                     attendance.getLogIn(), attendance.getLogOut()));
 
-            int affectedRows = stmt.executeUpdate();
-            if (affectedRows == 0) {
-                throw new SQLException("Creating attendance failed, no rows affected.");
+            try {
+                stmt.executeUpdate();
+            } catch (SQLIntegrityConstraintViolationException ex) {
+                throw toAttendanceConstraintError(conn, attendance, ex);
             }
 
             try (ResultSet generatedKeys = stmt.getGeneratedKeys()) {
                 if (generatedKeys.next()) {
                     int generatedId = generatedKeys.getInt(1);
                     attendance.setId(generatedId);
+                    PayrollChangeTracker.getInstance().markDirty(attendance.getEmployeeId(), attendanceDate);
 
                     logger.info(String.format("Successfully inserted attendance record with ID: %d for employee %d",
                             generatedId, attendance.getEmployeeId()));
@@ -201,11 +350,7 @@ public class AttendanceDAO {
             // ENHANCED: Provide specific error messages based on SQL error types
             String errorMessage = "Failed to insert attendance record";
 
-            if (ex.getMessage().contains("Duplicate entry")) {
-                errorMessage = "Duplicate attendance record. An attendance record already exists for this employee on this date.";
-            } else if (ex.getMessage().contains("foreign key constraint")) {
-                errorMessage = "Invalid employee ID. The specified employee does not exist in the system.";
-            } else if (ex.getMessage().contains("Data too long")) {
+            if (ex.getMessage().contains("Data too long")) {
                 errorMessage = "Attendance data is invalid. Please check your input values.";
             } else if (ex.getMessage().contains("Incorrect time")) {
                 errorMessage = "Invalid time format. Please check your log in and log out times.";
@@ -219,6 +364,171 @@ public class AttendanceDAO {
         }
     }
 
+    /**
+     * Translates a rejected attendance insert into the message users see for a
+     * missing employee or a second record on the same day. Only runs on the
+     * failure path, so the duplicate's ID lookup costs nothing on a normal clock-in.
+     */
+    private IllegalArgumentException toAttendanceConstraintError(Connection conn, Attendance attendance,
+                                                                 SQLIntegrityConstraintViolationException ex) {
+        switch (ex.getErrorCode()) {
+            case 1452: // Cannot add or update a child row: foreign key constraint fails
+                return new IllegalArgumentException("Employee ID " + attendance.getEmployeeId() +
+                        " does not exist in the system. Please verify the employee ID.", ex);
+            case 1062: // Duplicate entry
+                String existing = "";
+                try {
+                    int existingId = findAttendanceId(conn, attendance.getEmployeeId(), attendance.getDate());
+                    if (existingId > 0) {
+                        existing = ". Existing record ID: " + existingId;
+                    }
+                } catch (SQLException lookupEx) {
+                    logger.log(Level.FINE, "Could not look up existing attendance record", lookupEx);
+                }
+                return new IllegalArgumentException("Attendance record already exists for employee " +
+                        attendance.getEmployeeId() + " on date " + attendance.getDate() + existing, ex);
+            default:
+                return new IllegalArgumentException("Attendance record violates a database constraint: " +
+                        ex.getMessage(), ex);
+        }
+    }
+
+    /**
+     * @return ID of the employee's attendance record on the date, or -1 if there is none
+     */
+    private int findAttendanceId(Connection conn, int employeeId, java.sql.Date date) throws SQLException {
+        try (PreparedStatement stmt = conn.prepareStatement(
+                "SELECT id FROM attendance WHERE employee_id = ? AND date = ?")) {
+            stmt.setInt(1, employeeId);
+            stmt.setDate(2, date);
+            try (ResultSet rs = stmt.executeQuery()) {
+                return rs.next() ? rs.getInt("id") : -1;
+            }
+        }
+    }
+
+    // Created by aoopdatabase_payroll.sql; older databases can hold several records per day
+    private boolean hasUniqueAttendanceKey() {
+        return SchemaRegistry.getInstance().hasUniqueKey("attendance", "employee_id", "date");
+    }
+
+
+    /**
+     * Inserts a chunk of already validated attendance records in one transaction.
+     * Records repeated within the chunk are rejected up front; the rest go out as
+     * a JDBC batch. If the batch is refused (e.g. a day that is already stored or
+     * an unknown employee), the chunk is retried row by row in the same
+     * transaction so only the offending records are rejected, relying on the
+     * unique (employee_id, date) key to catch duplicates. Without that key, days
+     * already stored for the chunk's employees are read up front instead.
+     * @param chunk Attendance records to insert
+     * @return Rejection message by index into the chunk; empty if all were inserted
+     */
+    public Map<Integer, String> insertAttendanceBatch(List<Attendance> chunk) {
+        Map<Integer, String> rejected = new HashMap<>();
+        if (chunk == null || chunk.isEmpty()) {
+            return rejected;
+        }
+
+        String insertSql = "INSERT INTO attendance (employee_id, date, log_in, log_out) VALUES (?, ?, ?, ?)";
+
+        try (Connection conn = DBConnection.getConnection()) {
+            conn.setAutoCommit(false);
+            try {
+                Set<Long> taken = hasUniqueAttendanceKey() ? new HashSet<>() : getAttendanceKeys(conn, chunk);
+                List<Integer> pending = new ArrayList<>(chunk.size());
+                for (int i = 0; i < chunk.size(); i++) {
+                    Attendance attendance = chunk.get(i);
+                    if (!taken.add(attendanceKey(attendance.getEmployeeId(), attendance.getDate().toLocalDate()))) {
+                        rejected.put(i, "Attendance record already exists for employee " +
+                                attendance.getEmployeeId() + " on date " + attendance.getDate());
+                    } else {
+                        pending.add(i);
+                    }
+                }
+
+                try (PreparedStatement stmt = conn.prepareStatement(insertSql)) {
+                    try {
+                        for (int i : pending) {
+                            setInsertParameters(stmt, chunk.get(i));
+                            stmt.addBatch();
+                        }
+                        stmt.executeBatch();
+                    } catch (BatchUpdateException ex) {
+                        logger.log(Level.FINE, "Attendance batch refused, retrying row by row", ex);
+                        conn.rollback();
+                        stmt.clearBatch();
+                        for (int i : pending) {
+                            setInsertParameters(stmt, chunk.get(i));
+                            try {
+                                stmt.executeUpdate();
+                            } catch (SQLIntegrityConstraintViolationException rowEx) {
+                                rejected.put(i, toAttendanceConstraintError(conn, chunk.get(i), rowEx).getMessage());
+                            }
+                        }
+                    }
+                }
+                conn.commit();
+            } catch (SQLException | RuntimeException ex) {
+                conn.rollback();
+                throw ex;
+            }
+        } catch (SQLException ex) {
+            logger.log(Level.SEVERE, "Error inserting attendance batch", ex);
+            throw new RuntimeException("Failed to insert attendance records", ex);
+        }
+
+        PayrollChangeTracker tracker = PayrollChangeTracker.getInstance();
+        for (int i = 0; i < chunk.size(); i++) {
+            if (!rejected.containsKey(i)) {
+                Attendance attendance = chunk.get(i);
+                tracker.markDirty(attendance.getEmployeeId(), attendance.getDate().toLocalDate());
+            }
+        }
+        return rejected;
+    }
+
+    /**
+     * @return Keys of the attendance already stored for the chunk's employees and date range
+     */
+    private Set<Long> getAttendanceKeys(Connection conn, List<Attendance> chunk) throws SQLException {
+        LocalDate from = LocalDate.MAX;
+        LocalDate to = LocalDate.MIN;
+        Set<Integer> employeeIds = new HashSet<>();
+        for (Attendance attendance : chunk) {
+            LocalDate date = attendance.getDate().toLocalDate();
+            if (date.isBefore(from)) from = date;
+            if (date.isAfter(to)) to = date;
+            employeeIds.add(attendance.getEmployeeId());
+        }
+
+        Set<Long> keys = new HashSet<>();
+        try (PreparedStatement stmt = conn.prepareStatement(
+                "SELECT employee_id, date FROM attendance WHERE date >= ? AND date <= ?" +
+                EmployeeIdFilter.clause(employeeIds))) {
+            stmt.setDate(1, java.sql.Date.valueOf(from));
+            stmt.setDate(2, java.sql.Date.valueOf(to));
+            EmployeeIdFilter.bind(stmt, 3, employeeIds);
+            try (ResultSet rs = stmt.executeQuery()) {
+                while (rs.next()) {
+                    keys.add(attendanceKey(rs.getInt(1), rs.getDate(2).toLocalDate()));
+                }
+            }
+        }
+        return keys;
+    }
+
+    private static long attendanceKey(int employeeId, LocalDate date) {
+        return ((long) employeeId << 32) | (date.toEpochDay() & 0xFFFFFFFFL);
+    }
+
+    private void setInsertParameters(PreparedStatement stmt, Attendance attendance) throws SQLException {
+        stmt.setInt(1, attendance.getEmployeeId());
+        stmt.setDate(2, attendance.getDate());
+        stmt.setTime(3, attendance.getLogIn());
+        stmt.setTime(4, attendance.getLogOut());
+    }
+
 
     public boolean updateAttendance(Attendance attendance) {
         if (attendance == null) {
@@ -233,6 +543,9 @@ public class AttendanceDAO {
         try (Connection conn = DBConnection.getConnection();
              PreparedStatement stmt = conn.prepareStatement(query)) {
 
+            // The row may move to another employee or date, so both sides become dirty
+            Attendance stored = getStoredKey(conn, attendance.getId());
+
             stmt.setInt(1, attendance.getEmployeeId());
             stmt.setDate(2, attendance.getDate());
             stmt.setTime(3, attendance.getLogIn());
@@ -240,6 +553,10 @@ public class AttendanceDAO {
             stmt.setInt(5, attendance.getId());
 
             int affectedRows = stmt.executeUpdate();
+            if (affectedRows > 0) {
+                markDirty(stored);
+                markDirty(attendance);
+            }
             return affectedRows > 0;
 
         } catch (SQLException ex) {
@@ -258,8 +575,13 @@ public class AttendanceDAO {
         try (Connection conn = DBConnection.getConnection();
              PreparedStatement stmt = conn.prepareStatement(query)) {
 
+            Attendance stored = getStoredKey(conn, attendanceId);
+
             stmt.setInt(1, attendanceId);
             int affectedRows = stmt.executeUpdate();
+            if (affectedRows > 0) {
+                markDirty(stored);
+            }
             return affectedRows > 0;
 
         } catch (SQLException ex) {
@@ -268,6 +590,34 @@ public class AttendanceDAO {
         }
     }
 
+    /**
+     * Reads the employee and date currently stored for an attendance row, before a write changes them
+     * @return Attendance with only the employee and date set, or null if the row does not exist
+     */
+    private Attendance getStoredKey(Connection conn, int attendanceId) throws SQLException {
+        try (PreparedStatement stmt = conn.prepareStatement("SELECT employee_id, date FROM attendance WHERE id = ?")) {
+            stmt.setInt(1, attendanceId);
+            try (ResultSet rs = stmt.executeQuery()) {
+                if (rs.next()) {
+                    Attendance stored = new Attendance();
+                    stored.setEmployeeId(rs.getInt("employee_id"));
+                    stored.setDate(rs.getDate("date"));
+                    return stored;
+                }
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Marks the payroll of an attendance row's employee and date as stale
+     */
+    private static void markDirty(Attendance attendance) {
+        if (attendance != null && attendance.getDate() != null) {
+            PayrollChangeTracker.getInstance().markDirty(attendance.getEmployeeId(), attendance.getDate().toLocalDate());
+        }
+    }
+
     public Attendance getAttendanceById(int attendanceId) {
         if (attendanceId <= 0) {
             throw new IllegalArgumentException("Attendance ID must be positive");
@@ -281,7 +631,7 @@ public class AttendanceDAO {
             stmt.setInt(1, attendanceId);
             try (ResultSet rs = stmt.executeQuery()) {
                 if (rs.next()) {
-                    return mapResultSetToAttendance(rs);
+                    return ATTENDANCE_MAPPER.mapRow(rs);
                 }
             }
 
@@ -378,7 +728,7 @@ public class AttendanceDAO {
 
             try (ResultSet rs = stmt.executeQuery()) {
                 if (rs.next()) {
-                    return mapResultSetToAttendance(rs);
+                    return ATTENDANCE_MAPPER.mapRow(rs);
                 }
             }
 
@@ -391,13 +741,12 @@ public class AttendanceDAO {
     }
 
 
-    private Attendance mapResultSetToAttendance(ResultSet rs) throws SQLException {
-        Attendance attendance = new Attendance();
-        attendance.setId(rs.getInt("id")); // Using 'id' from database instead of 'attendance_id'
-        attendance.setEmployeeId(rs.getInt("employee_id"));
-        attendance.setDate(rs.getDate("date"));
-        attendance.setLogIn(rs.getTime("log_in")); // Using 'log_in' from database instead of 'login_time'
-        attendance.setLogOut(rs.getTime("log_out")); // Using 'log_out' from database instead of 'logout_time'
-        return attendance;
-    }
+    // Columns are 'id', 'log_in' and 'log_out' in the database, not 'attendance_id', 'login_time' and 'logout_time'
+    private static final OrdinalRowMapper<Attendance> ATTENDANCE_MAPPER = OrdinalRowMapper.builder(Attendance::new)
+            .intColumn("id", Attendance::setId)
+            .intColumn("employee_id", Attendance::setEmployeeId)
+            .column("date", ResultSet::getDate, Attendance::setDate)
+            .column("log_in", ResultSet::getTime, Attendance::setLogIn)
+            .column("log_out", ResultSet::getTime, Attendance::setLogOut)
+            .build();
 }
\ No newline at end of file
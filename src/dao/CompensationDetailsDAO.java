@@ -20,7 +20,7 @@ public class CompensationDetailsDAO {
             ResultSet rs = stmt.executeQuery();
 
             if (rs.next()) {
-                return mapResultSetToCompensationDetails(rs);
+                return COMPENSATION_MAPPER.mapRow(rs);
             }
 
         } catch (SQLException ex) {
@@ -41,7 +41,7 @@ public class CompensationDetailsDAO {
             ResultSet rs = stmt.executeQuery();
 
             if (rs.next()) {
-                return mapResultSetToCompensationDetails(rs);
+                return COMPENSATION_MAPPER.mapRow(rs);
             }
 
         } catch (SQLException ex) {
@@ -116,13 +116,12 @@ public class CompensationDetailsDAO {
         }
     }
 
-    private CompensationDetails mapResultSetToCompensationDetails(ResultSet rs) throws SQLException {
-        CompensationDetails c = new CompensationDetails();
-        c.setCompId(rs.getInt("compensation_details_id"));
-        c.setEmployeeId(rs.getInt("employee_id"));
-        c.setRiceSubsidy(rs.getDouble("rice_subsidy"));
-        c.setPhoneAllowance(rs.getDouble("phone_allowance"));
-        c.setClothingAllowance(rs.getDouble("clothing_allowance"));
-        return c;
-    }
+    private static final OrdinalRowMapper<CompensationDetails> COMPENSATION_MAPPER =
+            OrdinalRowMapper.builder(CompensationDetails::new)
+                    .intColumn("compensation_details_id", CompensationDetails::setCompId)
+                    .intColumn("employee_id", CompensationDetails::setEmployeeId)
+                    .doubleColumn("rice_subsidy", CompensationDetails::setRiceSubsidy)
+                    .doubleColumn("phone_allowance", CompensationDetails::setPhoneAllowance)
+                    .doubleColumn("clothing_allowance", CompensationDetails::setClothingAllowance)
+                    .build();
 }
\ No newline at end of file
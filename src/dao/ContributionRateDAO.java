@@ -0,0 +1,58 @@
+package dao;
+
+import util.DBConnection;
+import model.ContributionBracket;
+import java.sql.*;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+/**
+ * Data Access Object for the versioned contribution and tax bracket tables
+ */
+public class ContributionRateDAO {
+    private static final Logger logger = Logger.getLogger(ContributionRateDAO.class.getName());
+
+    private static final String SELECT_ALL_BRACKETS =
+        "SELECT contribution_type, effective_date, upper_bound, fixed_amount, rate, excess_over, " +
+        "min_amount, max_amount FROM contribution_brackets " +
+        "ORDER BY contribution_type, effective_date, upper_bound IS NULL, upper_bound";
+
+    /**
+     * Retrieves every bracket of every version, ordered by type, effective date and upper bound
+     * @return List of brackets, empty if none are configured
+     * @throws RuntimeException if database error occurs
+     */
+    public List<ContributionBracket> getAllBrackets() {
+        List<ContributionBracket> brackets = new ArrayList<>();
+
+        try (Connection conn = DBConnection.getConnection();
+             PreparedStatement stmt = conn.prepareStatement(SELECT_ALL_BRACKETS);
+             ResultSet rs = stmt.executeQuery()) {
+
+            RowMapper<ContributionBracket> mapper = BRACKET_MAPPER.bind(rs);
+            while (rs.next()) {
+                brackets.add(mapper.map(rs));
+            }
+
+        } catch (SQLException ex) {
+            logger.log(Level.SEVERE, "Error retrieving contribution brackets", ex);
+            throw new RuntimeException("Failed to retrieve contribution brackets", ex);
+        }
+
+        return brackets;
+    }
+
+    private static final OrdinalRowMapper<ContributionBracket> BRACKET_MAPPER =
+            OrdinalRowMapper.builder(ContributionBracket::new)
+                    .column("contribution_type", ResultSet::getString, ContributionBracket::setContributionType)
+                    .column("effective_date", ResultSet::getDate, (b, date) -> b.setEffectiveDate(date.toLocalDate()))
+                    .column("upper_bound", OrdinalRowMapper.NULLABLE_DOUBLE, ContributionBracket::setUpperBound)
+                    .doubleColumn("fixed_amount", ContributionBracket::setFixedAmount)
+                    .doubleColumn("rate", ContributionBracket::setRate)
+                    .doubleColumn("excess_over", ContributionBracket::setExcessOver)
+                    .column("min_amount", OrdinalRowMapper.NULLABLE_DOUBLE, ContributionBracket::setMinAmount)
+                    .column("max_amount", OrdinalRowMapper.NULLABLE_DOUBLE, ContributionBracket::setMaxAmount)
+                    .build();
+}
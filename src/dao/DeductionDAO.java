@@ -1,10 +1,18 @@
 package dao;
 
 import model.Deduction;
+import model.DeductionType;
+import model.Money;
+import model.Payroll;
+import util.ConfigurationManager;
 import util.DBConnection;
+import util.SchemaRegistry;
 
 import java.sql.*;
+import java.time.LocalDate;
 import java.util.ArrayList;
+import java.util.Collection;
+import java.util.EnumMap;
 import java.util.List;
 import java.util.logging.Logger;
 import java.util.logging.Level;
@@ -16,6 +24,21 @@ import java.util.logging.Level;
 public class DeductionDAO {
     private static final Logger LOGGER = Logger.getLogger(DeductionDAO.class.getName());
 
+    // Payroll line items are linked to their payroll row through its unique employee and period
+    private static final String DELETE_PAYROLL_LINES =
+            "DELETE d FROM deductions d JOIN payroll p ON p.payroll_id = d.payroll_id " +
+            "WHERE p.employee_id = ? AND p.period_start = ? AND p.period_end = ?";
+
+    private static final String INSERT_PAYROLL_LINE =
+            "INSERT INTO deductions (employee_id, payroll_id, type, amount, description, deduction_date) " +
+            "SELECT employee_id, payroll_id, ?, ?, ?, period_end FROM payroll " +
+            "WHERE employee_id = ? AND period_start = ? AND period_end = ?";
+
+    private static final String SELECT_PAYROLL_TOTALS_BY_TYPE =
+            "SELECT d.type, COALESCE(SUM(d.amount), 0) FROM deductions d " +
+            "JOIN payroll p ON p.payroll_id = d.payroll_id " +
+            "WHERE p.employee_id = ? AND p.period_start >= ? AND p.period_end <= ? GROUP BY d.type";
+
     /**
      * Adds a deduction record to the database
      */
@@ -67,23 +90,9 @@ public class DeductionDAO {
             stmt.setInt(1, employeeId);
             ResultSet rs = stmt.executeQuery();
 
+            RowMapper<Deduction> mapper = DEDUCTION_MAPPER.bind(rs);
             while (rs.next()) {
-                // Create concrete implementation of Deduction
-                ConcreteDeduction d = new ConcreteDeduction(
-                        rs.getInt("employee_id"),
-                        rs.getString("type"),
-                        rs.getDouble("amount"),
-                        rs.getString("description")
-                );
-                d.setDeductionId(rs.getInt("deduction_id"));
-
-                // Set deduction date if it exists in the database
-                Date deductionDate = rs.getDate("deduction_date");
-                if (deductionDate != null) {
-                    d.setDeductionDate(deductionDate);
-                }
-
-                deductions.add(d);
+                deductions.add(mapper.map(rs));
             }
         } catch (SQLException e) {
             LOGGER.log(Level.SEVERE, "Error retrieving deductions for employee ID: " + employeeId, e);
@@ -171,20 +180,7 @@ public class DeductionDAO {
             ResultSet rs = stmt.executeQuery();
 
             if (rs.next()) {
-                ConcreteDeduction deduction = new ConcreteDeduction(
-                        rs.getInt("employee_id"),
-                        rs.getString("type"),
-                        rs.getDouble("amount"),
-                        rs.getString("description")
-                );
-                deduction.setDeductionId(rs.getInt("deduction_id"));
-
-                Date deductionDate = rs.getDate("deduction_date");
-                if (deductionDate != null) {
-                    deduction.setDeductionDate(deductionDate);
-                }
-
-                return deduction;
+                return DEDUCTION_MAPPER.mapRow(rs);
             }
         } catch (SQLException e) {
             LOGGER.log(Level.SEVERE, "Error retrieving deduction by ID: " + deductionId, e);
@@ -222,6 +218,172 @@ public class DeductionDAO {
         return 0.0;
     }
 
+    /**
+     * Writes the itemized deductions of stored payrolls in one transaction,
+     * replacing any lines previously written for the same payroll rows.
+     * The payroll rows must already be saved.
+     * @param payrolls Saved payrolls
+     * @return Number of deduction lines written
+     */
+    public int replacePayrollDeductions(Collection<Payroll> payrolls) throws SQLException {
+        if (payrolls == null || payrolls.isEmpty()) {
+            return 0;
+        }
+
+        try (UnitOfWork work = UnitOfWork.begin()) {
+            int written = replacePayrollDeductions(work, payrolls);
+            work.commit();
+            return written;
+        }
+    }
+
+    /**
+     * Writes the itemized deductions of payrolls as part of a unit of work,
+     * replacing any lines previously written for the same payroll rows. Lines
+     * are inserted in batches and zero amounts are skipped. Nothing is
+     * committed; the caller commits the unit of work. The payroll rows must be
+     * written first, in the same unit of work or before it.
+     * @param work Unit of work to write through
+     * @param payrolls Payrolls to itemize
+     * @return Number of deduction lines written
+     */
+    public int replacePayrollDeductions(UnitOfWork work, Collection<Payroll> payrolls) throws SQLException {
+        if (work == null) {
+            throw new IllegalArgumentException("Unit of work cannot be null");
+        }
+        if (payrolls == null || payrolls.isEmpty()) {
+            return 0;
+        }
+        if (!hasPayrollLedger()) {
+            LOGGER.warning("deductions.payroll_id is missing - payroll deduction lines will not be saved");
+            return 0;
+        }
+
+        int chunkSize = Math.max(1, ConfigurationManager.getInstance().getBatchWriteChunkSize());
+        int written = 0;
+
+        try (PreparedStatement delete = work.getConnection().prepareStatement(DELETE_PAYROLL_LINES);
+             PreparedStatement insert = work.getConnection().prepareStatement(INSERT_PAYROLL_LINE)) {
+            int pending = 0;
+            int pendingLines = 0;
+            for (Payroll payroll : payrolls) {
+                if (payroll == null) {
+                    throw new IllegalArgumentException("Payroll cannot be null");
+                }
+                Date periodStart = payroll.getPeriodStart();
+                Date periodEnd = payroll.getPeriodEnd();
+
+                delete.setInt(1, payroll.getEmployeeId());
+                delete.setDate(2, periodStart);
+                delete.setDate(3, periodEnd);
+                delete.addBatch();
+
+                String description = "Payroll " + periodStart + " to " + periodEnd;
+                for (DeductionType type : DeductionType.values()) {
+                    long centavos = type.amountOf(payroll);
+                    if (centavos == 0) {
+                        continue;
+                    }
+                    insert.setString(1, type.getCode());
+                    insert.setBigDecimal(2, Money.toBigDecimal(centavos));
+                    insert.setString(3, description);
+                    insert.setInt(4, payroll.getEmployeeId());
+                    insert.setDate(5, periodStart);
+                    insert.setDate(6, periodEnd);
+                    insert.addBatch();
+                    pendingLines++;
+                }
+
+                // Deletes go first so a chunk never removes its own new lines
+                if (++pending == chunkSize) {
+                    delete.executeBatch();
+                    insert.executeBatch();
+                    written += pendingLines;
+                    pending = 0;
+                    pendingLines = 0;
+                }
+            }
+            if (pending > 0) {
+                delete.executeBatch();
+                insert.executeBatch();
+                written += pendingLines;
+            }
+        } catch (SQLException e) {
+            LOGGER.log(Level.SEVERE, "Error writing payroll deduction lines after " + written + " lines", e);
+            throw e;
+        }
+
+        LOGGER.info("Wrote " + written + " payroll deduction lines for " + payrolls.size() + " payrolls");
+        return written;
+    }
+
+    /**
+     * Totals an employee's payroll deduction lines by type in one grouped query
+     * @param employeeId Employee ID
+     * @param periodStart Start of the first pay period to include
+     * @param periodEnd End of the last pay period to include
+     * @return Total in centavos for every type, 0 for types without lines
+     */
+    public EnumMap<DeductionType, Long> getPayrollDeductionTotals(int employeeId, LocalDate periodStart,
+                                                                  LocalDate periodEnd) throws SQLException {
+        if (employeeId <= 0) {
+            throw new IllegalArgumentException("Employee ID must be positive");
+        }
+        if (periodStart == null || periodEnd == null || periodStart.isAfter(periodEnd)) {
+            throw new IllegalArgumentException("Invalid pay period");
+        }
+
+        EnumMap<DeductionType, Long> totals = new EnumMap<>(DeductionType.class);
+        for (DeductionType type : DeductionType.values()) {
+            totals.put(type, 0L);
+        }
+        if (!hasPayrollLedger()) {
+            return totals;
+        }
+
+        try (Connection conn = DBConnection.getConnection();
+             PreparedStatement stmt = conn.prepareStatement(SELECT_PAYROLL_TOTALS_BY_TYPE)) {
+
+            stmt.setInt(1, employeeId);
+            stmt.setDate(2, Date.valueOf(periodStart));
+            stmt.setDate(3, Date.valueOf(periodEnd));
+
+            try (ResultSet rs = stmt.executeQuery()) {
+                while (rs.next()) {
+                    DeductionType type = DeductionType.fromCode(rs.getString(1));
+                    if (type != null) {
+                        totals.merge(type, Money.fromBigDecimal(rs.getBigDecimal(2)), Long::sum);
+                    }
+                }
+            }
+        } catch (SQLException e) {
+            LOGGER.log(Level.SEVERE, "Error totalling payroll deductions for employee ID: " + employeeId, e);
+            throw e;
+        }
+
+        return totals;
+    }
+
+    // Databases created before payroll lines were itemized have no payroll_id column
+    private boolean hasPayrollLedger() {
+        return SchemaRegistry.getInstance().hasColumn("deductions", "payroll_id");
+    }
+
+    // Keeps the default date when deduction_date is NULL
+    private static final OrdinalRowMapper<Deduction> DEDUCTION_MAPPER =
+            OrdinalRowMapper.<Deduction>builder(ConcreteDeduction::new)
+            .intColumn("employee_id", Deduction::setEmployeeId)
+            .column("type", ResultSet::getString, Deduction::setType)
+            .doubleColumn("amount", Deduction::setAmount)
+            .column("description", ResultSet::getString, Deduction::setDescription)
+            .intColumn("deduction_id", Deduction::setDeductionId)
+            .column("deduction_date", ResultSet::getDate, (d, date) -> {
+                if (date != null) {
+                    d.setDeductionDate(date);
+                }
+            })
+            .build();
+
     /**
      * Concrete implementation of the abstract Deduction class
      * This is used internally by the DAO to create Deduction instances from database records
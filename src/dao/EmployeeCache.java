@@ -0,0 +1,142 @@
+package dao;
+
+import model.Employee;
+import util.ConfigurationManager;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.function.IntFunction;
+
+/**
+ * Bounded read-through cache of employees by ID, shared by every EmployeeDAO.
+ * Entries expire after a fixed time and the least recently used entry is
+ * evicted once the cache is full. EmployeeDAO invalidates an employee whenever
+ * it writes one; changes made to the table outside the DAO show up once the
+ * entry expires.
+ *
+ * The cache keeps its own copy of each employee and hands out a fresh copy on
+ * every read, so callers may modify what they get without affecting the cache.
+ */
+public class EmployeeCache {
+    private static final EmployeeCache INSTANCE = new EmployeeCache(
+            ConfigurationManager.getInstance().getEmployeeCacheMaxSize(),
+            ConfigurationManager.getInstance().getEmployeeCacheTtlMillis());
+
+    private final int maxSize;
+    private final long ttlNanos;
+    private final LinkedHashMap<Integer, Entry> entries;
+    // Bumped on every invalidation so a load that raced with a write is not cached
+    private long invalidations;
+
+    private long hits;
+    private long misses;
+    private long evictions;
+    private long expirations;
+
+    /**
+     * @param maxSize Employees kept before the least recently used is evicted
+     * @param ttlMillis How long an employee is served from the cache
+     */
+    public EmployeeCache(int maxSize, long ttlMillis) {
+        if (maxSize <= 0) {
+            throw new IllegalArgumentException("Cache size must be positive");
+        }
+        if (ttlMillis < 0) {
+            throw new IllegalArgumentException("Cache TTL cannot be negative");
+        }
+        this.maxSize = maxSize;
+        this.ttlNanos = ttlMillis * 1_000_000L;
+        this.entries = new LinkedHashMap<Integer, Entry>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<Integer, Entry> eldest) {
+                if (size() > EmployeeCache.this.maxSize) {
+                    evictions++;
+                    return true;
+                }
+                return false;
+            }
+        };
+    }
+
+    public static EmployeeCache getInstance() {
+        return INSTANCE;
+    }
+
+    /**
+     * Returns the cached employee, loading and caching it on a miss
+     * @param employeeId Employee to get
+     * @param loader Reads the employee from the database; may return null
+     * @return A copy of the employee, or null if the loader found none (not cached)
+     */
+    public Employee get(int employeeId, IntFunction<Employee> loader) {
+        long generation;
+        synchronized (this) {
+            Entry entry = entries.get(employeeId);
+            if (entry != null) {
+                if (System.nanoTime() - entry.loadedAt < ttlNanos) {
+                    hits++;
+                    return new Employee(entry.employee);
+                }
+                entries.remove(employeeId);
+                expirations++;
+            }
+            misses++;
+            generation = invalidations;
+        }
+
+        // Load outside the lock so a slow query does not block other readers
+        Employee loaded = loader.apply(employeeId);
+        if (loaded == null) {
+            return null;
+        }
+        Employee snapshot = new Employee(loaded);
+        synchronized (this) {
+            if (generation == invalidations) {
+                entries.put(employeeId, new Entry(snapshot, System.nanoTime()));
+            }
+        }
+        return new Employee(snapshot);
+    }
+
+    /**
+     * Drops an employee, e.g. after it was inserted, updated or deleted
+     */
+    public synchronized void invalidate(int employeeId) {
+        invalidations++;
+        entries.remove(employeeId);
+    }
+
+    public synchronized void invalidateAll() {
+        invalidations++;
+        entries.clear();
+    }
+
+    public synchronized int size() { return entries.size(); }
+    public synchronized long getHitCount() { return hits; }
+    public synchronized long getMissCount() { return misses; }
+    public synchronized long getEvictionCount() { return evictions; }
+    public synchronized long getExpirationCount() { return expirations; }
+
+    /**
+     * @return Share of reads served from the cache, 0 before the first read
+     */
+    public synchronized double getHitRate() {
+        long reads = hits + misses;
+        return reads == 0 ? 0.0 : (double) hits / reads;
+    }
+
+    public synchronized String getStatistics() {
+        return String.format("EmployeeCache[size=%d, max=%d, hits=%d, misses=%d, hitRate=%.1f%%, evictions=%d, expirations=%d]",
+                entries.size(), maxSize, hits, misses, getHitRate() * 100, evictions, expirations);
+    }
+
+    private static final class Entry {
+        private final Employee employee;
+        private final long loadedAt;
+
+        Entry(Employee employee, long loadedAt) {
+            this.employee = employee;
+            this.loadedAt = loadedAt;
+        }
+    }
+}
@@ -1,7 +1,10 @@
 package dao;
 
 import util.DBConnection;
+import util.EmployeeSearchIndex;
+import util.PayrollChangeTracker;
 import model.Employee;
+import model.EmployeeSummary;
 import java.sql.Connection;
 import java.sql.PreparedStatement;
 import java.sql.ResultSet;
@@ -11,12 +14,17 @@ import java.sql.Date;
 import java.time.LocalDate;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.stream.Stream;
 import java.util.logging.Level;
 import java.util.logging.Logger;
 
 public class EmployeeDAO {
     private static final Logger LOGGER = Logger.getLogger(EmployeeDAO.class.getName());
 
+    /** Columns read by SUMMARY_MAPPER, in this order */
+    private static final String SUMMARY_COLUMNS =
+            "employee_id, last_name, first_name, position, status, phone_number, basic_salary";
+
     public List<Employee> getAllEmployees() {
         List<Employee> employees = new ArrayList<>();
         String query = "SELECT * FROM employees ORDER BY last_name, first_name";
@@ -25,8 +33,9 @@ public class EmployeeDAO {
              PreparedStatement stmt = conn.prepareStatement(query);
              ResultSet rs = stmt.executeQuery()) {
 
+            RowMapper<Employee> mapper = EMPLOYEE_MAPPER.bind(rs);
             while (rs.next()) {
-                Employee e = mapResultSetToEmployee(rs);
+                Employee e = mapper.map(rs);
                 employees.add(e);
             }
 
@@ -38,7 +47,98 @@ public class EmployeeDAO {
         return employees;
     }
 
+    /**
+     * Streams all employees without loading them into memory.
+     * The stream holds a database connection and must be closed, e.g. with try-with-resources.
+     * @return Employees in the same order as {@link #getAllEmployees()}
+     */
+    public Stream<Employee> streamAllEmployees() {
+        return ResultSetStream.of("SELECT * FROM employees ORDER BY last_name, first_name",
+                stmt -> { }, EMPLOYEE_MAPPER);
+    }
+
+    /**
+     * Get all employees as summaries for lists and comboboxes
+     * @return Summaries in the same order as {@link #getAllEmployees()}
+     */
+    public List<EmployeeSummary> getEmployeeSummaries() {
+        List<EmployeeSummary> summaries = new ArrayList<>();
+        String query = "SELECT " + SUMMARY_COLUMNS + " FROM employees ORDER BY last_name, first_name";
+
+        try (Connection conn = DBConnection.getConnection();
+             PreparedStatement stmt = conn.prepareStatement(query);
+             ResultSet rs = stmt.executeQuery()) {
+
+            while (rs.next()) {
+                summaries.add(SUMMARY_MAPPER.map(rs));
+            }
+
+        } catch (SQLException ex) {
+            LOGGER.log(Level.SEVERE, "Error fetching employee summaries", ex);
+            throw new RuntimeException("Failed to fetch employees", ex);
+        }
+
+        return summaries;
+    }
+
+    /**
+     * Get one page of employee summaries ordered by last name, first name and ID.
+     * Pages are keyed on the last row already shown rather than an offset,
+     * so each page is an index range scan however deep the user scrolls.
+     * @param lastSeen Last employee of the previous page, or null for the first page
+     * @param limit Maximum number of employees to return
+     * @return Employees following lastSeen
+     */
+    public List<EmployeeSummary> getEmployeeSummariesPage(EmployeeSummary lastSeen, int limit) {
+        if (limit <= 0) {
+            throw new IllegalArgumentException("Page size must be positive");
+        }
+
+        String query = lastSeen == null
+                ? "SELECT " + SUMMARY_COLUMNS + " FROM employees " +
+                  "ORDER BY last_name, first_name, employee_id LIMIT ?"
+                : "SELECT " + SUMMARY_COLUMNS + " FROM employees WHERE last_name > ? OR (last_name = ? AND " +
+                  "(first_name > ? OR (first_name = ? AND employee_id > ?))) " +
+                  "ORDER BY last_name, first_name, employee_id LIMIT ?";
+        List<EmployeeSummary> summaries = new ArrayList<>(limit);
+
+        try (Connection conn = DBConnection.getConnection();
+             PreparedStatement stmt = conn.prepareStatement(query)) {
+
+            int index = 1;
+            if (lastSeen != null) {
+                stmt.setString(index++, lastSeen.lastName());
+                stmt.setString(index++, lastSeen.lastName());
+                stmt.setString(index++, lastSeen.firstName());
+                stmt.setString(index++, lastSeen.firstName());
+                stmt.setInt(index++, lastSeen.employeeId());
+            }
+            stmt.setInt(index, limit);
+
+            try (ResultSet rs = stmt.executeQuery()) {
+                while (rs.next()) {
+                    summaries.add(SUMMARY_MAPPER.map(rs));
+                }
+            }
+
+        } catch (SQLException ex) {
+            LOGGER.log(Level.SEVERE, "Error fetching employee page", ex);
+            throw new RuntimeException("Failed to fetch employees", ex);
+        }
+
+        return summaries;
+    }
+
+    /**
+     * Get an employee by ID, served from the shared {@link EmployeeCache} when possible.
+     * The returned employee is a copy; changing it does not affect other callers.
+     * @return The employee, or null if there is none with that ID
+     */
     public Employee getEmployeeById(int employeeId) {
+        return EmployeeCache.getInstance().get(employeeId, this::loadEmployeeById);
+    }
+
+    private Employee loadEmployeeById(int employeeId) {
         String query = "SELECT * FROM employees WHERE employee_id = ?";
 
         try (Connection conn = DBConnection.getConnection();
@@ -48,7 +148,7 @@ public class EmployeeDAO {
             ResultSet rs = stmt.executeQuery();
 
             if (rs.next()) {
-                return mapResultSetToEmployee(rs);
+                return EMPLOYEE_MAPPER.mapRow(rs);
             }
 
         } catch (SQLException ex) {
@@ -173,6 +273,8 @@ public class EmployeeDAO {
             int result = stmt.executeUpdate();
 
             if (result > 0) {
+                EmployeeCache.getInstance().invalidate(e.getEmployeeId());
+                EmployeeSearchIndex.getInstance().put(toSummary(e));
                 LOGGER.info("Successfully inserted employee: " + e.getEmployeeId() + " - " + e.getFullName());
                 return true;
             } else {
@@ -247,6 +349,10 @@ public class EmployeeDAO {
             int result = stmt.executeUpdate();
 
             if (result > 0) {
+                // Salary and allowances feed every pay period
+                PayrollChangeTracker.getInstance().markEmployeeDirty(e.getEmployeeId());
+                EmployeeCache.getInstance().invalidate(e.getEmployeeId());
+                EmployeeSearchIndex.getInstance().put(toSummary(e));
                 LOGGER.info("Successfully updated employee: " + e.getEmployeeId() + " - " + e.getFullName());
                 return true;
             } else {
@@ -274,6 +380,8 @@ public class EmployeeDAO {
             int result = stmt.executeUpdate();
 
             if (result > 0) {
+                EmployeeCache.getInstance().invalidate(employeeId);
+                EmployeeSearchIndex.getInstance().remove(employeeId);
                 LOGGER.info("Successfully deleted employee with ID: " + employeeId);
                 return true;
             } else {
@@ -307,8 +415,9 @@ public class EmployeeDAO {
             stmt.setString(1, status.trim());
             ResultSet rs = stmt.executeQuery();
 
+            RowMapper<Employee> mapper = EMPLOYEE_MAPPER.bind(rs);
             while (rs.next()) {
-                Employee e = mapResultSetToEmployee(rs);
+                Employee e = mapper.map(rs);
                 employees.add(e);
             }
 
@@ -334,8 +443,9 @@ public class EmployeeDAO {
             stmt.setString(1, position.trim());
             ResultSet rs = stmt.executeQuery();
 
+            RowMapper<Employee> mapper = EMPLOYEE_MAPPER.bind(rs);
             while (rs.next()) {
-                Employee e = mapResultSetToEmployee(rs);
+                Employee e = mapper.map(rs);
                 employees.add(e);
             }
 
@@ -361,8 +471,9 @@ public class EmployeeDAO {
             stmt.setString(1, supervisor.trim());
             ResultSet rs = stmt.executeQuery();
 
+            RowMapper<Employee> mapper = EMPLOYEE_MAPPER.bind(rs);
             while (rs.next()) {
-                Employee e = mapResultSetToEmployee(rs);
+                Employee e = mapper.map(rs);
                 employees.add(e);
             }
 
@@ -396,8 +507,9 @@ public class EmployeeDAO {
 
             ResultSet rs = stmt.executeQuery();
 
+            RowMapper<Employee> mapper = EMPLOYEE_MAPPER.bind(rs);
             while (rs.next()) {
-                Employee e = mapResultSetToEmployee(rs);
+                Employee e = mapper.map(rs);
                 employees.add(e);
             }
 
@@ -410,38 +522,127 @@ public class EmployeeDAO {
     }
 
     /**
-     * Enhanced mapResultSetToEmployee with better null handling
+     * Loads every employee into the in-memory search index
      */
-    private Employee mapResultSetToEmployee(ResultSet rs) throws SQLException {
-        Employee e = new Employee();
-        e.setEmployeeId(rs.getInt("employee_id"));
-        e.setLastName(rs.getString("last_name"));
-        e.setFirstName(rs.getString("first_name"));
-
-        java.sql.Date birthday = rs.getDate("birthday");
-        if (birthday != null) {
-            e.setBirthday(birthday.toLocalDate());
-        }
-
-        e.setAddress(rs.getString("address"));
-        e.setPhoneNumber(rs.getString("phone_number"));
-        e.setSssNumber(rs.getString("sss_number"));
-        e.setPhilhealthNumber(rs.getString("philhealth_number"));
-        e.setTinNumber(rs.getString("tin_number"));
-        e.setPagibigNumber(rs.getString("pagibig_number"));
-        e.setStatus(rs.getString("status"));
-        e.setPosition(rs.getString("position"));
-        e.setImmediateSupervisor(rs.getString("immediate_supervisor"));
-        e.setBasicSalary(rs.getDouble("basic_salary"));
-        e.setRiceSubsidy(rs.getDouble("rice_subsidy"));
-        e.setPhoneAllowance(rs.getDouble("phone_allowance"));
-        e.setClothingAllowance(rs.getDouble("clothing_allowance"));
-        e.setGrossSemiMonthlyRate(rs.getDouble("gross_semi_monthly_rate"));
-        e.setHourlyRate(rs.getDouble("hourly_rate"));
-
-        return e;
+    public void buildSearchIndex() {
+        EmployeeSearchIndex.getInstance().rebuild(getEmployeeSummaries());
     }
 
+    /**
+     * Reloads the search index on the DAO executor to pick up employees changed
+     * by other clients, which the index does not see. Searches keep using the
+     * current index meanwhile, and a rebuild that raced with a write is dropped.
+     */
+    private void rebuildSearchIndexInBackground(EmployeeSearchIndex index) {
+        long generation = index.generation();
+        AsyncDAO.executor().execute(() -> {
+            try {
+                index.rebuild(getEmployeeSummaries(), generation);
+            } catch (RuntimeException e) {
+                LOGGER.log(Level.WARNING, "Could not rebuild employee search index", e);
+            }
+        });
+    }
+
+    /**
+     * Search employees by name, ID or position, returning summaries for list views.
+     * Answered from the in-memory search index once it is built, ranked by how
+     * well they match, and rebuilt in the background every
+     * {@code cache.employee.search.rebuild.ms}; until then the database is searched.
+     * @param searchTerm Text to look for; blank returns all employees
+     * @return Matching employees
+     */
+    public List<EmployeeSummary> searchEmployeeSummaries(String searchTerm) {
+        if (searchTerm == null || searchTerm.trim().isEmpty()) {
+            return getEmployeeSummaries();
+        }
+
+        EmployeeSearchIndex index = EmployeeSearchIndex.getInstance();
+        if (index.isWarm()) {
+            if (index.claimRebuild()) {
+                rebuildSearchIndexInBackground(index);
+            }
+            return index.search(searchTerm);
+        }
+
+        List<EmployeeSummary> summaries = new ArrayList<>();
+        String query = "SELECT " + SUMMARY_COLUMNS + " FROM employees WHERE " +
+                "CONCAT(first_name, ' ', last_name) LIKE ? OR " +
+                "employee_id LIKE ? OR " +
+                "position LIKE ? " +
+                "ORDER BY last_name, first_name";
+
+        try (Connection conn = DBConnection.getConnection();
+             PreparedStatement stmt = conn.prepareStatement(query)) {
+
+            String searchPattern = "%" + searchTerm.trim() + "%";
+            stmt.setString(1, searchPattern);
+            stmt.setString(2, searchPattern);
+            stmt.setString(3, searchPattern);
+
+            try (ResultSet rs = stmt.executeQuery()) {
+                while (rs.next()) {
+                    summaries.add(SUMMARY_MAPPER.map(rs));
+                }
+            }
+
+        } catch (SQLException ex) {
+            LOGGER.log(Level.SEVERE, "Error searching employees with term: " + searchTerm, ex);
+            throw new RuntimeException("Failed to search employees", ex);
+        }
+
+        return summaries;
+    }
+
+    /**
+     * Maps employee rows to Employee objects, leaving the birthday unset when it is NULL
+     */
+    private static final OrdinalRowMapper<Employee> EMPLOYEE_MAPPER = OrdinalRowMapper.builder(Employee::new)
+            .intColumn("employee_id", Employee::setEmployeeId)
+            .column("last_name", ResultSet::getString, Employee::setLastName)
+            .column("first_name", ResultSet::getString, Employee::setFirstName)
+            .column("birthday", ResultSet::getDate, (e, birthday) -> {
+                if (birthday != null) {
+                    e.setBirthday(birthday.toLocalDate());
+                }
+            })
+            .column("address", ResultSet::getString, Employee::setAddress)
+            .column("phone_number", ResultSet::getString, Employee::setPhoneNumber)
+            .column("sss_number", ResultSet::getString, Employee::setSssNumber)
+            .column("philhealth_number", ResultSet::getString, Employee::setPhilhealthNumber)
+            .column("tin_number", ResultSet::getString, Employee::setTinNumber)
+            .column("pagibig_number", ResultSet::getString, Employee::setPagibigNumber)
+            .column("status", ResultSet::getString, Employee::setStatus)
+            .column("position", ResultSet::getString, Employee::setPosition)
+            .column("immediate_supervisor", ResultSet::getString, Employee::setImmediateSupervisor)
+            .doubleColumn("basic_salary", Employee::setBasicSalary)
+            .doubleColumn("rice_subsidy", Employee::setRiceSubsidy)
+            .doubleColumn("phone_allowance", Employee::setPhoneAllowance)
+            .doubleColumn("clothing_allowance", Employee::setClothingAllowance)
+            .doubleColumn("gross_semi_monthly_rate", Employee::setGrossSemiMonthlyRate)
+            .doubleColumn("hourly_rate", Employee::setHourlyRate)
+            .build();
+
+    private static EmployeeSummary toSummary(Employee e) {
+        return new EmployeeSummary(e.getEmployeeId(),
+                e.getLastName() != null ? e.getLastName().trim() : null,
+                e.getFirstName() != null ? e.getFirstName().trim() : null,
+                e.getPosition() != null ? e.getPosition().trim() : null,
+                e.getStatus() != null ? e.getStatus().trim() : "Regular",
+                e.getPhoneNumber() != null ? e.getPhoneNumber().trim() : null,
+                e.getBasicSalary());
+    }
+
+    // Reads SUMMARY_COLUMNS by position; the projection is fixed, so no names need resolving
+    private static final RowMapper<EmployeeSummary> SUMMARY_MAPPER = rs -> new EmployeeSummary(
+            rs.getInt(1),
+            rs.getString(2),
+            rs.getString(3),
+            rs.getString(4),
+            rs.getString(5),
+            rs.getString(6),
+            rs.getDouble(7));
+
     /**
      * Utility method to check if an employee exists
      * @param employeeId Employee ID to check
@@ -497,4 +698,27 @@ public class EmployeeDAO {
 
         return 0;
     }
+
+    /**
+     * Get the total number of employees
+     * @return number of employees
+     */
+    public int getEmployeeCount() {
+        String query = "SELECT COUNT(*) FROM employees";
+
+        try (Connection conn = DBConnection.getConnection();
+             PreparedStatement stmt = conn.prepareStatement(query);
+             ResultSet rs = stmt.executeQuery()) {
+
+            if (rs.next()) {
+                return rs.getInt(1);
+            }
+
+        } catch (SQLException ex) {
+            LOGGER.log(Level.SEVERE, "Error getting employee count", ex);
+            throw new RuntimeException("Failed to get employee count", ex);
+        }
+
+        return 0;
+    }
 }
\ No newline at end of file
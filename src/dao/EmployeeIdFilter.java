@@ -0,0 +1,45 @@
+package dao;
+
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.util.Collection;
+
+/**
+ * Optional {@code employee_id IN (...)} restriction shared by the multi-employee
+ * range queries. A null ID collection means all employees.
+ */
+final class EmployeeIdFilter {
+
+    private EmployeeIdFilter() {
+    }
+
+    /**
+     * @return SQL condition starting with " AND", or an empty string for all employees
+     */
+    static String clause(Collection<Integer> employeeIds) {
+        if (employeeIds == null) {
+            return "";
+        }
+        StringBuilder sql = new StringBuilder(" AND employee_id IN (");
+        for (int i = 0; i < employeeIds.size(); i++) {
+            sql.append(i == 0 ? "?" : ", ?");
+        }
+        return sql.append(')').toString();
+    }
+
+    /**
+     * Binds the IDs of {@link #clause} starting at the given parameter index
+     * @return Index of the next parameter
+     */
+    static int bind(PreparedStatement stmt, int index, Collection<Integer> employeeIds) throws SQLException {
+        if (employeeIds != null) {
+            for (Integer employeeId : employeeIds) {
+                if (employeeId == null || employeeId <= 0) {
+                    throw new IllegalArgumentException("Employee IDs must be positive, got: " + employeeId);
+                }
+                stmt.setInt(index++, employeeId);
+            }
+        }
+        return index;
+    }
+}
@@ -16,10 +16,7 @@ public class EmploymentStatusDAO {
             ResultSet rs = stmt.executeQuery();
 
             if (rs.next()) {
-                EmploymentStatus es = new EmploymentStatus();
-                es.setStatusId(rs.getInt("employment_status_id"));
-                es.setStatusName(rs.getString("status_name"));
-                return es;
+                return STATUS_MAPPER.mapRow(rs);
             }
 
         } catch (SQLException ex) {
@@ -28,4 +25,9 @@ public class EmploymentStatusDAO {
 
         return null;
     }
+
+    private static final OrdinalRowMapper<EmploymentStatus> STATUS_MAPPER = OrdinalRowMapper.builder(EmploymentStatus::new)
+            .intColumn("employment_status_id", EmploymentStatus::setStatusId)
+            .column("status_name", ResultSet::getString, EmploymentStatus::setStatusName)
+            .build();
 }
\ No newline at end of file
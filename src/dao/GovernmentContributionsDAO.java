@@ -4,6 +4,8 @@ package dao;
 import util.DBConnection;
 import model.GovernmentContributions;
 import java.sql.*;
+import java.time.LocalDate;
+import java.util.Collection;
 import java.util.logging.Level;
 import java.util.logging.Logger;
 
@@ -20,7 +22,7 @@ public class GovernmentContributionsDAO {
             ResultSet rs = stmt.executeQuery();
 
             if (rs.next()) {
-                return mapResultSetToGovernmentContributions(rs);
+                return CONTRIBUTIONS_MAPPER.mapRow(rs);
             }
 
         } catch (SQLException ex) {
@@ -41,7 +43,7 @@ public class GovernmentContributionsDAO {
             ResultSet rs = stmt.executeQuery();
 
             if (rs.next()) {
-                return mapResultSetToGovernmentContributions(rs);
+                return CONTRIBUTIONS_MAPPER.mapRow(rs);
             }
 
         } catch (SQLException ex) {
@@ -53,7 +55,7 @@ public class GovernmentContributionsDAO {
     }
 
     public boolean insertGovernmentContributions(GovernmentContributions contributions) {
-        String sql = "INSERT INTO government_contributions (employee_id, sss, philhealth, pagibig, tax) VALUES (?, ?, ?, ?, ?)";
+        String sql = "INSERT INTO government_contributions (employee_id, sss, philhealth, pagibig, tax, contribution_period) VALUES (?, ?, ?, ?, ?, ?)";
 
         try (Connection conn = DBConnection.getConnection();
              PreparedStatement stmt = conn.prepareStatement(sql, Statement.RETURN_GENERATED_KEYS)) {
@@ -63,6 +65,7 @@ public class GovernmentContributionsDAO {
             stmt.setDouble(3, contributions.getPhilhealth());
             stmt.setDouble(4, contributions.getPagibig());
             stmt.setDouble(5, contributions.getTax());
+            stmt.setDate(6, contributions.getContributionPeriod() != null ? Date.valueOf(contributions.getContributionPeriod()) : null);
 
             int result = stmt.executeUpdate();
             
@@ -103,6 +106,84 @@ public class GovernmentContributionsDAO {
         }
     }
 
+    /**
+     * Replaces the contributions recorded for a pay period in one transaction,
+     * so re-running a period never leaves duplicate rows behind.
+     * @param contributions Contributions to record, one per employee
+     * @param period Start of the pay period
+     */
+    public void replaceContributionsForPeriod(Collection<GovernmentContributions> contributions, LocalDate period) {
+        if (contributions == null || contributions.isEmpty()) {
+            return;
+        }
+        if (period == null) {
+            throw new IllegalArgumentException("Contribution period cannot be null");
+        }
+
+        try (UnitOfWork work = UnitOfWork.begin()) {
+            replaceContributions(work.getConnection(), contributions, period);
+            work.commit();
+        } catch (SQLException ex) {
+            LOGGER.log(Level.SEVERE, "Error replacing government contributions for period " + period, ex);
+            throw new RuntimeException("Failed to save government contributions", ex);
+        }
+    }
+
+    /**
+     * Replaces the contributions recorded for a pay period as part of a unit of
+     * work. Nothing is committed; the caller commits the unit of work.
+     * @param work Unit of work to write through
+     * @param contributions Contributions to record, one per employee
+     * @param period Start of the pay period
+     */
+    public void replaceContributionsForPeriod(UnitOfWork work, Collection<GovernmentContributions> contributions,
+                                              LocalDate period) {
+        if (work == null) {
+            throw new IllegalArgumentException("Unit of work cannot be null");
+        }
+        if (contributions == null || contributions.isEmpty()) {
+            return;
+        }
+        if (period == null) {
+            throw new IllegalArgumentException("Contribution period cannot be null");
+        }
+
+        try {
+            replaceContributions(work.getConnection(), contributions, period);
+        } catch (SQLException ex) {
+            LOGGER.log(Level.SEVERE, "Error replacing government contributions for period " + period, ex);
+            throw new RuntimeException("Failed to save government contributions", ex);
+        }
+    }
+
+    private void replaceContributions(Connection conn, Collection<GovernmentContributions> contributions,
+                                      LocalDate period) throws SQLException {
+        String deleteSql = "DELETE FROM government_contributions WHERE employee_id = ? AND contribution_period = ?";
+        String insertSql = "INSERT INTO government_contributions (employee_id, sss, philhealth, pagibig, tax, contribution_period) VALUES (?, ?, ?, ?, ?, ?)";
+        Date periodDate = Date.valueOf(period);
+
+        try (PreparedStatement delete = conn.prepareStatement(deleteSql);
+             PreparedStatement insert = conn.prepareStatement(insertSql)) {
+
+            for (GovernmentContributions c : contributions) {
+                delete.setInt(1, c.getEmployeeId());
+                delete.setDate(2, periodDate);
+                delete.addBatch();
+
+                insert.setInt(1, c.getEmployeeId());
+                insert.setDouble(2, c.getSss());
+                insert.setDouble(3, c.getPhilhealth());
+                insert.setDouble(4, c.getPagibig());
+                insert.setDouble(5, c.getTax());
+                insert.setDate(6, periodDate);
+                insert.addBatch();
+                c.setContributionPeriod(period);
+            }
+            delete.executeBatch();
+            insert.executeBatch();
+        }
+    }
+
     public boolean deleteGovernmentContributions(int contributionId) {
         String sql = "DELETE FROM government_contributions WHERE contribution_id = ?";
 
@@ -118,14 +199,15 @@ public class GovernmentContributionsDAO {
         }
     }
 
-    private GovernmentContributions mapResultSetToGovernmentContributions(ResultSet rs) throws SQLException {
-        GovernmentContributions g = new GovernmentContributions();
-        g.setContributionId(rs.getInt("contribution_id"));
-        g.setEmployeeId(rs.getInt("employee_id"));
-        g.setSss(rs.getDouble("sss"));
-        g.setPhilhealth(rs.getDouble("philhealth"));
-        g.setPagibig(rs.getDouble("pagibig"));
-        g.setTax(rs.getDouble("tax"));
-        return g;
-    }
+    private static final OrdinalRowMapper<GovernmentContributions> CONTRIBUTIONS_MAPPER =
+            OrdinalRowMapper.builder(GovernmentContributions::new)
+                    .intColumn("contribution_id", GovernmentContributions::setContributionId)
+                    .intColumn("employee_id", GovernmentContributions::setEmployeeId)
+                    .doubleColumn("sss", GovernmentContributions::setSss)
+                    .doubleColumn("philhealth", GovernmentContributions::setPhilhealth)
+                    .doubleColumn("pagibig", GovernmentContributions::setPagibig)
+                    .doubleColumn("tax", GovernmentContributions::setTax)
+                    .column("contribution_period", ResultSet::getDate,
+                            (g, period) -> g.setContributionPeriod(period != null ? period.toLocalDate() : null))
+                    .build();
 }
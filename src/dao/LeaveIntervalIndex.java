@@ -0,0 +1,208 @@
+package dao;
+
+import model.LeaveRequest;
+import util.ConfigurationManager;
+
+import java.sql.Date;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.IntFunction;
+
+/**
+ * In-memory index of each employee's pending and approved leaves, shared by
+ * every LeaveRequestDAO. An employee's leaves are read from the database the
+ * first time they are asked for and kept as an interval tree, so overlap and
+ * range queries take O(log n + k) for n leaves and k matches.
+ *
+ * LeaveRequestDAO invalidates an employee whenever it writes one of their
+ * leaves; entries also expire after a fixed time so changes made outside the
+ * DAO are picked up. Queries return new LeaveRequest objects each time.
+ */
+public class LeaveIntervalIndex {
+    private static final LeaveIntervalIndex INSTANCE =
+            new LeaveIntervalIndex(ConfigurationManager.getInstance().getLeaveIndexTtlMillis());
+
+    private final long ttlNanos;
+    private final Map<Integer, Entry> entries = new HashMap<>();
+    // Bumped on every invalidation so a load that raced with a write is not kept
+    private long invalidations;
+
+    /**
+     * @param ttlMillis How long an employee's leaves are served from memory
+     */
+    public LeaveIntervalIndex(long ttlMillis) {
+        if (ttlMillis < 0) {
+            throw new IllegalArgumentException("Index TTL cannot be negative");
+        }
+        this.ttlNanos = ttlMillis * 1_000_000L;
+    }
+
+    public static LeaveIntervalIndex getInstance() {
+        return INSTANCE;
+    }
+
+    /**
+     * Finds an employee's leaves with the given status that overlap a date range
+     * @param employeeId Employee whose leaves to search
+     * @param from First day of the range
+     * @param to Last day of the range
+     * @param status Status to match, ignoring case
+     * @param excludeLeaveId Leave to leave out, e.g. the one being edited, or null
+     * @param loader Reads all of an employee's pending and approved leaves on a miss
+     * @return Matching leaves by start date descending
+     */
+    public List<LeaveRequest> findOverlapping(int employeeId, LocalDate from, LocalDate to, String status,
+                                              Integer excludeLeaveId, IntFunction<List<LeaveRequest>> loader) {
+        List<LeaveRequest> matches = new ArrayList<>();
+        tree(employeeId, loader).collect(from.toEpochDay(), to.toEpochDay(), status, excludeLeaveId, matches);
+        Collections.reverse(matches);
+        return matches;
+    }
+
+    /**
+     * Drops an employee's leaves so the next query reads them again
+     */
+    public synchronized void invalidate(int employeeId) {
+        invalidations++;
+        entries.remove(employeeId);
+    }
+
+    public synchronized void invalidateAll() {
+        invalidations++;
+        entries.clear();
+    }
+
+    /**
+     * @return number of employees whose leaves are in memory
+     */
+    public synchronized int size() {
+        return entries.size();
+    }
+
+    private IntervalTree tree(int employeeId, IntFunction<List<LeaveRequest>> loader) {
+        long generation;
+        synchronized (this) {
+            Entry entry = entries.get(employeeId);
+            if (entry != null && System.nanoTime() - entry.loadedAt < ttlNanos) {
+                return entry.tree;
+            }
+            generation = invalidations;
+        }
+
+        // Load outside the lock so a slow query does not block other employees
+        IntervalTree tree = new IntervalTree(loader.apply(employeeId));
+        synchronized (this) {
+            if (generation == invalidations) {
+                entries.put(employeeId, new Entry(tree, System.nanoTime()));
+            }
+        }
+        return tree;
+    }
+
+    private static final class Entry {
+        private final IntervalTree tree;
+        private final long loadedAt;
+
+        Entry(IntervalTree tree, long loadedAt) {
+            this.tree = tree;
+            this.loadedAt = loadedAt;
+        }
+    }
+
+    /**
+     * Immutable interval tree laid out over leaves sorted by start day. The
+     * middle of each index range is the root of that range's subtree, and
+     * maxEnd holds the latest end day within the subtree, so whole subtrees
+     * ending before a query, or starting after it, are skipped.
+     */
+    private static final class IntervalTree {
+        private final long[] starts;
+        private final long[] ends;
+        private final long[] maxEnd;
+        private final int[] leaveIds;
+        private final int[] employeeIds;
+        private final String[] types;
+        private final String[] statuses;
+
+        IntervalTree(List<LeaveRequest> leaves) {
+            List<LeaveRequest> sorted = new ArrayList<>();
+            for (LeaveRequest leave : leaves) {
+                if (leave != null && leave.getStartDate() != null && leave.getEndDate() != null) {
+                    sorted.add(leave);
+                }
+            }
+            sorted.sort((a, b) -> a.getStartDate().compareTo(b.getStartDate()));
+
+            int n = sorted.size();
+            starts = new long[n];
+            ends = new long[n];
+            maxEnd = new long[n];
+            leaveIds = new int[n];
+            employeeIds = new int[n];
+            types = new String[n];
+            statuses = new String[n];
+            for (int i = 0; i < n; i++) {
+                LeaveRequest leave = sorted.get(i);
+                starts[i] = leave.getStartDate().toLocalDate().toEpochDay();
+                ends[i] = leave.getEndDate().toLocalDate().toEpochDay();
+                leaveIds[i] = leave.getLeaveId();
+                employeeIds[i] = leave.getEmployeeId();
+                types[i] = leave.getLeaveType();
+                statuses[i] = leave.getStatus();
+            }
+            computeMaxEnd(0, n);
+        }
+
+        private long computeMaxEnd(int lo, int hi) {
+            if (lo >= hi) {
+                return Long.MIN_VALUE;
+            }
+            int mid = (lo + hi) >>> 1;
+            long max = Math.max(ends[mid], Math.max(computeMaxEnd(lo, mid), computeMaxEnd(mid + 1, hi)));
+            maxEnd[mid] = max;
+            return max;
+        }
+
+        /**
+         * Adds matching leaves to the list in ascending start order
+         */
+        void collect(long from, long to, String status, Integer excludeLeaveId, List<LeaveRequest> out) {
+            collect(0, starts.length, from, to, status, excludeLeaveId, out);
+        }
+
+        private void collect(int lo, int hi, long from, long to, String status, Integer excludeLeaveId,
+                             List<LeaveRequest> out) {
+            if (lo >= hi) {
+                return;
+            }
+            int mid = (lo + hi) >>> 1;
+            if (maxEnd[mid] < from) {
+                return;
+            }
+            collect(lo, mid, from, to, status, excludeLeaveId, out);
+            if (starts[mid] > to) {
+                return;
+            }
+            if (ends[mid] >= from && status.equalsIgnoreCase(statuses[mid])
+                    && (excludeLeaveId == null || leaveIds[mid] != excludeLeaveId)) {
+                out.add(toLeaveRequest(mid));
+            }
+            collect(mid + 1, hi, from, to, status, excludeLeaveId, out);
+        }
+
+        private LeaveRequest toLeaveRequest(int i) {
+            LeaveRequest lr = new LeaveRequest();
+            lr.setLeaveId(leaveIds[i]);
+            lr.setEmployeeId(employeeIds[i]);
+            lr.setLeaveType(types[i]);
+            lr.setStartDate(Date.valueOf(LocalDate.ofEpochDay(starts[i])));
+            lr.setEndDate(Date.valueOf(LocalDate.ofEpochDay(ends[i])));
+            lr.setStatus(statuses[i]);
+            return lr;
+        }
+    }
+}
@@ -1,6 +1,8 @@
 package dao;
 
 import util.DBConnection;
+import util.PayrollChangeTracker;
+import util.SchemaRegistry;
 import model.LeaveRequest;
 import java.sql.*;
 import java.time.LocalDate;
@@ -18,14 +20,8 @@ public class LeaveRequestDAO {
     private static final String SELECT_APPROVED_BY_EMPLOYEE_ID =
             "SELECT * FROM leave_request WHERE employee_id = ? AND status = ? ORDER BY start_date DESC";
 
-    private static final String SELECT_APPROVED_BY_EMPLOYEE_AND_DATE_RANGE = """
-        SELECT * FROM leave_request 
-        WHERE employee_id = ? AND status = ? 
-        AND ((start_date >= ? AND start_date <= ?) 
-             OR (end_date >= ? AND end_date <= ?)
-             OR (start_date <= ? AND end_date >= ?))
-        ORDER BY start_date DESC
-        """;
+    private static final String SELECT_INDEXED_BY_EMPLOYEE_ID =
+            "SELECT * FROM leave_request WHERE employee_id = ? AND status IN (?, ?)";
 
     private static final String SELECT_BY_STATUS =
             "SELECT * FROM leave_request WHERE status = ? ORDER BY start_date DESC";
@@ -42,17 +38,12 @@ public class LeaveRequestDAO {
     private static final String DELETE_LEAVE_REQUEST =
             "DELETE FROM leave_request WHERE leave_id = ?";
 
+    private static final String SELECT_EMPLOYEE_AND_DATES_BY_ID =
+            "SELECT employee_id, start_date, end_date FROM leave_request WHERE leave_id = ?";
+
     private static final String SELECT_BY_ID =
             "SELECT * FROM leave_request WHERE leave_id = ?";
 
-    private static final String CHECK_OVERLAPPING_LEAVE = """
-        SELECT COUNT(*) FROM leave_request 
-        WHERE employee_id = ? AND status = ? 
-        AND ((start_date >= ? AND start_date <= ?) 
-             OR (end_date >= ? AND end_date <= ?)
-             OR (start_date <= ? AND end_date >= ?))
-        """;
-
     // Status constants
     private static final String STATUS_PENDING = "Pending";
     private static final String STATUS_APPROVED = "Approved";
@@ -76,8 +67,9 @@ public class LeaveRequestDAO {
             stmt.setInt(1, empId);
 
             try (ResultSet rs = stmt.executeQuery()) {
+                RowMapper<LeaveRequest> mapper = LEAVE_REQUEST_MAPPER.bind(rs);
                 while (rs.next()) {
-                    leaveRequests.add(mapResultSetToLeaveRequest(rs));
+                    leaveRequests.add(mapper.map(rs));
                 }
             }
 
@@ -108,8 +100,9 @@ public class LeaveRequestDAO {
             stmt.setString(2, STATUS_APPROVED);
 
             try (ResultSet rs = stmt.executeQuery()) {
+                RowMapper<LeaveRequest> mapper = LEAVE_REQUEST_MAPPER.bind(rs);
                 while (rs.next()) {
-                    approvedLeaves.add(mapResultSetToLeaveRequest(rs));
+                    approvedLeaves.add(mapper.map(rs));
                 }
             }
 
@@ -122,7 +115,8 @@ public class LeaveRequestDAO {
     }
 
     /**
-     * Retrieves approved leave requests for an employee within a date range
+     * Retrieves approved leave requests for an employee within a date range,
+     * answered from {@link LeaveIntervalIndex}
      * @param employeeId Employee ID
      * @param periodStart Start date of the period
      * @param periodEnd End date of the period
@@ -134,38 +128,63 @@ public class LeaveRequestDAO {
         validateEmployeeId(employeeId);
         validateDateRange(periodStart, periodEnd);
 
-        List<LeaveRequest> approvedLeaves = new ArrayList<>();
+        return LeaveIntervalIndex.getInstance().findOverlapping(employeeId, periodStart, periodEnd,
+                STATUS_APPROVED, null, this::loadIndexedLeaves);
+    }
 
-        try (Connection conn = DBConnection.getConnection();
-             PreparedStatement stmt = conn.prepareStatement(SELECT_APPROVED_BY_EMPLOYEE_AND_DATE_RANGE)) {
+    /**
+     * Retrieves approved leave requests of several employees that overlap a date
+     * range in one query, grouped by employee while the result set is read
+     * @param employeeIds Employees to include, or null for all employees
+     * @param periodStart Start date of the period
+     * @param periodEnd End date of the period
+     * @return Approved leaves by employee ID in ascending ID order, each list by start date descending;
+     *         employees without leave are absent
+     * @throws IllegalArgumentException if parameters are invalid
+     * @throws RuntimeException if database error occurs
+     */
+    public Map<Integer, List<LeaveRequest>> getApprovedLeavesByEmployeesAndDateRange(Collection<Integer> employeeIds,
+                                                                                    LocalDate periodStart, LocalDate periodEnd) {
+        validateDateRange(periodStart, periodEnd);
 
-            // Convert LocalDate to java.sql.Date for database operations
-            java.sql.Date sqlStartDate = java.sql.Date.valueOf(periodStart);
-            java.sql.Date sqlEndDate = java.sql.Date.valueOf(periodEnd);
+        Map<Integer, List<LeaveRequest>> grouped = new LinkedHashMap<>();
+        if (employeeIds != null && employeeIds.isEmpty()) {
+            return grouped;
+        }
 
-            stmt.setInt(1, employeeId);
-            stmt.setString(2, STATUS_APPROVED);
-            stmt.setDate(3, sqlStartDate);
-            stmt.setDate(4, sqlEndDate);
-            stmt.setDate(5, sqlStartDate);
-            stmt.setDate(6, sqlEndDate);
-            stmt.setDate(7, sqlStartDate);
-            stmt.setDate(8, sqlEndDate);
+        String query = "SELECT * FROM leave_request WHERE status = ? AND start_date <= ? AND end_date >= ?" +
+                EmployeeIdFilter.clause(employeeIds) + " ORDER BY employee_id, start_date DESC";
+
+        try (Connection conn = DBConnection.getConnection();
+             PreparedStatement stmt = conn.prepareStatement(query)) {
+
+            stmt.setString(1, STATUS_APPROVED);
+            stmt.setDate(2, java.sql.Date.valueOf(periodEnd));
+            stmt.setDate(3, java.sql.Date.valueOf(periodStart));
+            EmployeeIdFilter.bind(stmt, 4, employeeIds);
 
             try (ResultSet rs = stmt.executeQuery()) {
+                List<LeaveRequest> current = null;
+                int currentEmployeeId = 0;
+                RowMapper<LeaveRequest> mapper = LEAVE_REQUEST_MAPPER.bind(rs);
                 while (rs.next()) {
-                    approvedLeaves.add(mapResultSetToLeaveRequest(rs));
+                    LeaveRequest leave = mapper.map(rs);
+                    if (current == null || leave.getEmployeeId() != currentEmployeeId) {
+                        currentEmployeeId = leave.getEmployeeId();
+                        current = new ArrayList<>();
+                        grouped.put(currentEmployeeId, current);
+                    }
+                    current.add(leave);
                 }
             }
 
         } catch (SQLException ex) {
             logger.log(Level.SEVERE, String.format(
-                    "Error retrieving approved leaves for employee ID: %d between dates: %s and %s",
-                    employeeId, periodStart, periodEnd), ex);
+                    "Error retrieving approved leaves by employee between dates: %s and %s", periodStart, periodEnd), ex);
             throw new RuntimeException("Failed to retrieve approved leave requests for date range", ex);
         }
 
-        return approvedLeaves;
+        return grouped;
     }
 
     /**
@@ -186,8 +205,9 @@ public class LeaveRequestDAO {
             stmt.setString(1, status.trim());
 
             try (ResultSet rs = stmt.executeQuery()) {
+                RowMapper<LeaveRequest> mapper = LEAVE_REQUEST_MAPPER.bind(rs);
                 while (rs.next()) {
-                    leaveRequests.add(mapResultSetToLeaveRequest(rs));
+                    leaveRequests.add(mapper.map(rs));
                 }
             }
 
@@ -209,36 +229,8 @@ public class LeaveRequestDAO {
     public int insertLeaveRequest(LeaveRequest leaveRequest) {
         validateLeaveRequestForInsert(leaveRequest);
 
-        // ENHANCED: Check if leave_request table exists before attempting insert
-        try (Connection conn = DBConnection.getConnection();
-             Statement stmt = conn.createStatement()) {
-
-            stmt.executeQuery("SELECT 1 FROM leave_request LIMIT 1");
-            logger.fine("Leave request table validation successful");
-
-        } catch (SQLException e) {
-            logger.log(Level.SEVERE, "Leave request table validation failed", e);
-
-            // Enhanced error message based on specific SQL error
-            if (e.getMessage().contains("doesn't exist") ||
-                    e.getMessage().contains("Table") && e.getMessage().contains("doesn't exist")) {
-                throw new RuntimeException(
-                        "Leave request table not found. Please run the database setup script to create required tables.\n" +
-                                "Technical details: " + e.getMessage());
-            } else if (e.getMessage().contains("Access denied")) {
-                throw new RuntimeException(
-                        "Database access denied. Please check your database credentials and permissions.\n" +
-                                "Technical details: " + e.getMessage());
-            } else if (e.getMessage().contains("Connection")) {
-                throw new RuntimeException(
-                        "Database connection failed. Please check if MySQL server is running.\n" +
-                                "Technical details: " + e.getMessage());
-            } else {
-                throw new RuntimeException(
-                        "Database validation failed. Please check your database configuration.\n" +
-                                "Technical details: " + e.getMessage(), e);
-            }
-        }
+        // Table presence comes from the schema read at startup, not a probe per insert
+        requireLeaveRequestTable();
 
         // ENHANCED: Insert leave request with better error handling
         try (Connection conn = DBConnection.getConnection();
@@ -263,6 +255,9 @@ public class LeaveRequestDAO {
                 if (generatedKeys.next()) {
                     int generatedId = generatedKeys.getInt(1);
                     leaveRequest.setLeaveId(generatedId);
+                    LeaveIntervalIndex.getInstance().invalidate(leaveRequest.getEmployeeId());
+                    PayrollChangeTracker.getInstance().markDirty(leaveRequest.getEmployeeId(),
+                            leaveRequest.getStartDate().toLocalDate(), leaveRequest.getEndDate().toLocalDate());
                     logger.info(String.format("Successfully inserted leave request with ID: %d for employee %d",
                             generatedId, leaveRequest.getEmployeeId()));
                     return generatedId;
@@ -310,6 +305,9 @@ public class LeaveRequestDAO {
         try (Connection conn = DBConnection.getConnection();
              PreparedStatement stmt = conn.prepareStatement(UPDATE_STATUS)) {
 
+            // Approving or withdrawing a leave changes unpaid leave deductions
+            LeaveRequest stored = getStoredKey(conn, leaveId);
+
             stmt.setString(1, status.trim());
             stmt.setInt(2, leaveId);
 
@@ -317,6 +315,7 @@ public class LeaveRequestDAO {
             boolean updated = affectedRows > 0;
 
             if (updated) {
+                markChanged(stored);
                 logger.info(String.format("Successfully updated leave request %d status to %s", leaveId, status));
             } else {
                 logger.warning(String.format("No leave request found with ID: %d", leaveId));
@@ -343,6 +342,9 @@ public class LeaveRequestDAO {
         try (Connection conn = DBConnection.getConnection();
              PreparedStatement stmt = conn.prepareStatement(UPDATE_LEAVE_REQUEST)) {
 
+            // The leave may move to other dates, so both old and new ranges become dirty
+            LeaveRequest stored = getStoredKey(conn, leaveRequest.getLeaveId());
+
             stmt.setInt(1, leaveRequest.getEmployeeId());
             stmt.setString(2, leaveRequest.getLeaveType());
             stmt.setDate(3, leaveRequest.getStartDate());
@@ -354,6 +356,8 @@ public class LeaveRequestDAO {
             boolean updated = affectedRows > 0;
 
             if (updated) {
+                markChanged(stored);
+                markChanged(leaveRequest);
                 logger.info(String.format("Successfully updated leave request with ID: %d", leaveRequest.getLeaveId()));
             } else {
                 logger.warning(String.format("No leave request found with ID: %d", leaveRequest.getLeaveId()));
@@ -380,11 +384,14 @@ public class LeaveRequestDAO {
         try (Connection conn = DBConnection.getConnection();
              PreparedStatement stmt = conn.prepareStatement(DELETE_LEAVE_REQUEST)) {
 
+            LeaveRequest stored = getStoredKey(conn, leaveId);
+
             stmt.setInt(1, leaveId);
             int affectedRows = stmt.executeUpdate();
             boolean deleted = affectedRows > 0;
 
             if (deleted) {
+                markChanged(stored);
                 logger.info(String.format("Successfully deleted leave request with ID: %d", leaveId));
             } else {
                 logger.warning(String.format("No leave request found with ID: %d", leaveId));
@@ -415,7 +422,7 @@ public class LeaveRequestDAO {
 
             try (ResultSet rs = stmt.executeQuery()) {
                 if (rs.next()) {
-                    return Optional.of(mapResultSetToLeaveRequest(rs));
+                    return Optional.of(LEAVE_REQUEST_MAPPER.mapRow(rs));
                 }
             }
 
@@ -428,7 +435,7 @@ public class LeaveRequestDAO {
     }
 
     /**
-     * Checks for overlapping leave requests
+     * Checks for overlapping approved leave, answered from {@link LeaveIntervalIndex}
      * @param employeeId Employee ID
      * @param startDate Start date
      * @param endDate End date
@@ -441,59 +448,49 @@ public class LeaveRequestDAO {
         validateEmployeeId(employeeId);
         validateDateRange(startDate, endDate);
 
-        String query = CHECK_OVERLAPPING_LEAVE + (excludeLeaveId != null ? " AND leave_id != ?" : "");
+        return !LeaveIntervalIndex.getInstance().findOverlapping(employeeId, startDate, endDate,
+                STATUS_APPROVED, excludeLeaveId, this::loadIndexedLeaves).isEmpty();
+    }
+
+    /**
+     * Reads the leaves {@link LeaveIntervalIndex} keeps for an employee
+     */
+    private List<LeaveRequest> loadIndexedLeaves(int employeeId) {
+        List<LeaveRequest> leaves = new ArrayList<>();
 
         try (Connection conn = DBConnection.getConnection();
-             PreparedStatement stmt = conn.prepareStatement(query)) {
+             PreparedStatement stmt = conn.prepareStatement(SELECT_INDEXED_BY_EMPLOYEE_ID)) {
 
-            // Convert LocalDate to java.sql.Date for database operations
-            java.sql.Date sqlStartDate = java.sql.Date.valueOf(startDate);
-            java.sql.Date sqlEndDate = java.sql.Date.valueOf(endDate);
-
-            int paramIndex = 1;
-            stmt.setInt(paramIndex++, employeeId);
-            stmt.setString(paramIndex++, STATUS_APPROVED);
-            stmt.setDate(paramIndex++, sqlStartDate);
-            stmt.setDate(paramIndex++, sqlEndDate);
-            stmt.setDate(paramIndex++, sqlStartDate);
-            stmt.setDate(paramIndex++, sqlEndDate);
-            stmt.setDate(paramIndex++, sqlStartDate);
-            stmt.setDate(paramIndex++, sqlEndDate);
-
-            if (excludeLeaveId != null) {
-                stmt.setInt(paramIndex, excludeLeaveId);
-            }
+            stmt.setInt(1, employeeId);
+            stmt.setString(2, STATUS_PENDING);
+            stmt.setString(3, STATUS_APPROVED);
 
             try (ResultSet rs = stmt.executeQuery()) {
-                if (rs.next()) {
-                    return rs.getInt(1) > 0;
+                RowMapper<LeaveRequest> mapper = LEAVE_REQUEST_MAPPER.bind(rs);
+                while (rs.next()) {
+                    leaves.add(mapper.map(rs));
                 }
             }
 
         } catch (SQLException ex) {
-            logger.log(Level.SEVERE, "Error checking overlapping leave", ex);
-            throw new RuntimeException("Failed to check overlapping leave", ex);
+            logger.log(Level.SEVERE, String.format("Error loading leaves for employee ID: %d", employeeId), ex);
+            throw new RuntimeException("Failed to retrieve leave requests", ex);
         }
 
-        return false;
+        return leaves;
     }
 
     /**
-     * Maps ResultSet to LeaveRequest object
-     * @param rs ResultSet from database
-     * @return LeaveRequest object
-     * @throws SQLException if database access error occurs
+     * Maps leave_request rows to LeaveRequest objects
      */
-    private LeaveRequest mapResultSetToLeaveRequest(ResultSet rs) throws SQLException {
-        LeaveRequest lr = new LeaveRequest();
-        lr.setLeaveId(rs.getInt("leave_id"));
-        lr.setEmployeeId(rs.getInt("employee_id"));
-        lr.setLeaveType(rs.getString("leave_type"));
-        lr.setStartDate(rs.getDate("start_date"));
-        lr.setEndDate(rs.getDate("end_date"));
-        lr.setStatus(rs.getString("status"));
-        return lr;
-    }
+    private static final OrdinalRowMapper<LeaveRequest> LEAVE_REQUEST_MAPPER = OrdinalRowMapper.builder(LeaveRequest::new)
+            .intColumn("leave_id", LeaveRequest::setLeaveId)
+            .intColumn("employee_id", LeaveRequest::setEmployeeId)
+            .column("leave_type", ResultSet::getString, LeaveRequest::setLeaveType)
+            .column("start_date", ResultSet::getDate, LeaveRequest::setStartDate)
+            .column("end_date", ResultSet::getDate, LeaveRequest::setEndDate)
+            .column("status", ResultSet::getString, LeaveRequest::setStatus)
+            .build();
 
     // Validation helper methods
     private void validateEmployeeId(int empId) {
@@ -523,6 +520,67 @@ public class LeaveRequestDAO {
         }
     }
 
+    /**
+     * Fails with a setup hint if the leave_request table does not exist
+     */
+    private void requireLeaveRequestTable() {
+        boolean exists;
+        try {
+            exists = SchemaRegistry.getInstance().hasTable("leave_request");
+            if (!exists) {
+                // The setup script may have been run since the schema was read
+                SchemaRegistry.reload();
+                exists = SchemaRegistry.getInstance().hasTable("leave_request");
+            }
+        } catch (RuntimeException e) {
+            logger.log(Level.SEVERE, "Leave request table validation failed", e);
+            throw new RuntimeException(
+                    "Database validation failed. Please check your database configuration.\n" +
+                            "Technical details: " + e.getMessage(), e);
+        }
+        if (!exists) {
+            logger.severe("Leave request table not found");
+            throw new RuntimeException(
+                    "Leave request table not found. Please run the database setup script to create required tables.");
+        }
+    }
+
+    /**
+     * Reads the employee and dates currently stored for a leave request, before a write changes them
+     * @return Leave request with only the employee and dates set, or null if the row does not exist
+     */
+    private LeaveRequest getStoredKey(Connection conn, int leaveId) throws SQLException {
+        try (PreparedStatement stmt = conn.prepareStatement(SELECT_EMPLOYEE_AND_DATES_BY_ID)) {
+            stmt.setInt(1, leaveId);
+            try (ResultSet rs = stmt.executeQuery()) {
+                if (rs.next()) {
+                    LeaveRequest stored = new LeaveRequest();
+                    stored.setEmployeeId(rs.getInt("employee_id"));
+                    stored.setStartDate(rs.getDate("start_date"));
+                    stored.setEndDate(rs.getDate("end_date"));
+                    return stored;
+                }
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Drops a written leave request's employee from the interval index and marks
+     * the payroll of its dates as stale. Called after the write so a concurrent
+     * load cannot cache the rows from before it.
+     */
+    private static void markChanged(LeaveRequest leaveRequest) {
+        if (leaveRequest == null) {
+            return;
+        }
+        LeaveIntervalIndex.getInstance().invalidate(leaveRequest.getEmployeeId());
+        if (leaveRequest.getStartDate() != null && leaveRequest.getEndDate() != null) {
+            PayrollChangeTracker.getInstance().markDirty(leaveRequest.getEmployeeId(),
+                    leaveRequest.getStartDate().toLocalDate(), leaveRequest.getEndDate().toLocalDate());
+        }
+    }
+
     private void validateLeaveRequestForInsert(LeaveRequest leaveRequest) {
         if (leaveRequest == null) {
             throw new IllegalArgumentException("Leave request cannot be null");
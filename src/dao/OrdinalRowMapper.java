@@ -0,0 +1,162 @@
+package dao;
+
+import model.Money;
+
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.BiConsumer;
+import java.util.function.Supplier;
+
+/**
+ * Declarative row mapper that binds columns to setters by position.
+ * Column names are resolved to ordinals once per result set by {@link #bind},
+ * so reading a row does no column name lookups. Declare one per model class
+ * as a constant and bind it after each query:
+ *
+ * <pre>
+ * RowMapper&lt;Overtime&gt; mapper = OVERTIME_MAPPER.bind(rs);
+ * while (rs.next()) {
+ *     list.add(mapper.map(rs));
+ * }
+ * </pre>
+ *
+ * Setters run in the order the columns were declared.
+ *
+ * @param <T> Mapped type
+ */
+final class OrdinalRowMapper<T> {
+
+    @FunctionalInterface
+    interface IntSetter<T> {
+        void set(T target, int value);
+    }
+
+    @FunctionalInterface
+    interface LongSetter<T> {
+        void set(T target, long value);
+    }
+
+    @FunctionalInterface
+    interface DoubleSetter<T> {
+        void set(T target, double value);
+    }
+
+    @FunctionalInterface
+    interface BooleanSetter<T> {
+        void set(T target, boolean value);
+    }
+
+    /**
+     * Reads a column of the current row by ordinal
+     * @param <V> Column value type
+     */
+    @FunctionalInterface
+    interface ColumnReader<V> {
+        V read(ResultSet rs, int column) throws SQLException;
+    }
+
+    /** Reads a DOUBLE or DECIMAL column that may be NULL */
+    static final ColumnReader<Double> NULLABLE_DOUBLE = (rs, column) -> {
+        double value = rs.getDouble(column);
+        return rs.wasNull() ? null : value;
+    };
+
+    @FunctionalInterface
+    private interface Column<T> {
+        void apply(ResultSet rs, int column, T target) throws SQLException;
+    }
+
+    private final Supplier<T> factory;
+    private final String[] names;
+    private final Column<T>[] columns;
+
+    private OrdinalRowMapper(Supplier<T> factory, List<String> names, List<Column<T>> columns) {
+        this.factory = factory;
+        this.names = names.toArray(new String[0]);
+        this.columns = toArray(columns);
+    }
+
+    @SuppressWarnings("unchecked")
+    private static <T> Column<T>[] toArray(List<Column<T>> columns) {
+        return columns.toArray(Column[]::new);
+    }
+
+    /**
+     * @param factory Creates an empty object for each row
+     */
+    static <T> Builder<T> builder(Supplier<T> factory) {
+        return new Builder<>(factory);
+    }
+
+    /**
+     * Resolves the declared columns against a result set
+     * @return Mapper for the rows of this result set
+     * @throws SQLException if a declared column is not in the result
+     */
+    RowMapper<T> bind(ResultSet rs) throws SQLException {
+        int[] ordinals = new int[names.length];
+        for (int i = 0; i < names.length; i++) {
+            ordinals[i] = rs.findColumn(names[i]);
+        }
+        return row -> {
+            T target = factory.get();
+            for (int i = 0; i < ordinals.length; i++) {
+                columns[i].apply(row, ordinals[i], target);
+            }
+            return target;
+        };
+    }
+
+    /**
+     * Maps the current row of a result set that is read only once, e.g. a lookup by ID
+     */
+    T mapRow(ResultSet rs) throws SQLException {
+        return bind(rs).map(rs);
+    }
+
+    static final class Builder<T> {
+        private final Supplier<T> factory;
+        private final List<String> names = new ArrayList<>();
+        private final List<Column<T>> columns = new ArrayList<>();
+
+        private Builder(Supplier<T> factory) {
+            this.factory = factory;
+        }
+
+        Builder<T> intColumn(String name, IntSetter<T> setter) {
+            return add(name, (rs, column, target) -> setter.set(target, rs.getInt(column)));
+        }
+
+        Builder<T> doubleColumn(String name, DoubleSetter<T> setter) {
+            return add(name, (rs, column, target) -> setter.set(target, rs.getDouble(column)));
+        }
+
+        Builder<T> booleanColumn(String name, BooleanSetter<T> setter) {
+            return add(name, (rs, column, target) -> setter.set(target, rs.getBoolean(column)));
+        }
+
+        /**
+         * Maps a DECIMAL peso amount to whole centavos, 0 for NULL
+         */
+        Builder<T> moneyColumn(String name, LongSetter<T> setter) {
+            return add(name, (rs, column, target) ->
+                    setter.set(target, Money.fromBigDecimal(rs.getBigDecimal(column))));
+        }
+
+        <V> Builder<T> column(String name, ColumnReader<V> reader, BiConsumer<T, V> setter) {
+            return add(name, (rs, column, target) -> setter.accept(target, reader.read(rs, column)));
+        }
+
+        OrdinalRowMapper<T> build() {
+            return new OrdinalRowMapper<>(factory, names, columns);
+        }
+
+        private Builder<T> add(String name, Column<T> column) {
+            names.add(name);
+            columns.add(column);
+            return this;
+        }
+    }
+}
@@ -1,7 +1,9 @@
 package dao;
 
 import util.DBConnection;
+import util.PayrollChangeTracker;
 import model.Overtime;
+import model.OvertimeTotals;
 import java.sql.*;
 import java.time.LocalDate;
 import java.util.*;
@@ -37,9 +39,16 @@ public class OvertimeDAO {
         "SELECT COALESCE(SUM(hours), 0) as total_hours FROM overtime " +
         "WHERE employee_id = ? AND date >= ? AND date <= ?";
     
+    private static final String SELECT_APPROVED_TOTALS_BY_EMPLOYEE =
+        "SELECT employee_id, COALESCE(SUM(hours), 0) AS total_hours, COUNT(*) AS overtime_count FROM overtime " +
+        "WHERE approved = TRUE AND date >= ? AND date <= ?";
+    
     private static final String SELECT_BY_ID = 
         "SELECT overtime_id, employee_id, date, hours, reason, approved FROM overtime WHERE overtime_id = ?";
     
+    private static final String SELECT_EMPLOYEE_AND_DATE_BY_ID = 
+        "SELECT employee_id, date FROM overtime WHERE overtime_id = ?";
+    
     /**
      * Retrieves all overtime records for a specific employee
      * @param empId Employee ID
@@ -58,8 +67,9 @@ public class OvertimeDAO {
             stmt.setInt(1, empId);
             
             try (ResultSet rs = stmt.executeQuery()) {
+                RowMapper<Overtime> mapper = OVERTIME_MAPPER.bind(rs);
                 while (rs.next()) {
-                    Overtime overtime = mapResultSetToOvertime(rs);
+                    Overtime overtime = mapper.map(rs);
                     overtimeList.add(overtime);
                 }
             }
@@ -95,8 +105,9 @@ public class OvertimeDAO {
             stmt.setDate(3, java.sql.Date.valueOf(periodEnd));
             
             try (ResultSet rs = stmt.executeQuery()) {
+                RowMapper<Overtime> mapper = OVERTIME_MAPPER.bind(rs);
                 while (rs.next()) {
-                    Overtime overtime = mapResultSetToOvertime(rs);
+                    Overtime overtime = mapper.map(rs);
                     overtimeList.add(overtime);
                 }
             }
@@ -130,7 +141,7 @@ public class OvertimeDAO {
             
             try (ResultSet rs = stmt.executeQuery()) {
                 if (rs.next()) {
-                    return mapResultSetToOvertime(rs);
+                    return OVERTIME_MAPPER.mapRow(rs);
                 }
             }
             
@@ -170,6 +181,7 @@ public class OvertimeDAO {
                 if (generatedKeys.next()) {
                     int generatedId = generatedKeys.getInt(1);
                     overtime.setOvertimeId(generatedId);
+                    PayrollChangeTracker.getInstance().markDirty(overtime.getEmployeeId(), overtime.getDate().toLocalDate());
                     logger.info("Successfully inserted overtime record with ID: " + generatedId);
                     return generatedId;
                 } else {
@@ -196,6 +208,9 @@ public class OvertimeDAO {
         try (Connection conn = DBConnection.getConnection();
              PreparedStatement stmt = conn.prepareStatement(UPDATE_OVERTIME)) {
             
+            // The row may move to another employee or date, so both sides become dirty
+            Overtime stored = getStoredKey(conn, overtime.getOvertimeId());
+
             stmt.setInt(1, overtime.getEmployeeId());
             stmt.setDate(2, overtime.getDate());
             stmt.setDouble(3, overtime.getHours());
@@ -207,6 +222,8 @@ public class OvertimeDAO {
             boolean success = affectedRows > 0;
             
             if (success) {
+                markDirty(stored);
+                markDirty(overtime);
                 logger.info("Successfully updated overtime record with ID: " + overtime.getOvertimeId());
             } else {
                 logger.warning("No overtime record found with ID: " + overtime.getOvertimeId());
@@ -235,12 +252,15 @@ public class OvertimeDAO {
         try (Connection conn = DBConnection.getConnection();
              PreparedStatement stmt = conn.prepareStatement(DELETE_OVERTIME)) {
             
+            Overtime stored = getStoredKey(conn, overtimeId);
+
             stmt.setInt(1, overtimeId);
             
             int affectedRows = stmt.executeUpdate();
             boolean success = affectedRows > 0;
             
             if (success) {
+                markDirty(stored);
                 logger.info("Successfully deleted overtime record with ID: " + overtimeId);
             } else {
                 logger.warning("No overtime record found with ID: " + overtimeId);
@@ -324,6 +344,49 @@ public class OvertimeDAO {
         return 0;
     }
     
+    /**
+     * Sums approved overtime per employee within a date range in one grouped query
+     * @param employeeIds Employees to include, or null for all employees
+     * @param periodStart Start date of the period (inclusive)
+     * @param periodEnd End date of the period (inclusive)
+     * @return Approved hours and record counts; employees without approved overtime are absent
+     * @throws IllegalArgumentException if the date range is invalid
+     * @throws RuntimeException if database error occurs
+     */
+    public OvertimeTotals getApprovedOvertimeTotals(Collection<Integer> employeeIds,
+                                                    LocalDate periodStart, LocalDate periodEnd) {
+        validateDateRange(periodStart, periodEnd);
+        
+        OvertimeTotals totals = new OvertimeTotals(employeeIds != null ? employeeIds.size() : 16);
+        if (employeeIds != null && employeeIds.isEmpty()) {
+            return totals;
+        }
+
+        String query = SELECT_APPROVED_TOTALS_BY_EMPLOYEE + EmployeeIdFilter.clause(employeeIds) +
+                " GROUP BY employee_id";
+
+        try (Connection conn = DBConnection.getConnection();
+             PreparedStatement stmt = conn.prepareStatement(query)) {
+
+            stmt.setDate(1, java.sql.Date.valueOf(periodStart));
+            stmt.setDate(2, java.sql.Date.valueOf(periodEnd));
+            EmployeeIdFilter.bind(stmt, 3, employeeIds);
+            
+            try (ResultSet rs = stmt.executeQuery()) {
+                while (rs.next()) {
+                    totals.add(rs.getInt(1), rs.getDouble(2), rs.getInt(3));
+                }
+            }
+
+        } catch (SQLException ex) {
+            logger.log(Level.SEVERE, 
+                String.format("Error totalling approved overtime between dates: %s and %s", periodStart, periodEnd), ex);
+            throw new RuntimeException("Failed to total approved overtime for date range", ex);
+        }
+
+        return totals;
+    }
+    
     // Private helper methods for validation
     
     private void validateEmployeeId(int employeeId) {
@@ -341,6 +404,34 @@ public class OvertimeDAO {
         }
     }
     
+    /**
+     * Reads the employee and date currently stored for an overtime row, before a write changes them
+     * @return Overtime with only the employee and date set, or null if the row does not exist
+     */
+    private Overtime getStoredKey(Connection conn, int overtimeId) throws SQLException {
+        try (PreparedStatement stmt = conn.prepareStatement(SELECT_EMPLOYEE_AND_DATE_BY_ID)) {
+            stmt.setInt(1, overtimeId);
+            try (ResultSet rs = stmt.executeQuery()) {
+                if (rs.next()) {
+                    Overtime stored = new Overtime();
+                    stored.setEmployeeId(rs.getInt("employee_id"));
+                    stored.setDate(rs.getDate("date"));
+                    return stored;
+                }
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Marks the payroll of an overtime row's employee and date as stale
+     */
+    private static void markDirty(Overtime overtime) {
+        if (overtime != null && overtime.getDate() != null) {
+            PayrollChangeTracker.getInstance().markDirty(overtime.getEmployeeId(), overtime.getDate().toLocalDate());
+        }
+    }
+    
     private void validateOvertimeForInsert(Overtime overtime) {
         if (overtime == null) {
             throw new IllegalArgumentException("Overtime cannot be null");
@@ -364,19 +455,14 @@ public class OvertimeDAO {
     }
     
     /**
-     * Maps ResultSet to Overtime object
-     * @param rs ResultSet from database
-     * @return Overtime object
-     * @throws SQLException if database access error occurs
+     * Maps overtime rows to Overtime objects
      */
-    private Overtime mapResultSetToOvertime(ResultSet rs) throws SQLException {
-        Overtime overtime = new Overtime();
-        overtime.setOvertimeId(rs.getInt("overtime_id"));
-        overtime.setEmployeeId(rs.getInt("employee_id"));
-        overtime.setDate(rs.getDate("date"));
-        overtime.setHours(rs.getDouble("hours"));
-        overtime.setReason(rs.getString("reason"));
-        overtime.setApproved(rs.getBoolean("approved"));
-        return overtime;
-    }
+    private static final OrdinalRowMapper<Overtime> OVERTIME_MAPPER = OrdinalRowMapper.builder(Overtime::new)
+            .intColumn("overtime_id", Overtime::setOvertimeId)
+            .intColumn("employee_id", Overtime::setEmployeeId)
+            .column("date", ResultSet::getDate, Overtime::setDate)
+            .doubleColumn("hours", Overtime::setHours)
+            .column("reason", ResultSet::getString, Overtime::setReason)
+            .booleanColumn("approved", Overtime::setApproved)
+            .build();
 }
\ No newline at end of file
@@ -1,62 +1,73 @@
 package dao;
 
 import util.DBConnection;
+import model.GovernmentContributions;
 import model.Payroll;
 import java.sql.*;
+import java.util.Collections;
+import java.util.List;
 import java.util.logging.Logger;
 import java.util.logging.Level;
 
 public class PayrollCalculatorDAO {
     private static final Logger logger = Logger.getLogger(PayrollCalculatorDAO.class.getName());
 
+    private final PayrollDAO payrollDAO = new PayrollDAO();
+    private final DeductionDAO deductionDAO = new DeductionDAO();
+    private final GovernmentContributionsDAO contributionsDAO = new GovernmentContributionsDAO();
+
+    /**
+     * Saves a calculated payroll, replacing any stored payroll for the same
+     * employee and period, together with its itemized deductions and
+     * government contributions, in one transaction. Delegates to
+     * {@link PayrollDAO#insertOrReplacePayrolls} so there is a single write path
+     * for payroll rows. On success the payroll's ID is set to the stored row's.
+     */
     public boolean saveCalculatedPayroll(Payroll payroll) {
-        String query = "INSERT INTO payroll (employee_id, period_start, period_end, monthly_rate, " +
-                "days_worked, overtime_hours, gross_pay, total_deductions, net_pay, " +
-                "gross_earnings, late_deduction, undertime_deduction, unpaid_leave_deduction, " +
-                "overtime_pay, rice_subsidy, phone_allowance, clothing_allowance, " +
-                "sss, philhealth, pagibig, tax) VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?)";
+        if (payroll == null || payroll.getPeriodStart() == null) {
+            logger.warning("Cannot save a payroll without a pay period");
+            return false;
+        }
 
-        try (Connection conn = DBConnection.getConnection();
-             PreparedStatement stmt = conn.prepareStatement(query, Statement.RETURN_GENERATED_KEYS)) {
+        List<Payroll> payrolls = Collections.singletonList(payroll);
+        GovernmentContributions contributions = new GovernmentContributions(payroll.getEmployeeId(),
+                payroll.getSss(), payroll.getPhilhealth(), payroll.getPagibig(), payroll.getTax());
+
+        try (UnitOfWork work = UnitOfWork.begin()) {
+            contributionsDAO.replaceContributionsForPeriod(work, Collections.singletonList(contributions),
+                    payroll.getPeriodStart().toLocalDate());
+            payrollDAO.insertOrReplacePayrolls(work, payrolls);
+            deductionDAO.replacePayrollDeductions(work, payrolls);
+            int payrollId = getStoredPayrollId(work, payroll);
+            work.commit();
+            payroll.setPayrollId(payrollId);
+            return true;
+        } catch (SQLException | RuntimeException ex) {
+            logger.log(Level.SEVERE, "Error saving calculated payroll", ex);
+        }
+
+        return false;
+    }
 
+    /**
+     * Reads back the ID of the row an upsert inserted or replaced. The generated
+     * key of an upsert is not reliable when the row already existed.
+     */
+    private int getStoredPayrollId(UnitOfWork work, Payroll payroll) throws SQLException {
+        String query = "SELECT payroll_id FROM payroll WHERE employee_id = ? AND period_start = ? AND period_end = ?";
+
+        try (PreparedStatement stmt = work.getConnection().prepareStatement(query)) {
             stmt.setInt(1, payroll.getEmployeeId());
             stmt.setDate(2, payroll.getPeriodStart());
             stmt.setDate(3, payroll.getPeriodEnd());
-            stmt.setDouble(4, payroll.getMonthlyRate());
-            stmt.setInt(5, payroll.getDaysWorked());
-            stmt.setDouble(6, payroll.getOvertimeHours());
-            stmt.setDouble(7, payroll.getGrossPay());
-            stmt.setDouble(8, payroll.getTotalDeductions());
-            stmt.setDouble(9, payroll.getNetPay());
-            stmt.setDouble(10, payroll.getGrossEarnings());
-            stmt.setDouble(11, payroll.getLateDeduction());
-            stmt.setDouble(12, payroll.getUndertimeDeduction());
-            stmt.setDouble(13, payroll.getUnpaidLeaveDeduction());
-            stmt.setDouble(14, payroll.getOvertimePay());
-            stmt.setDouble(15, payroll.getRiceSubsidy());
-            stmt.setDouble(16, payroll.getPhoneAllowance());
-            stmt.setDouble(17, payroll.getClothingAllowance());
-            stmt.setDouble(18, payroll.getSss());
-            stmt.setDouble(19, payroll.getPhilhealth());
-            stmt.setDouble(20, payroll.getPagibig());
-            stmt.setDouble(21, payroll.getTax());
-
-            int result = stmt.executeUpdate();
-
-            if (result > 0) {
-                try (ResultSet keys = stmt.getGeneratedKeys()) {
-                    if (keys.next()) {
-                        payroll.setPayrollId(keys.getInt(1));
-                    }
+
+            try (ResultSet rs = stmt.executeQuery()) {
+                if (rs.next()) {
+                    return rs.getInt(1);
                 }
-                return true;
             }
-
-        } catch (SQLException ex) {
-            logger.log(Level.SEVERE, "Error saving calculated payroll", ex);
         }
-
-        return false;
+        throw new SQLException("Saved payroll for employee " + payroll.getEmployeeId() + " was not found");
     }
 
     public double calculateTotalEarnings(int employeeId, Date startDate, Date endDate) {
@@ -1,6 +1,8 @@
 package dao;
 
+import util.ConfigurationManager;
 import util.DBConnection;
+import model.Money;
 import model.Payroll;
 import java.sql.*;
 import java.time.LocalDate;
@@ -29,12 +31,30 @@ public class PayrollDAO {
         "clothing_allowance, sss, philhealth, pagibig, tax FROM payroll " +
         "WHERE employee_id = ? AND period_start >= ? AND period_end <= ? ORDER BY period_start DESC";
     
+    private static final String SELECT_BY_PERIOD = 
+        "SELECT payroll_id, employee_id, period_start, period_end, monthly_rate, days_worked, " +
+        "overtime_hours, gross_pay, total_deductions, net_pay, gross_earnings, late_deduction, " +
+        "undertime_deduction, unpaid_leave_deduction, overtime_pay, rice_subsidy, phone_allowance, " +
+        "clothing_allowance, sss, philhealth, pagibig, tax FROM payroll " +
+        "WHERE period_start = ? AND period_end = ? ORDER BY employee_id";
+    
     private static final String INSERT_PAYROLL = 
         "INSERT INTO payroll (employee_id, period_start, period_end, monthly_rate, days_worked, " +
         "overtime_hours, gross_pay, total_deductions, net_pay, gross_earnings, late_deduction, " +
         "undertime_deduction, unpaid_leave_deduction, overtime_pay, rice_subsidy, phone_allowance, " +
         "clothing_allowance, sss, philhealth, pagibig, tax) VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?)";
     
+    // Keyed on unique_payroll_period (employee_id, period_start, period_end)
+    private static final String UPSERT_PAYROLL = INSERT_PAYROLL +
+        " ON DUPLICATE KEY UPDATE monthly_rate = VALUES(monthly_rate), days_worked = VALUES(days_worked), " +
+        "overtime_hours = VALUES(overtime_hours), gross_pay = VALUES(gross_pay), " +
+        "total_deductions = VALUES(total_deductions), net_pay = VALUES(net_pay), " +
+        "gross_earnings = VALUES(gross_earnings), late_deduction = VALUES(late_deduction), " +
+        "undertime_deduction = VALUES(undertime_deduction), unpaid_leave_deduction = VALUES(unpaid_leave_deduction), " +
+        "overtime_pay = VALUES(overtime_pay), rice_subsidy = VALUES(rice_subsidy), " +
+        "phone_allowance = VALUES(phone_allowance), clothing_allowance = VALUES(clothing_allowance), " +
+        "sss = VALUES(sss), philhealth = VALUES(philhealth), pagibig = VALUES(pagibig), tax = VALUES(tax)";
+    
     private static final String UPDATE_PAYROLL = 
         "UPDATE payroll SET employee_id = ?, period_start = ?, period_end = ?, monthly_rate = ?, " +
         "days_worked = ?, overtime_hours = ?, gross_pay = ?, total_deductions = ?, net_pay = ?, " +
@@ -68,8 +88,9 @@ public class PayrollDAO {
             stmt.setInt(1, empId);
             
             try (ResultSet rs = stmt.executeQuery()) {
+                RowMapper<Payroll> mapper = PAYROLL_MAPPER.bind(rs);
                 while (rs.next()) {
-                    Payroll payroll = mapResultSetToPayroll(rs);
+                    Payroll payroll = mapper.map(rs);
                     payrollList.add(payroll);
                 }
             }
@@ -107,8 +128,9 @@ public class PayrollDAO {
             stmt.setDate(3, java.sql.Date.valueOf(periodEnd));
             
             try (ResultSet rs = stmt.executeQuery()) {
+                RowMapper<Payroll> mapper = PAYROLL_MAPPER.bind(rs);
                 while (rs.next()) {
-                    Payroll payroll = mapResultSetToPayroll(rs);
+                    Payroll payroll = mapper.map(rs);
                     payrollList.add(payroll);
                 }
             }
@@ -121,6 +143,40 @@ public class PayrollDAO {
         return payrollList;
     }
 
+    /**
+     * Retrieves the stored payroll of every employee for exactly the given period
+     * @param periodStart Start date
+     * @param periodEnd End date
+     * @return List of payroll records ordered by employee ID
+     */
+    public List<Payroll> getPayrollsForPeriod(LocalDate periodStart, LocalDate periodEnd) {
+        if (periodStart == null || periodEnd == null) {
+            throw new IllegalArgumentException("Period dates cannot be null");
+        }
+        
+        List<Payroll> payrollList = new ArrayList<>();
+
+        try (Connection conn = DBConnection.getConnection();
+             PreparedStatement stmt = conn.prepareStatement(SELECT_BY_PERIOD)) {
+
+            stmt.setDate(1, java.sql.Date.valueOf(periodStart));
+            stmt.setDate(2, java.sql.Date.valueOf(periodEnd));
+            
+            try (ResultSet rs = stmt.executeQuery()) {
+                RowMapper<Payroll> mapper = PAYROLL_MAPPER.bind(rs);
+                while (rs.next()) {
+                    payrollList.add(mapper.map(rs));
+                }
+            }
+
+        } catch (SQLException ex) {
+            logger.log(Level.SEVERE, "Error retrieving payroll records for period", ex);
+            throw new RuntimeException("Failed to retrieve payroll records", ex);
+        }
+
+        return payrollList;
+    }
+
     /**
      * Inserts a new payroll record
      * @param payroll Payroll object to insert
@@ -157,6 +213,95 @@ public class PayrollDAO {
         }
     }
 
+    /**
+     * Inserts payroll records, replacing any stored record for the same employee
+     * and period, so re-running a period is idempotent. Rows are sent as JDBC
+     * batches and committed one chunk at a time; if a chunk fails it is rolled
+     * back and earlier chunks stay committed, and re-running the call is safe.
+     * Generated IDs are not read back.
+     * @param payrolls Payroll records to write
+     * @return Number of records written
+     */
+    public int insertOrReplacePayrolls(Collection<Payroll> payrolls) {
+        if (payrolls == null || payrolls.isEmpty()) {
+            return 0;
+        }
+        
+        int chunkSize = Math.max(1, ConfigurationManager.getInstance().getBatchWriteChunkSize());
+        int written = 0;
+        
+        try (UnitOfWork work = UnitOfWork.begin()) {
+            List<Payroll> chunk = new ArrayList<>(Math.min(chunkSize, payrolls.size()));
+            for (Payroll payroll : payrolls) {
+                chunk.add(payroll);
+                if (chunk.size() == chunkSize) {
+                    upsertPayrolls(work.getConnection(), chunk);
+                    work.commit();
+                    written += chunk.size();
+                    chunk.clear();
+                }
+            }
+            if (!chunk.isEmpty()) {
+                upsertPayrolls(work.getConnection(), chunk);
+                work.commit();
+                written += chunk.size();
+            }
+        } catch (SQLException ex) {
+            logger.log(Level.SEVERE, "Error writing payroll batch after " + written + " records", ex);
+            throw new RuntimeException("Failed to save payroll records", ex);
+        }
+        
+        return written;
+    }
+
+    /**
+     * Inserts or replaces payroll records as part of a unit of work. Nothing is
+     * committed; the caller commits the unit of work.
+     * @param work Unit of work to write through
+     * @param payrolls Payroll records to write
+     * @return Number of records written
+     */
+    public int insertOrReplacePayrolls(UnitOfWork work, Collection<Payroll> payrolls) {
+        if (work == null) {
+            throw new IllegalArgumentException("Unit of work cannot be null");
+        }
+        if (payrolls == null || payrolls.isEmpty()) {
+            return 0;
+        }
+        
+        try {
+            upsertPayrolls(work.getConnection(), payrolls);
+            return payrolls.size();
+        } catch (SQLException ex) {
+            logger.log(Level.SEVERE, "Error writing payroll batch", ex);
+            throw new RuntimeException("Failed to save payroll records", ex);
+        }
+    }
+
+    /**
+     * Sends upserts in JDBC batches of the configured chunk size without committing
+     */
+    private void upsertPayrolls(Connection conn, Collection<Payroll> payrolls) throws SQLException {
+        int chunkSize = Math.max(1, ConfigurationManager.getInstance().getBatchWriteChunkSize());
+        try (PreparedStatement stmt = conn.prepareStatement(UPSERT_PAYROLL)) {
+            int pending = 0;
+            for (Payroll payroll : payrolls) {
+                if (payroll == null) {
+                    throw new IllegalArgumentException("Payroll cannot be null");
+                }
+                setPayrollParameters(stmt, payroll);
+                stmt.addBatch();
+                if (++pending == chunkSize) {
+                    stmt.executeBatch();
+                    pending = 0;
+                }
+            }
+            if (pending > 0) {
+                stmt.executeBatch();
+            }
+        }
+    }
+
     /**
      * Updates an existing payroll record
      * @param payroll Payroll object with updated information
@@ -226,7 +371,7 @@ public class PayrollDAO {
             
             try (ResultSet rs = stmt.executeQuery()) {
                 if (rs.next()) {
-                    return mapResultSetToPayroll(rs);
+                    return PAYROLL_MAPPER.mapRow(rs);
                 }
             }
             
@@ -239,7 +384,8 @@ public class PayrollDAO {
     }
 
     /**
-     * Sets payroll parameters for PreparedStatement
+     * Sets payroll parameters for PreparedStatement. Money columns are written
+     * as exact decimals from the payroll's centavo amounts.
      * @param stmt PreparedStatement
      * @param payroll Payroll object
      * @throws SQLException if database error occurs
@@ -251,53 +397,48 @@ public class PayrollDAO {
         stmt.setDouble(4, payroll.getMonthlyRate());
         stmt.setInt(5, payroll.getDaysWorked());
         stmt.setDouble(6, payroll.getOvertimeHours());
-        stmt.setDouble(7, payroll.getGrossPay());
-        stmt.setDouble(8, payroll.getTotalDeductions());
-        stmt.setDouble(9, payroll.getNetPay());
-        stmt.setDouble(10, payroll.getGrossEarnings());
-        stmt.setDouble(11, payroll.getLateDeduction());
-        stmt.setDouble(12, payroll.getUndertimeDeduction());
-        stmt.setDouble(13, payroll.getUnpaidLeaveDeduction());
-        stmt.setDouble(14, payroll.getOvertimePay());
-        stmt.setDouble(15, payroll.getRiceSubsidy());
-        stmt.setDouble(16, payroll.getPhoneAllowance());
-        stmt.setDouble(17, payroll.getClothingAllowance());
-        stmt.setDouble(18, payroll.getSss());
-        stmt.setDouble(19, payroll.getPhilhealth());
-        stmt.setDouble(20, payroll.getPagibig());
-        stmt.setDouble(21, payroll.getTax());
+        stmt.setBigDecimal(7, Money.toBigDecimal(payroll.getGrossPayCentavos()));
+        stmt.setBigDecimal(8, Money.toBigDecimal(payroll.getTotalDeductionsCentavos()));
+        stmt.setBigDecimal(9, Money.toBigDecimal(payroll.getNetPayCentavos()));
+        stmt.setBigDecimal(10, Money.toBigDecimal(payroll.getGrossEarningsCentavos()));
+        stmt.setBigDecimal(11, Money.toBigDecimal(payroll.getLateDeductionCentavos()));
+        stmt.setBigDecimal(12, Money.toBigDecimal(payroll.getUndertimeDeductionCentavos()));
+        stmt.setBigDecimal(13, Money.toBigDecimal(payroll.getUnpaidLeaveDeductionCentavos()));
+        stmt.setBigDecimal(14, Money.toBigDecimal(payroll.getOvertimePayCentavos()));
+        stmt.setBigDecimal(15, Money.toBigDecimal(payroll.getRiceSubsidyCentavos()));
+        stmt.setBigDecimal(16, Money.toBigDecimal(payroll.getPhoneAllowanceCentavos()));
+        stmt.setBigDecimal(17, Money.toBigDecimal(payroll.getClothingAllowanceCentavos()));
+        stmt.setBigDecimal(18, Money.toBigDecimal(payroll.getSssCentavos()));
+        stmt.setBigDecimal(19, Money.toBigDecimal(payroll.getPhilhealthCentavos()));
+        stmt.setBigDecimal(20, Money.toBigDecimal(payroll.getPagibigCentavos()));
+        stmt.setBigDecimal(21, Money.toBigDecimal(payroll.getTaxCentavos()));
     }
 
     /**
-     * Maps ResultSet to Payroll object
-     * @param rs ResultSet from database
-     * @return Payroll object
-     * @throws SQLException if database access error occurs
+     * Maps payroll rows to Payroll objects
      */
-    private Payroll mapResultSetToPayroll(ResultSet rs) throws SQLException {
-        Payroll payroll = new Payroll();
-        payroll.setPayrollId(rs.getInt("payroll_id"));
-        payroll.setEmployeeId(rs.getInt("employee_id"));
-        payroll.setPeriodStart(rs.getDate("period_start"));
-        payroll.setPeriodEnd(rs.getDate("period_end"));
-        payroll.setMonthlyRate(rs.getDouble("monthly_rate"));
-        payroll.setDaysWorked(rs.getInt("days_worked"));
-        payroll.setOvertimeHours(rs.getDouble("overtime_hours"));
-        payroll.setGrossPay(rs.getDouble("gross_pay"));
-        payroll.setTotalDeductions(rs.getDouble("total_deductions"));
-        payroll.setNetPay(rs.getDouble("net_pay"));
-        payroll.setGrossEarnings(rs.getDouble("gross_earnings"));
-        payroll.setLateDeduction(rs.getDouble("late_deduction"));
-        payroll.setUndertimeDeduction(rs.getDouble("undertime_deduction"));
-        payroll.setUnpaidLeaveDeduction(rs.getDouble("unpaid_leave_deduction"));
-        payroll.setOvertimePay(rs.getDouble("overtime_pay"));
-        payroll.setRiceSubsidy(rs.getDouble("rice_subsidy"));
-        payroll.setPhoneAllowance(rs.getDouble("phone_allowance"));
-        payroll.setClothingAllowance(rs.getDouble("clothing_allowance"));
-        payroll.setSss(rs.getDouble("sss"));
-        payroll.setPhilhealth(rs.getDouble("philhealth"));
-        payroll.setPagibig(rs.getDouble("pagibig"));
-        payroll.setTax(rs.getDouble("tax"));
-        return payroll;
-    }
+    private static final OrdinalRowMapper<Payroll> PAYROLL_MAPPER = OrdinalRowMapper.builder(Payroll::new)
+            .intColumn("payroll_id", Payroll::setPayrollId)
+            .intColumn("employee_id", Payroll::setEmployeeId)
+            .column("period_start", ResultSet::getDate, Payroll::setPeriodStart)
+            .column("period_end", ResultSet::getDate, Payroll::setPeriodEnd)
+            .doubleColumn("monthly_rate", Payroll::setMonthlyRate)
+            .intColumn("days_worked", Payroll::setDaysWorked)
+            .doubleColumn("overtime_hours", Payroll::setOvertimeHours)
+            .moneyColumn("gross_pay", Payroll::setGrossPayCentavos)
+            .moneyColumn("total_deductions", Payroll::setTotalDeductionsCentavos)
+            .moneyColumn("net_pay", Payroll::setNetPayCentavos)
+            .moneyColumn("gross_earnings", Payroll::setGrossEarningsCentavos)
+            .moneyColumn("late_deduction", Payroll::setLateDeductionCentavos)
+            .moneyColumn("undertime_deduction", Payroll::setUndertimeDeductionCentavos)
+            .moneyColumn("unpaid_leave_deduction", Payroll::setUnpaidLeaveDeductionCentavos)
+            .moneyColumn("overtime_pay", Payroll::setOvertimePayCentavos)
+            .moneyColumn("rice_subsidy", Payroll::setRiceSubsidyCentavos)
+            .moneyColumn("phone_allowance", Payroll::setPhoneAllowanceCentavos)
+            .moneyColumn("clothing_allowance", Payroll::setClothingAllowanceCentavos)
+            .moneyColumn("sss", Payroll::setSssCentavos)
+            .moneyColumn("philhealth", Payroll::setPhilhealthCentavos)
+            .moneyColumn("pagibig", Payroll::setPagibigCentavos)
+            .moneyColumn("tax", Payroll::setTaxCentavos)
+            .build();
 }
\ No newline at end of file
@@ -17,10 +17,7 @@ public class PositionDAO {
             ResultSet rs = stmt.executeQuery();
 
             if (rs.next()) {
-                Position p = new Position();
-                p.setPositionId(rs.getInt("position_id"));
-                p.setPositionName(rs.getString("position_name"));
-                return p;
+                return POSITION_MAPPER.mapRow(rs);
             }
 
         } catch (SQLException ex) {
@@ -29,4 +26,9 @@ public class PositionDAO {
 
         return null;
     }
+
+    private static final OrdinalRowMapper<Position> POSITION_MAPPER = OrdinalRowMapper.builder(Position::new)
+            .intColumn("position_id", Position::setPositionId)
+            .column("position_name", ResultSet::getString, Position::setPositionName)
+            .build();
 }
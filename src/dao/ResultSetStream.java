@@ -0,0 +1,89 @@
+package dao;
+
+import util.ConfigurationManager;
+import util.DBConnection;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+/**
+ * Runs a query on a streaming connection and exposes its rows as a lazy
+ * {@link Stream}. Rows are fetched from the server in blocks of
+ * {@link ConfigurationManager#getStreamingFetchSize()} as the stream is
+ * consumed, so memory use does not depend on the size of the result.
+ *
+ * The stream holds an open connection: use it in try-with-resources.
+ */
+final class ResultSetStream {
+
+    /**
+     * Binds the parameters of a prepared statement
+     */
+    @FunctionalInterface
+    interface Binder {
+        void bind(PreparedStatement stmt) throws SQLException;
+    }
+
+    private ResultSetStream() {
+    }
+
+    static <T> Stream<T> of(String query, Binder binder, OrdinalRowMapper<T> rowMapper) {
+        Connection conn = null;
+        PreparedStatement stmt = null;
+        ResultSet rs = null;
+        RowMapper<T> mapper;
+        try {
+            conn = DBConnection.getStreamingConnection();
+            stmt = conn.prepareStatement(query, ResultSet.TYPE_FORWARD_ONLY, ResultSet.CONCUR_READ_ONLY);
+            stmt.setFetchSize(ConfigurationManager.getInstance().getStreamingFetchSize());
+            binder.bind(stmt);
+            rs = stmt.executeQuery();
+            mapper = rowMapper.bind(rs);
+        } catch (SQLException | RuntimeException ex) {
+            closeQuietly(rs, stmt, conn);
+            throw ex instanceof RuntimeException ? (RuntimeException) ex
+                    : new RuntimeException("Failed to open result stream", ex);
+        }
+
+        final ResultSet rows = rs;
+        final PreparedStatement statement = stmt;
+        final Connection connection = conn;
+        final RowMapper<T> rowReader = mapper;
+        Spliterator<T> spliterator = new Spliterators.AbstractSpliterator<T>(
+                Long.MAX_VALUE, Spliterator.ORDERED | Spliterator.NONNULL) {
+            @Override
+            public boolean tryAdvance(Consumer<? super T> action) {
+                try {
+                    if (!rows.next()) {
+                        return false;
+                    }
+                    action.accept(rowReader.map(rows));
+                    return true;
+                } catch (SQLException ex) {
+                    throw new RuntimeException("Failed to read result stream", ex);
+                }
+            }
+        };
+        return StreamSupport.stream(spliterator, false)
+                .onClose(() -> closeQuietly(rows, statement, connection));
+    }
+
+    private static void closeQuietly(AutoCloseable... resources) {
+        for (AutoCloseable resource : resources) {
+            if (resource != null) {
+                try {
+                    resource.close();
+                } catch (Exception ignored) {
+                    // Closing is best effort; the connection is discarded either way
+                }
+            }
+        }
+    }
+}
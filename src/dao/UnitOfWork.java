@@ -0,0 +1,93 @@
+package dao;
+
+import util.DBConnection;
+
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+/**
+ * One database transaction shared by several DAO calls. The DAO methods that
+ * take a unit of work write through its connection and never commit, so
+ * everything written between {@link #begin()} and {@link #commit()} is stored
+ * together or not at all:
+ *
+ * <pre>
+ * try (UnitOfWork work = UnitOfWork.begin()) {
+ *     payrollDAO.insertOrReplacePayrolls(work, payrolls);
+ *     deductionDAO.replacePayrollDeductions(work, payrolls);
+ *     work.commit();
+ * }
+ * </pre>
+ *
+ * Closing without committing rolls back and returns the connection to the pool.
+ * A unit of work belongs to one thread at a time.
+ */
+public final class UnitOfWork implements AutoCloseable {
+    private static final Logger LOGGER = Logger.getLogger(UnitOfWork.class.getName());
+
+    private final Connection connection;
+    private boolean closed;
+
+    private UnitOfWork(Connection connection) {
+        this.connection = connection;
+    }
+
+    /**
+     * Borrows a connection and starts a transaction on it
+     */
+    public static UnitOfWork begin() throws SQLException {
+        Connection conn = DBConnection.getConnection();
+        try {
+            conn.setAutoCommit(false);
+        } catch (SQLException e) {
+            conn.close();
+            throw e;
+        }
+        return new UnitOfWork(conn);
+    }
+
+    /**
+     * Connection the participating DAOs write through
+     */
+    Connection getConnection() {
+        if (closed) {
+            throw new IllegalStateException("Unit of work is already closed");
+        }
+        return connection;
+    }
+
+    /**
+     * Commits everything written so far. Later writes start a new transaction
+     * on the same connection.
+     */
+    public void commit() throws SQLException {
+        getConnection().commit();
+    }
+
+    /**
+     * Discards everything written since the last commit
+     */
+    public void rollback() throws SQLException {
+        getConnection().rollback();
+    }
+
+    /**
+     * Rolls back uncommitted writes and returns the connection to the pool
+     */
+    @Override
+    public void close() throws SQLException {
+        if (closed) {
+            return;
+        }
+        closed = true;
+        try {
+            connection.rollback();
+        } catch (SQLException e) {
+            LOGGER.log(Level.WARNING, "Error rolling back unit of work", e);
+        } finally {
+            connection.close();
+        }
+    }
+}
@@ -80,7 +80,12 @@ public class Attendance {
     }
 
     public double getWorkHours() {
-        return getWorkDuration().toMinutes() / 60.0;
+        if (logIn == null || logOut == null) {
+            return 0.0;
+        }
+        // Whole minutes between the two times, without building a Duration
+        int seconds = logOut.toLocalTime().toSecondOfDay() - logIn.toLocalTime().toSecondOfDay();
+        return (seconds / 60) / 60.0;
     }
 
     public boolean isFullDay() {
@@ -0,0 +1,123 @@
+package model;
+
+import java.time.LocalDate;
+
+/**
+ * One row of a government contribution or withholding tax table.
+ * The amount for a base within the bracket is
+ * {@code fixedAmount + (base - excessOver) * rate}, clamped to the optional
+ * minimum and maximum.
+ */
+public class ContributionBracket {
+    public static final String TYPE_SSS = "SSS";
+    public static final String TYPE_PHILHEALTH = "PHILHEALTH";
+    public static final String TYPE_PAGIBIG = "PAGIBIG";
+    public static final String TYPE_TAX = "TAX";
+
+    private String contributionType;
+    private LocalDate effectiveDate;
+    private Double upperBound;
+    private double fixedAmount;
+    private double rate;
+    private double excessOver;
+    private Double minAmount;
+    private Double maxAmount;
+
+    // Constructors
+    public ContributionBracket() {}
+
+    public ContributionBracket(String contributionType, LocalDate effectiveDate, Double upperBound,
+                               double fixedAmount, double rate, double excessOver,
+                               Double minAmount, Double maxAmount) {
+        this.contributionType = contributionType;
+        this.effectiveDate = effectiveDate;
+        this.upperBound = upperBound;
+        this.fixedAmount = fixedAmount;
+        this.rate = rate;
+        this.excessOver = excessOver;
+        this.minAmount = minAmount;
+        this.maxAmount = maxAmount;
+    }
+
+    // Getters and Setters
+    public String getContributionType() {
+        return contributionType;
+    }
+
+    public void setContributionType(String contributionType) {
+        this.contributionType = contributionType;
+    }
+
+    public LocalDate getEffectiveDate() {
+        return effectiveDate;
+    }
+
+    public void setEffectiveDate(LocalDate effectiveDate) {
+        this.effectiveDate = effectiveDate;
+    }
+
+    /**
+     * @return inclusive upper bound of the bracket, or null for the open-ended top bracket
+     */
+    public Double getUpperBound() {
+        return upperBound;
+    }
+
+    public void setUpperBound(Double upperBound) {
+        this.upperBound = upperBound;
+    }
+
+    public double getFixedAmount() {
+        return fixedAmount;
+    }
+
+    public void setFixedAmount(double fixedAmount) {
+        this.fixedAmount = fixedAmount;
+    }
+
+    public double getRate() {
+        return rate;
+    }
+
+    public void setRate(double rate) {
+        this.rate = rate;
+    }
+
+    public double getExcessOver() {
+        return excessOver;
+    }
+
+    public void setExcessOver(double excessOver) {
+        this.excessOver = excessOver;
+    }
+
+    public Double getMinAmount() {
+        return minAmount;
+    }
+
+    public void setMinAmount(Double minAmount) {
+        this.minAmount = minAmount;
+    }
+
+    public Double getMaxAmount() {
+        return maxAmount;
+    }
+
+    public void setMaxAmount(Double maxAmount) {
+        this.maxAmount = maxAmount;
+    }
+
+    @Override
+    public String toString() {
+        return "ContributionBracket{" +
+                "type=" + contributionType +
+                ", effective=" + effectiveDate +
+                ", upperBound=" + upperBound +
+                ", fixed=" + fixedAmount +
+                ", rate=" + rate +
+                ", excessOver=" + excessOver +
+                ", min=" + minAmount +
+                ", max=" + maxAmount +
+                '}';
+    }
+}
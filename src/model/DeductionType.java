@@ -0,0 +1,56 @@
+package model;
+
+import java.util.function.ToLongFunction;
+
+/**
+ * Deduction line items a payroll calculation produces. Each type is stored in
+ * the deductions table under its {@link Deduction} type code, and knows which
+ * payroll amount it itemizes.
+ */
+public enum DeductionType {
+    LATE(Deduction.TYPE_LATE, Payroll::getLateDeductionCentavos),
+    UNDERTIME(Deduction.TYPE_UNDERTIME, Payroll::getUndertimeDeductionCentavos),
+    UNPAID_LEAVE(Deduction.TYPE_UNPAID_LEAVE, Payroll::getUnpaidLeaveDeductionCentavos),
+    SSS(Deduction.TYPE_SSS, Payroll::getSssCentavos),
+    PHILHEALTH(Deduction.TYPE_PHILHEALTH, Payroll::getPhilhealthCentavos),
+    PAGIBIG(Deduction.TYPE_PAGIBIG, Payroll::getPagibigCentavos),
+    TAX(Deduction.TYPE_TAX, Payroll::getTaxCentavos);
+
+    private static final DeductionType[] VALUES = values();
+
+    private final String code;
+    private final ToLongFunction<Payroll> amount;
+
+    DeductionType(String code, ToLongFunction<Payroll> amount) {
+        this.code = code;
+        this.amount = amount;
+    }
+
+    /**
+     * @return type code stored in the deductions table
+     */
+    public String getCode() {
+        return code;
+    }
+
+    /**
+     * @return this type's amount in the payroll, in centavos
+     */
+    public long amountOf(Payroll payroll) {
+        return amount.applyAsLong(payroll);
+    }
+
+    /**
+     * @return the type stored under a code, ignoring case, or null for other deductions
+     */
+    public static DeductionType fromCode(String code) {
+        if (code != null) {
+            for (DeductionType type : VALUES) {
+                if (type.code.equalsIgnoreCase(code.trim())) {
+                    return type;
+                }
+            }
+        }
+        return null;
+    }
+}
@@ -83,6 +83,29 @@ public class Employee extends Person implements Payable, AttendanceTrackable, Le
         this.clothingAllowance = 0.0;
     }
     
+    /**
+     * Copy constructor, e.g. for handing out a cached employee callers may modify
+     */
+    public Employee(Employee other) {
+        super(other);
+        this.employeeId = other.employeeId;
+        this.position = other.position;
+        this.status = other.status;
+        this.immediateSupervisor = other.immediateSupervisor;
+        this.basicSalary = other.basicSalary;
+        this.hireDate = other.hireDate;
+        this.department = other.department;
+        this.sssNumber = other.sssNumber;
+        this.philhealthNumber = other.philhealthNumber;
+        this.tinNumber = other.tinNumber;
+        this.pagibigNumber = other.pagibigNumber;
+        this.riceSubsidy = other.riceSubsidy;
+        this.phoneAllowance = other.phoneAllowance;
+        this.clothingAllowance = other.clothingAllowance;
+        this.grossSemiMonthlyRate = other.grossSemiMonthlyRate;
+        this.hourlyRate = other.hourlyRate;
+    }
+    
     // Implementing abstract methods from Person (POLYMORPHISM)
     @Override
     public String getDisplayName() {
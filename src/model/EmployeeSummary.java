@@ -0,0 +1,25 @@
+package model;
+
+/**
+ * Read-only projection of an employee for tables and comboboxes.
+ * Carries only the columns list views show, so loading it skips the
+ * government IDs, allowances and rates a full {@link Employee} maps.
+ * Load the full employee by ID when it is opened or edited.
+ */
+public record EmployeeSummary(int employeeId, String lastName, String firstName,
+                              String position, String status, String phoneNumber,
+                              double basicSalary) {
+
+    /**
+     * @return First and last name, formatted like {@link Person#getFullName()}
+     */
+    public String fullName() {
+        if (firstName == null || lastName == null) return "Unknown";
+        return firstName.trim() + " " + lastName.trim();
+    }
+
+    @Override
+    public String toString() {
+        return fullName();
+    }
+}
@@ -4,6 +4,8 @@
  */
 package model;
 
+import java.time.LocalDate;
+
 /**
  * Government Contributions model class
  * Represents SSS, PhilHealth, Pag-IBIG, and Tax contributions
@@ -15,6 +17,7 @@ public class GovernmentContributions {
     private double philhealth;
     private double pagibig;
     private double tax;
+    private LocalDate contributionPeriod;
 
     // Constructors
     public GovernmentContributions() {}
@@ -76,6 +79,17 @@ public class GovernmentContributions {
         this.tax = tax;
     }
 
+    /**
+     * @return start of the pay period the contributions were deducted in, or null if not tied to a period
+     */
+    public LocalDate getContributionPeriod() {
+        return contributionPeriod;
+    }
+
+    public void setContributionPeriod(LocalDate contributionPeriod) {
+        this.contributionPeriod = contributionPeriod;
+    }
+
     // Utility methods
     public double getTotalContributions() {
         return sss + philhealth + pagibig + tax;
@@ -90,6 +104,7 @@ public class GovernmentContributions {
                 ", philhealth=" + philhealth +
                 ", pagibig=" + pagibig +
                 ", tax=" + tax +
+                ", contributionPeriod=" + contributionPeriod +
                 '}';
     }
 }
\ No newline at end of file
@@ -0,0 +1,144 @@
+package model;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+
+/**
+ * Fixed-point peso amount stored as a whole number of centavos.
+ *
+ * Rounding rule: conversions from floating point round half away from zero to
+ * the nearest centavo (1.005 becomes 1.01, -1.005 becomes -1.01), tolerating
+ * the binary representation error of decimal literals. Sums and differences
+ * of centavo amounts are exact.
+ *
+ * Hot paths such as payroll totals use the static {@code long} helpers directly
+ * so they do not allocate; the value object is for code that passes amounts around.
+ */
+public final class Money implements Comparable<Money> {
+    public static final Money ZERO = new Money(0L);
+
+    private static final int SCALE = 2;
+    private static final long CENTAVOS_PER_PESO = 100L;
+    // Slack for doubles like 1.005 that are stored as 1.00499999...
+    private static final double HALF_TOLERANCE = 1e-6;
+
+    private final long centavos;
+
+    private Money(long centavos) {
+        this.centavos = centavos;
+    }
+
+    public static Money ofCentavos(long centavos) {
+        return centavos == 0 ? ZERO : new Money(centavos);
+    }
+
+    public static Money of(double pesos) {
+        return ofCentavos(toCentavos(pesos));
+    }
+
+    public static Money of(BigDecimal pesos) {
+        return ofCentavos(fromBigDecimal(pesos));
+    }
+
+    // Primitive helpers
+
+    /**
+     * @return pesos rounded half away from zero to whole centavos
+     * @throws ArithmeticException if the amount is not finite or does not fit
+     */
+    public static long toCentavos(double pesos) {
+        return roundHalfUp(pesos * CENTAVOS_PER_PESO);
+    }
+
+    /**
+     * Rounds a centavo quantity with fractional part, e.g. a rate applied to an amount
+     */
+    public static long roundHalfUp(double centavos) {
+        if (Double.isNaN(centavos) || Double.isInfinite(centavos)) {
+            throw new ArithmeticException("Amount is not a finite number: " + centavos);
+        }
+        double magnitude = Math.floor(Math.abs(centavos) + 0.5 + HALF_TOLERANCE);
+        if (magnitude >= Long.MAX_VALUE) {
+            throw new ArithmeticException("Amount out of range: " + centavos);
+        }
+        long rounded = (long) magnitude;
+        return centavos < 0 ? -rounded : rounded;
+    }
+
+    public static double toPesos(long centavos) {
+        return centavos / (double) CENTAVOS_PER_PESO;
+    }
+
+    /**
+     * @return centavos times the factor, rounded half away from zero
+     */
+    public static long multiply(long centavos, double factor) {
+        return roundHalfUp(centavos * factor);
+    }
+
+    public static BigDecimal toBigDecimal(long centavos) {
+        return BigDecimal.valueOf(centavos, SCALE);
+    }
+
+    /**
+     * @return the amount in centavos, rounded half up, or 0 for null
+     */
+    public static long fromBigDecimal(BigDecimal pesos) {
+        if (pesos == null) {
+            return 0L;
+        }
+        return pesos.setScale(SCALE, RoundingMode.HALF_UP).unscaledValue().longValueExact();
+    }
+
+    // Value operations
+
+    public long getCentavos() {
+        return centavos;
+    }
+
+    public Money plus(Money other) {
+        return ofCentavos(Math.addExact(centavos, other.centavos));
+    }
+
+    public Money minus(Money other) {
+        return ofCentavos(Math.subtractExact(centavos, other.centavos));
+    }
+
+    public Money times(double factor) {
+        return ofCentavos(multiply(centavos, factor));
+    }
+
+    public boolean isNegative() {
+        return centavos < 0;
+    }
+
+    public double toDouble() {
+        return toPesos(centavos);
+    }
+
+    public BigDecimal toBigDecimal() {
+        return toBigDecimal(centavos);
+    }
+
+    @Override
+    public int compareTo(Money other) {
+        return Long.compare(centavos, other.centavos);
+    }
+
+    @Override
+    public boolean equals(Object obj) {
+        if (this == obj) return true;
+        if (!(obj instanceof Money)) return false;
+        return centavos == ((Money) obj).centavos;
+    }
+
+    @Override
+    public int hashCode() {
+        return Long.hashCode(centavos);
+    }
+
+    @Override
+    public String toString() {
+        return toBigDecimal().toPlainString();
+    }
+}
@@ -0,0 +1,130 @@
+package model;
+
+/**
+ * Approved overtime hours and record counts per employee for a pay period.
+ *
+ * Employee IDs are kept in an open-addressing table of primitive arrays, so a
+ * whole-company period needs no boxed keys or entry objects and a lookup is a
+ * short linear probe. Employees without approved overtime are simply absent
+ * and report 0 hours.
+ */
+public final class OvertimeTotals {
+    private static final int EMPTY = 0;
+    private static final int MIN_CAPACITY = 16;
+
+    private int[] employeeIds;
+    private double[] hours;
+    private int[] counts;
+    private int size;
+
+    public OvertimeTotals() {
+        this(MIN_CAPACITY);
+    }
+
+    /**
+     * @param expectedEmployees Number of employees expected, so the table is not resized while filling
+     */
+    public OvertimeTotals(int expectedEmployees) {
+        int capacity = MIN_CAPACITY;
+        // Keep the load factor at or below one half
+        while (capacity < expectedEmployees * 2) {
+            capacity <<= 1;
+        }
+        allocate(capacity);
+    }
+
+    /**
+     * Adds hours and records to an employee's totals
+     * @throws IllegalArgumentException if the employee ID is not positive
+     */
+    public void add(int employeeId, double overtimeHours, int overtimeCount) {
+        if (employeeId <= EMPTY) {
+            throw new IllegalArgumentException("Employee ID must be positive");
+        }
+        int slot = slotOf(employeeId);
+        if (employeeIds[slot] == EMPTY) {
+            employeeIds[slot] = employeeId;
+            if (++size * 2 > employeeIds.length) {
+                resize();
+                slot = slotOf(employeeId);
+            }
+        }
+        hours[slot] += overtimeHours;
+        counts[slot] += overtimeCount;
+    }
+
+    /**
+     * @return approved overtime hours, 0.0 if the employee has none
+     */
+    public double getHours(int employeeId) {
+        int slot = slotOf(employeeId);
+        return employeeIds[slot] == employeeId ? hours[slot] : 0.0;
+    }
+
+    /**
+     * @return number of approved overtime records, 0 if the employee has none
+     */
+    public int getCount(int employeeId) {
+        int slot = slotOf(employeeId);
+        return employeeIds[slot] == employeeId ? counts[slot] : 0;
+    }
+
+    public boolean contains(int employeeId) {
+        return employeeId > EMPTY && employeeIds[slotOf(employeeId)] == employeeId;
+    }
+
+    /**
+     * @return number of employees with approved overtime
+     */
+    public int size() {
+        return size;
+    }
+
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    /**
+     * @return slot holding the employee, or the empty slot where it belongs
+     */
+    private int slotOf(int employeeId) {
+        int mask = employeeIds.length - 1;
+        int slot = mix(employeeId) & mask;
+        while (employeeIds[slot] != EMPTY && employeeIds[slot] != employeeId) {
+            slot = (slot + 1) & mask;
+        }
+        return slot;
+    }
+
+    // Spreads sequential IDs across the table
+    private static int mix(int key) {
+        int h = key * 0x9E3779B9;
+        return h ^ (h >>> 16);
+    }
+
+    private void allocate(int capacity) {
+        employeeIds = new int[capacity];
+        hours = new double[capacity];
+        counts = new int[capacity];
+    }
+
+    private void resize() {
+        int[] oldIds = employeeIds;
+        double[] oldHours = hours;
+        int[] oldCounts = counts;
+        allocate(oldIds.length * 2);
+        for (int i = 0; i < oldIds.length; i++) {
+            if (oldIds[i] != EMPTY) {
+                int slot = slotOf(oldIds[i]);
+                employeeIds[slot] = oldIds[i];
+                hours[slot] = oldHours[i];
+                counts[slot] = oldCounts[i];
+            }
+        }
+    }
+
+    @Override
+    public String toString() {
+        return "OvertimeTotals{employees=" + size + ", capacity=" + employeeIds.length + '}';
+    }
+}
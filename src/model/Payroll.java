@@ -5,7 +5,9 @@ import java.sql.Time;
 import java.time.LocalDate;
 
 /**
- * Enhanced Payroll model class aligned with DAO and PayrollCalculator usage
+ * Enhanced Payroll model class aligned with DAO and PayrollCalculator usage.
+ * Money amounts are held as whole centavos (see {@link Money}); the double
+ * accessors convert at the boundary and the *Centavos accessors expose the exact values.
  * @author rejoice
  */
 public class Payroll {
@@ -16,24 +18,24 @@ public class Payroll {
     private double monthlyRate;
     private int daysWorked;
     private double overtimeHours;
-    private double grossPay;
-    private double totalDeductions;
-    private double netPay;
+    private long grossPay;
+    private long totalDeductions;
+    private long netPay;
     
     // Enhanced payroll components to match PayrollCalculator
-    private double grossEarnings;
+    private long grossEarnings;
     private double dailyRate;
-    private double lateDeduction;
-    private double undertimeDeduction;
-    private double unpaidLeaveDeduction;
-    private double overtimePay;
-    private double riceSubsidy;
-    private double phoneAllowance;
-    private double clothingAllowance;
-    private double sss;
-    private double philhealth;
-    private double pagibig;
-    private double tax;
+    private long lateDeduction;
+    private long undertimeDeduction;
+    private long unpaidLeaveDeduction;
+    private long overtimePay;
+    private long riceSubsidy;
+    private long phoneAllowance;
+    private long clothingAllowance;
+    private long sss;
+    private long philhealth;
+    private long pagibig;
+    private long tax;
     
     // Additional fields for better tracking
     private int unpaidLeaveCount;
@@ -148,33 +150,57 @@ public class Payroll {
     }
 
     public double getGrossPay() {
+        return Money.toPesos(grossPay);
+    }
+
+    public long getGrossPayCentavos() {
         return grossPay;
     }
 
     public void setGrossPay(double grossPay) {
-        if (grossPay < 0) {
+        setGrossPayCentavos(Money.toCentavos(grossPay));
+    }
+
+    public void setGrossPayCentavos(long grossPayCentavos) {
+        if (grossPayCentavos < 0) {
             throw new IllegalArgumentException("Gross pay cannot be negative");
         }
-        this.grossPay = grossPay;
+        this.grossPay = grossPayCentavos;
     }
 
     public double getTotalDeductions() {
+        return Money.toPesos(totalDeductions);
+    }
+
+    public long getTotalDeductionsCentavos() {
         return totalDeductions;
     }
 
     public void setTotalDeductions(double totalDeductions) {
-        if (totalDeductions < 0) {
+        setTotalDeductionsCentavos(Money.toCentavos(totalDeductions));
+    }
+
+    public void setTotalDeductionsCentavos(long totalDeductionsCentavos) {
+        if (totalDeductionsCentavos < 0) {
             throw new IllegalArgumentException("Total deductions cannot be negative");
         }
-        this.totalDeductions = totalDeductions;
+        this.totalDeductions = totalDeductionsCentavos;
     }
 
     public double getNetPay() {
+        return Money.toPesos(netPay);
+    }
+
+    public long getNetPayCentavos() {
         return netPay;
     }
 
     public void setNetPay(double netPay) {
-        this.netPay = netPay;
+        setNetPayCentavos(Money.toCentavos(netPay));
+    }
+
+    public void setNetPayCentavos(long netPayCentavos) {
+        this.netPay = netPayCentavos;
     }
 
     public int getUnpaidLeaveCount() {
@@ -190,136 +216,232 @@ public class Payroll {
 
     // Earnings component getters and setters
     public double getGrossEarnings() {
+        return Money.toPesos(grossEarnings);
+    }
+
+    public long getGrossEarningsCentavos() {
         return grossEarnings;
     }
 
     public void setGrossEarnings(double grossEarnings) {
-        if (grossEarnings < 0) {
+        setGrossEarningsCentavos(Money.toCentavos(grossEarnings));
+    }
+
+    public void setGrossEarningsCentavos(long grossEarningsCentavos) {
+        if (grossEarningsCentavos < 0) {
             throw new IllegalArgumentException("Gross earnings cannot be negative");
         }
-        this.grossEarnings = grossEarnings;
+        this.grossEarnings = grossEarningsCentavos;
     }
 
     public double getOvertimePay() {
+        return Money.toPesos(overtimePay);
+    }
+
+    public long getOvertimePayCentavos() {
         return overtimePay;
     }
 
     public void setOvertimePay(double overtimePay) {
-        if (overtimePay < 0) {
+        setOvertimePayCentavos(Money.toCentavos(overtimePay));
+    }
+
+    public void setOvertimePayCentavos(long overtimePayCentavos) {
+        if (overtimePayCentavos < 0) {
             throw new IllegalArgumentException("Overtime pay cannot be negative");
         }
-        this.overtimePay = overtimePay;
+        this.overtimePay = overtimePayCentavos;
     }
 
     public double getRiceSubsidy() {
+        return Money.toPesos(riceSubsidy);
+    }
+
+    public long getRiceSubsidyCentavos() {
         return riceSubsidy;
     }
 
     public void setRiceSubsidy(double riceSubsidy) {
-        if (riceSubsidy < 0) {
+        setRiceSubsidyCentavos(Money.toCentavos(riceSubsidy));
+    }
+
+    public void setRiceSubsidyCentavos(long riceSubsidyCentavos) {
+        if (riceSubsidyCentavos < 0) {
             throw new IllegalArgumentException("Rice subsidy cannot be negative");
         }
-        this.riceSubsidy = riceSubsidy;
+        this.riceSubsidy = riceSubsidyCentavos;
     }
 
     public double getPhoneAllowance() {
+        return Money.toPesos(phoneAllowance);
+    }
+
+    public long getPhoneAllowanceCentavos() {
         return phoneAllowance;
     }
 
     public void setPhoneAllowance(double phoneAllowance) {
-        if (phoneAllowance < 0) {
+        setPhoneAllowanceCentavos(Money.toCentavos(phoneAllowance));
+    }
+
+    public void setPhoneAllowanceCentavos(long phoneAllowanceCentavos) {
+        if (phoneAllowanceCentavos < 0) {
             throw new IllegalArgumentException("Phone allowance cannot be negative");
         }
-        this.phoneAllowance = phoneAllowance;
+        this.phoneAllowance = phoneAllowanceCentavos;
     }
 
     public double getClothingAllowance() {
+        return Money.toPesos(clothingAllowance);
+    }
+
+    public long getClothingAllowanceCentavos() {
         return clothingAllowance;
     }
 
     public void setClothingAllowance(double clothingAllowance) {
-        if (clothingAllowance < 0) {
+        setClothingAllowanceCentavos(Money.toCentavos(clothingAllowance));
+    }
+
+    public void setClothingAllowanceCentavos(long clothingAllowanceCentavos) {
+        if (clothingAllowanceCentavos < 0) {
             throw new IllegalArgumentException("Clothing allowance cannot be negative");
         }
-        this.clothingAllowance = clothingAllowance;
+        this.clothingAllowance = clothingAllowanceCentavos;
     }
 
     // Deduction component getters and setters
     public double getLateDeduction() {
+        return Money.toPesos(lateDeduction);
+    }
+
+    public long getLateDeductionCentavos() {
         return lateDeduction;
     }
 
     public void setLateDeduction(double lateDeduction) {
-        if (lateDeduction < 0) {
+        setLateDeductionCentavos(Money.toCentavos(lateDeduction));
+    }
+
+    public void setLateDeductionCentavos(long lateDeductionCentavos) {
+        if (lateDeductionCentavos < 0) {
             throw new IllegalArgumentException("Late deduction cannot be negative");
         }
-        this.lateDeduction = lateDeduction;
+        this.lateDeduction = lateDeductionCentavos;
     }
 
     public double getUndertimeDeduction() {
+        return Money.toPesos(undertimeDeduction);
+    }
+
+    public long getUndertimeDeductionCentavos() {
         return undertimeDeduction;
     }
 
     public void setUndertimeDeduction(double undertimeDeduction) {
-        if (undertimeDeduction < 0) {
+        setUndertimeDeductionCentavos(Money.toCentavos(undertimeDeduction));
+    }
+
+    public void setUndertimeDeductionCentavos(long undertimeDeductionCentavos) {
+        if (undertimeDeductionCentavos < 0) {
             throw new IllegalArgumentException("Undertime deduction cannot be negative");
         }
-        this.undertimeDeduction = undertimeDeduction;
+        this.undertimeDeduction = undertimeDeductionCentavos;
     }
 
     public double getUnpaidLeaveDeduction() {
+        return Money.toPesos(unpaidLeaveDeduction);
+    }
+
+    public long getUnpaidLeaveDeductionCentavos() {
         return unpaidLeaveDeduction;
     }
 
     public void setUnpaidLeaveDeduction(double unpaidLeaveDeduction) {
-        if (unpaidLeaveDeduction < 0) {
+        setUnpaidLeaveDeductionCentavos(Money.toCentavos(unpaidLeaveDeduction));
+    }
+
+    public void setUnpaidLeaveDeductionCentavos(long unpaidLeaveDeductionCentavos) {
+        if (unpaidLeaveDeductionCentavos < 0) {
             throw new IllegalArgumentException("Unpaid leave deduction cannot be negative");
         }
-        this.unpaidLeaveDeduction = unpaidLeaveDeduction;
+        this.unpaidLeaveDeduction = unpaidLeaveDeductionCentavos;
     }
 
     public double getSss() {
+        return Money.toPesos(sss);
+    }
+
+    public long getSssCentavos() {
         return sss;
     }
 
     public void setSss(double sss) {
-        if (sss < 0) {
+        setSssCentavos(Money.toCentavos(sss));
+    }
+
+    public void setSssCentavos(long sssCentavos) {
+        if (sssCentavos < 0) {
             throw new IllegalArgumentException("SSS contribution cannot be negative");
         }
-        this.sss = sss;
+        this.sss = sssCentavos;
     }
 
     public double getPhilhealth() {
+        return Money.toPesos(philhealth);
+    }
+
+    public long getPhilhealthCentavos() {
         return philhealth;
     }
 
     public void setPhilhealth(double philhealth) {
-        if (philhealth < 0) {
+        setPhilhealthCentavos(Money.toCentavos(philhealth));
+    }
+
+    public void setPhilhealthCentavos(long philhealthCentavos) {
+        if (philhealthCentavos < 0) {
             throw new IllegalArgumentException("PhilHealth contribution cannot be negative");
         }
-        this.philhealth = philhealth;
+        this.philhealth = philhealthCentavos;
     }
 
     public double getPagibig() {
+        return Money.toPesos(pagibig);
+    }
+
+    public long getPagibigCentavos() {
         return pagibig;
     }
 
     public void setPagibig(double pagibig) {
-        if (pagibig < 0) {
+        setPagibigCentavos(Money.toCentavos(pagibig));
+    }
+
+    public void setPagibigCentavos(long pagibigCentavos) {
+        if (pagibigCentavos < 0) {
             throw new IllegalArgumentException("Pag-IBIG contribution cannot be negative");
         }
-        this.pagibig = pagibig;
+        this.pagibig = pagibigCentavos;
     }
 
     public double getTax() {
+        return Money.toPesos(tax);
+    }
+
+    public long getTaxCentavos() {
         return tax;
     }
 
     public void setTax(double tax) {
-        if (tax < 0) {
+        setTaxCentavos(Money.toCentavos(tax));
+    }
+
+    public void setTaxCentavos(long taxCentavos) {
+        if (taxCentavos < 0) {
             throw new IllegalArgumentException("Tax cannot be negative");
         }
-        this.tax = tax;
+        this.tax = taxCentavos;
     }
 
     // LocalDate compatibility methods - Fixed to work with your PayrollCalculator
@@ -355,25 +477,26 @@ public class Payroll {
     public void calculateBasicPay() {
         if (dailyRate > 0 && daysWorked >= 0) {
             double basicPay = daysWorked * dailyRate;
-            this.grossEarnings = basicPay;
+            this.grossEarnings = Money.toCentavos(basicPay);
         }
     }
 
     public void calculateOvertimePay() {
         if (dailyRate > 0 && totalOvertimeHours > 0) {
             double hourlyRate = dailyRate / 8.0; // 8 hours per day
-            this.overtimePay = totalOvertimeHours * hourlyRate * 1.25; // 125% of hourly rate
+            this.overtimePay = Money.toCentavos(totalOvertimeHours * hourlyRate * 1.25); // 125% of hourly rate
         }
     }
 
+    // Totals are exact sums of the centavo components
+
     public void calculateGrossPay() {
         // Calculate gross pay as sum of all earnings
-        this.grossPay = grossEarnings + overtimePay + riceSubsidy + phoneAllowance + clothingAllowance;
+        this.grossPay = getTotalEarningsCentavos();
     }
 
     public void calculateTotalDeductions() {
-        this.totalDeductions = lateDeduction + undertimeDeduction + unpaidLeaveDeduction + 
-                              sss + philhealth + pagibig + tax;
+        this.totalDeductions = getTotalTimeDeductionsCentavos() + getTotalGovernmentContributionsCentavos() + tax;
     }
 
     public void calculateNetPay() {
@@ -384,14 +507,26 @@ public class Payroll {
 
     // Utility methods for payroll processing
     public double getTotalEarnings() {
+        return Money.toPesos(getTotalEarningsCentavos());
+    }
+
+    public long getTotalEarningsCentavos() {
         return grossEarnings + overtimePay + riceSubsidy + phoneAllowance + clothingAllowance;
     }
 
     public double getTotalGovernmentContributions() {
+        return Money.toPesos(getTotalGovernmentContributionsCentavos());
+    }
+
+    public long getTotalGovernmentContributionsCentavos() {
         return sss + philhealth + pagibig;
     }
 
     public double getTotalTimeDeductions() {
+        return Money.toPesos(getTotalTimeDeductionsCentavos());
+    }
+
+    public long getTotalTimeDeductionsCentavos() {
         return lateDeduction + undertimeDeduction + unpaidLeaveDeduction;
     }
 
@@ -413,9 +548,9 @@ public class Payroll {
                 ", periodStart=" + periodStart +
                 ", periodEnd=" + periodEnd +
                 ", daysWorked=" + daysWorked +
-                ", grossPay=" + grossPay +
-                ", totalDeductions=" + totalDeductions +
-                ", netPay=" + netPay +
+                ", grossPay=" + Money.toBigDecimal(grossPay) +
+                ", totalDeductions=" + Money.toBigDecimal(totalDeductions) +
+                ", netPay=" + Money.toBigDecimal(netPay) +
                 '}';
     }
 
@@ -427,12 +562,12 @@ public class Payroll {
                 "\n  period=" + periodStart + " to " + periodEnd +
                 "\n  daysWorked=" + daysWorked +
                 "\n  dailyRate=" + dailyRate +
-                "\n  grossEarnings=" + grossEarnings +
-                "\n  overtimePay=" + overtimePay +
-                "\n  allowances=" + (riceSubsidy + phoneAllowance + clothingAllowance) +
-                "\n  grossPay=" + grossPay +
-                "\n  deductions=" + totalDeductions +
-                "\n  netPay=" + netPay +
+                "\n  grossEarnings=" + Money.toBigDecimal(grossEarnings) +
+                "\n  overtimePay=" + Money.toBigDecimal(overtimePay) +
+                "\n  allowances=" + Money.toBigDecimal(riceSubsidy + phoneAllowance + clothingAllowance) +
+                "\n  grossPay=" + Money.toBigDecimal(grossPay) +
+                "\n  deductions=" + Money.toBigDecimal(totalDeductions) +
+                "\n  netPay=" + Money.toBigDecimal(netPay) +
                 "\n}";
     }
 }
\ No newline at end of file
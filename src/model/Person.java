@@ -48,6 +48,17 @@ public abstract class Person {
         setLastName(lastName);
     }
     
+    // Copy constructor
+    protected Person(Person other) {
+        this.id = other.id;
+        this.firstName = other.firstName;
+        this.lastName = other.lastName;
+        this.birthDate = other.birthDate;
+        this.address = other.address;
+        this.phoneNumber = other.phoneNumber;
+        this.email = other.email;
+    }
+    
     // Template method pattern (demonstrates ABSTRACTION)
     public final String getFormattedInfo() {
         return String.format("%s: %s (%s)", 
@@ -0,0 +1,140 @@
+package service;
+
+import model.Attendance;
+
+import java.sql.Time;
+import java.util.List;
+
+/**
+ * Compact attendance for one employee and pay period: epoch day as int and
+ * log-in/log-out as minute-of-day shorts in parallel primitive arrays.
+ * Built once per calculation; {@link #summarize} then computes days worked,
+ * worked, late and undertime minutes in a single allocation-free pass.
+ *
+ * Log-ins are truncated to the minute, so a log-in at 08:15:30 counts as 08:15
+ * and is within the grace period. Log-outs are rounded up, so a log-out at
+ * 16:59:30 counts as 17:00; undertime is then the whole minutes short of the
+ * standard log-out, as when it was measured from the exact time.
+ */
+public final class AttendanceBlock {
+    /** Marker for a missing log-in or log-out */
+    public static final short NO_TIME = -1;
+
+    private final int[] epochDays;
+    private final short[] logInMinutes;
+    private final short[] logOutMinutes;
+    private final int size;
+
+    private AttendanceBlock(int[] epochDays, short[] logInMinutes, short[] logOutMinutes, int size) {
+        this.epochDays = epochDays;
+        this.logInMinutes = logInMinutes;
+        this.logOutMinutes = logOutMinutes;
+        this.size = size;
+    }
+
+    /**
+     * @param attendanceList Attendance records; null entries and records without a date are skipped
+     * @return compact copy of the records
+     */
+    public static AttendanceBlock of(List<Attendance> attendanceList) {
+        int capacity = attendanceList != null ? attendanceList.size() : 0;
+        int[] days = new int[capacity];
+        short[] logIns = new short[capacity];
+        short[] logOuts = new short[capacity];
+        int size = 0;
+
+        for (int i = 0; i < capacity; i++) {
+            Attendance attendance = attendanceList.get(i);
+            if (attendance == null || attendance.getDate() == null) {
+                continue;
+            }
+            days[size] = (int) attendance.getDate().toLocalDate().toEpochDay();
+            logIns[size] = minuteOfDay(attendance.getLogIn());
+            logOuts[size] = logOutMinuteOfDay(attendance.getLogOut());
+            size++;
+        }
+        return new AttendanceBlock(days, logIns, logOuts, size);
+    }
+
+    /**
+     * @return minute of the day for the time, or {@link #NO_TIME} for null
+     */
+    public static short minuteOfDay(Time time) {
+        if (time == null) {
+            return NO_TIME;
+        }
+        return (short) (time.toLocalTime().toSecondOfDay() / 60);
+    }
+
+    /**
+     * @return minute of the day for a log-out, rounded up to the next whole minute,
+     *         or {@link #NO_TIME} for null
+     */
+    public static short logOutMinuteOfDay(Time time) {
+        if (time == null) {
+            return NO_TIME;
+        }
+        return (short) ((time.toLocalTime().toSecondOfDay() + 59) / 60);
+    }
+
+    /**
+     * Single pass over the block. A day counts as worked when it has a log-in.
+     * Late minutes are measured from the standard log-in, but only for log-ins
+     * after the grace threshold; undertime is measured up to the standard log-out.
+     * @param standardLogIn Standard log-in as minute of day
+     * @param lateThreshold Latest log-in not counted as late, as minute of day
+     * @param standardLogOut Standard log-out as minute of day
+     * @param into Totals to overwrite, reusable across calls
+     * @return the totals passed in
+     */
+    public Totals summarize(int standardLogIn, int lateThreshold, int standardLogOut, Totals into) {
+        int daysWorked = 0;
+        long workedMinutes = 0;
+        long lateMinutes = 0;
+        long undertimeMinutes = 0;
+
+        for (int i = 0; i < size; i++) {
+            int logIn = logInMinutes[i];
+            int logOut = logOutMinutes[i];
+
+            if (logIn != NO_TIME) {
+                daysWorked++;
+                if (logIn > lateThreshold) {
+                    lateMinutes += logIn - standardLogIn;
+                }
+                if (logOut != NO_TIME) {
+                    workedMinutes += logOut - logIn;
+                }
+            }
+            if (logOut != NO_TIME && logOut < standardLogOut) {
+                undertimeMinutes += standardLogOut - logOut;
+            }
+        }
+
+        into.daysWorked = daysWorked;
+        into.workedMinutes = workedMinutes;
+        into.lateMinutes = lateMinutes;
+        into.undertimeMinutes = undertimeMinutes;
+        return into;
+    }
+
+    public int size() { return size; }
+    public int epochDay(int index) { return epochDays[index]; }
+    public short logInMinute(int index) { return logInMinutes[index]; }
+    public short logOutMinute(int index) { return logOutMinutes[index]; }
+
+    /**
+     * Result of {@link #summarize}
+     */
+    public static final class Totals {
+        private int daysWorked;
+        private long workedMinutes;
+        private long lateMinutes;
+        private long undertimeMinutes;
+
+        public int getDaysWorked() { return daysWorked; }
+        public long getWorkedMinutes() { return workedMinutes; }
+        public long getLateMinutes() { return lateMinutes; }
+        public long getUndertimeMinutes() { return undertimeMinutes; }
+    }
+}
@@ -0,0 +1,295 @@
+package service;
+
+import dao.AttendanceDAO;
+import dao.EmployeeDAO;
+import model.Attendance;
+import model.EmployeeSummary;
+import util.ConfigurationManager;
+
+import java.io.BufferedReader;
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.sql.Date;
+import java.sql.Time;
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.time.format.DateTimeParseException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+/**
+ * Imports attendance from biometric device CSV dumps.
+ *
+ * Expected columns: {@code employee_id,date,log_in,log_out} with dates as
+ * yyyy-MM-dd and times as HH:mm or HH:mm:ss; a header row is optional and
+ * log_out may be empty. The file is read one line at a time and written in
+ * chunks of {@link ConfigurationManager#getBatchWriteChunkSize()} rows, each
+ * chunk one JDBC batch in its own transaction, so memory use does not grow
+ * with the file.
+ *
+ * Rows are checked with the same rules as {@link AttendanceDAO#insertAttendance}.
+ * Rows that fail, or that the database refuses, are not imported; they are
+ * written to a reject file together with their line number and the reason.
+ * Rejections are held back until the rows before them have been written, so
+ * the reject file is in file order.
+ */
+public class AttendanceCsvImporter {
+    private static final Logger LOGGER = Logger.getLogger(AttendanceCsvImporter.class.getName());
+
+    /** Rejections kept in memory on the result; all of them go to the reject file */
+    private static final int MAX_REPORTED_ERRORS = 100;
+
+    private final AttendanceDAO attendanceDAO;
+    private final EmployeeDAO employeeDAO;
+    private final int chunkSize;
+
+    public AttendanceCsvImporter() {
+        this(new AttendanceDAO(), new EmployeeDAO(), ConfigurationManager.getInstance().getBatchWriteChunkSize());
+    }
+
+    public AttendanceCsvImporter(AttendanceDAO attendanceDAO, EmployeeDAO employeeDAO, int chunkSize) {
+        if (chunkSize <= 0) {
+            throw new IllegalArgumentException("Chunk size must be positive");
+        }
+        this.attendanceDAO = attendanceDAO;
+        this.employeeDAO = employeeDAO;
+        this.chunkSize = chunkSize;
+    }
+
+    /**
+     * Imports a CSV file
+     * @param csvFile File to import
+     * @param rejectFile File to write rejected rows to; replaced if it exists
+     * @return Counts and the first rejections
+     * @throws IOException if either file cannot be read or written
+     */
+    public ImportResult importFile(Path csvFile, Path rejectFile) throws IOException {
+        if (csvFile == null || rejectFile == null) {
+            throw new IllegalArgumentException("Import and reject files cannot be null");
+        }
+
+        Set<Integer> employeeIds = loadEmployeeIds();
+        LocalDate today = LocalDate.now();
+        ImportResult result = new ImportResult(rejectFile);
+
+        try (BufferedReader reader = Files.newBufferedReader(csvFile, StandardCharsets.UTF_8);
+             BufferedWriter rejects = Files.newBufferedWriter(rejectFile, StandardCharsets.UTF_8)) {
+
+            rejects.write("line,error,record");
+            rejects.newLine();
+
+            List<Attendance> chunk = new ArrayList<>(chunkSize);
+            List<Integer> chunkLines = new ArrayList<>(chunkSize);
+            List<String> chunkRecords = new ArrayList<>(chunkSize);
+            // Rows that failed after the chunk's first row, written once the chunk is
+            List<Reject> chunkRejects = new ArrayList<>();
+
+            String line;
+            int lineNumber = 0;
+            while ((line = reader.readLine()) != null) {
+                lineNumber++;
+                if (line.isBlank() || (lineNumber == 1 && isHeader(line))) {
+                    continue;
+                }
+                result.rowsRead++;
+
+                Attendance attendance;
+                String error;
+                try {
+                    attendance = parse(line);
+                    error = AttendanceDAO.validateAttendance(attendance, today);
+                } catch (DateTimeParseException e) {
+                    attendance = null;
+                    error = "Invalid date or time: " + e.getParsedString();
+                } catch (IllegalArgumentException e) {
+                    attendance = null;
+                    error = e.getMessage();
+                }
+                if (error == null && employeeIds != null && !employeeIds.contains(attendance.getEmployeeId())) {
+                    error = "Employee ID " + attendance.getEmployeeId() +
+                            " does not exist in the system. Please verify the employee ID.";
+                }
+
+                if (error != null) {
+                    if (chunk.isEmpty()) {
+                        reject(rejects, result, new Reject(lineNumber, error, line));
+                    } else {
+                        chunkRejects.add(new Reject(lineNumber, error, line));
+                        // Keeps a long run of bad rows from piling up behind a partial chunk
+                        if (chunkRejects.size() == chunkSize) {
+                            writeChunk(chunk, chunkLines, chunkRecords, chunkRejects, rejects, result);
+                        }
+                    }
+                    continue;
+                }
+
+                chunk.add(attendance);
+                chunkLines.add(lineNumber);
+                chunkRecords.add(line);
+                if (chunk.size() == chunkSize) {
+                    writeChunk(chunk, chunkLines, chunkRecords, chunkRejects, rejects, result);
+                }
+            }
+            if (!chunk.isEmpty()) {
+                writeChunk(chunk, chunkLines, chunkRecords, chunkRejects, rejects, result);
+            }
+        }
+
+        LOGGER.info(String.format("Imported %d of %d attendance rows from %s, %d rejected",
+                result.rowsImported, result.rowsRead, csvFile, result.rowsRejected));
+        return result;
+    }
+
+    /**
+     * Inserts the chunk, then writes its refused rows together with the rows
+     * rejected while it was filling, by line number
+     */
+    private void writeChunk(List<Attendance> chunk, List<Integer> lines, List<String> records,
+                            List<Reject> chunkRejects, BufferedWriter rejects, ImportResult result)
+            throws IOException {
+        Map<Integer, String> refused = attendanceDAO.insertAttendanceBatch(chunk);
+        for (Map.Entry<Integer, String> entry : refused.entrySet()) {
+            int index = entry.getKey();
+            chunkRejects.add(new Reject(lines.get(index), entry.getValue(), records.get(index)));
+        }
+        chunkRejects.sort(Comparator.comparingInt(Reject::lineNumber));
+        for (Reject reject : chunkRejects) {
+            reject(rejects, result, reject);
+        }
+        result.rowsImported += chunk.size() - refused.size();
+
+        chunk.clear();
+        lines.clear();
+        records.clear();
+        chunkRejects.clear();
+    }
+
+    private void reject(BufferedWriter rejects, ImportResult result, Reject reject) throws IOException {
+        result.rowsRejected++;
+        if (result.errors.size() < MAX_REPORTED_ERRORS) {
+            result.errors.add(new RowError(reject.lineNumber(), reject.error()));
+        }
+        rejects.write(reject.lineNumber() + "," + quote(reject.error()) + "," + quote(reject.record()));
+        rejects.newLine();
+    }
+
+    private record Reject(int lineNumber, String error, String record) {
+    }
+
+    /**
+     * @return IDs of all employees, or null to leave the check to the database
+     */
+    private Set<Integer> loadEmployeeIds() {
+        try {
+            Set<Integer> ids = new HashSet<>();
+            for (EmployeeSummary employee : employeeDAO.getEmployeeSummaries()) {
+                ids.add(employee.employeeId());
+            }
+            return ids;
+        } catch (RuntimeException e) {
+            LOGGER.log(Level.WARNING, "Could not load employees, relying on the database to reject unknown IDs", e);
+            return null;
+        }
+    }
+
+    /**
+     * Parses one CSV line into an attendance record
+     * @throws IllegalArgumentException if the line does not have the expected fields
+     */
+    public static Attendance parse(String line) {
+        String[] fields = line.split(",", -1);
+        if (fields.length < 3 || fields.length > 4) {
+            throw new IllegalArgumentException("Expected employee_id,date,log_in,log_out but found " +
+                    fields.length + " fields");
+        }
+
+        Attendance attendance = new Attendance();
+        String employeeId = unquote(fields[0]);
+        try {
+            attendance.setEmployeeId(Integer.parseInt(employeeId));
+        } catch (NumberFormatException e) {
+            throw new IllegalArgumentException("Employee ID is not a number: " + employeeId);
+        }
+        attendance.setDate(Date.valueOf(LocalDate.parse(unquote(fields[1]))));
+        attendance.setLogIn(parseTime(unquote(fields[2])));
+        attendance.setLogOut(fields.length > 3 ? parseTime(unquote(fields[3])) : null);
+        return attendance;
+    }
+
+    private static Time parseTime(String value) {
+        return value.isEmpty() ? null : Time.valueOf(LocalTime.parse(value));
+    }
+
+    private static boolean isHeader(String line) {
+        String first = unquote(line.split(",", 2)[0]);
+        return !first.isEmpty() && !Character.isDigit(first.charAt(0)) && first.charAt(0) != '-';
+    }
+
+    private static String unquote(String field) {
+        String value = field.trim();
+        if (value.length() >= 2 && value.startsWith("\"") && value.endsWith("\"")) {
+            value = value.substring(1, value.length() - 1).trim();
+        }
+        return value;
+    }
+
+    private static String quote(String value) {
+        return "\"" + value.replace("\"", "\"\"") + "\"";
+    }
+
+    /**
+     * Outcome of an import
+     */
+    public static class ImportResult {
+        private final Path rejectFile;
+        private final List<RowError> errors = new ArrayList<>();
+        private int rowsRead;
+        private int rowsImported;
+        private int rowsRejected;
+
+        ImportResult(Path rejectFile) {
+            this.rejectFile = rejectFile;
+        }
+
+        public int getRowsRead() { return rowsRead; }
+        public int getRowsImported() { return rowsImported; }
+        public int getRowsRejected() { return rowsRejected; }
+        public Path getRejectFile() { return rejectFile; }
+
+        /**
+         * @return The first rejections, in file order; see the reject file for all of them
+         */
+        public List<RowError> getErrors() { return Collections.unmodifiableList(errors); }
+    }
+
+    /**
+     * A rejected CSV row
+     */
+    public static class RowError {
+        private final int lineNumber;
+        private final String message;
+
+        RowError(int lineNumber, String message) {
+            this.lineNumber = lineNumber;
+            this.message = message;
+        }
+
+        public int getLineNumber() { return lineNumber; }
+        public String getMessage() { return message; }
+
+        @Override
+        public String toString() {
+            return "Line " + lineNumber + ": " + message;
+        }
+    }
+}
@@ -0,0 +1,227 @@
+package service;
+
+import dao.ContributionRateDAO;
+import model.ContributionBracket;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+/**
+ * SSS, PhilHealth, Pag-IBIG and withholding tax tables loaded from the
+ * {@code contribution_brackets} table. Every effective-dated version is
+ * compiled once into a {@link ContributionTable}; {@link #ratesFor(LocalDate)}
+ * picks the versions in force on a date so a payroll run resolves its tables
+ * once and reuses them for every employee.
+ *
+ * Types missing from the database fall back to the built-in tables, so a
+ * database without the bracket table keeps the previous behaviour.
+ */
+public final class ContributionRateTables {
+    private static final Logger LOGGER = Logger.getLogger(ContributionRateTables.class.getName());
+    private static final LocalDate BUILT_IN_EFFECTIVE_DATE = LocalDate.of(2000, 1, 1);
+
+    private static volatile ContributionRateTables instance;
+
+    private final Versions sss;
+    private final Versions philHealth;
+    private final Versions pagIbig;
+    private final Versions tax;
+
+    private ContributionRateTables(Map<String, Versions> versionsByType) {
+        Map<String, Versions> defaults = compileByType(builtInBrackets());
+        this.sss = versionsByType.getOrDefault(ContributionBracket.TYPE_SSS, defaults.get(ContributionBracket.TYPE_SSS));
+        this.philHealth = versionsByType.getOrDefault(ContributionBracket.TYPE_PHILHEALTH, defaults.get(ContributionBracket.TYPE_PHILHEALTH));
+        this.pagIbig = versionsByType.getOrDefault(ContributionBracket.TYPE_PAGIBIG, defaults.get(ContributionBracket.TYPE_PAGIBIG));
+        this.tax = versionsByType.getOrDefault(ContributionBracket.TYPE_TAX, defaults.get(ContributionBracket.TYPE_TAX));
+    }
+
+    /**
+     * @return the tables loaded from the database on first use
+     */
+    public static ContributionRateTables getInstance() {
+        ContributionRateTables tables = instance;
+        if (tables == null) {
+            synchronized (ContributionRateTables.class) {
+                tables = instance;
+                if (tables == null) {
+                    tables = load();
+                    instance = tables;
+                }
+            }
+        }
+        return tables;
+    }
+
+    /**
+     * Reloads the tables from the database, e.g. after new rates were entered
+     */
+    public static synchronized void reload() {
+        instance = load();
+    }
+
+    /**
+     * Compiles the given brackets; types without brackets use the built-in tables
+     */
+    public static ContributionRateTables fromBrackets(List<ContributionBracket> brackets) {
+        return new ContributionRateTables(compileByType(brackets));
+    }
+
+    private static ContributionRateTables load() {
+        try {
+            List<ContributionBracket> brackets = new ContributionRateDAO().getAllBrackets();
+            if (brackets.isEmpty()) {
+                LOGGER.warning("⚠️ No contribution brackets configured, using built-in rate tables");
+            } else {
+                LOGGER.info("✅ Loaded " + brackets.size() + " contribution brackets");
+            }
+            return fromBrackets(brackets);
+        } catch (Exception e) {
+            LOGGER.log(Level.WARNING, "⚠️ Could not load contribution brackets, using built-in rate tables", e);
+            return fromBrackets(List.of());
+        }
+    }
+
+    /**
+     * @param date Date the rates must be in force on, normally the pay period end
+     * @return tables in force on the date
+     */
+    public Rates ratesFor(LocalDate date) {
+        long day = date.toEpochDay();
+        return new Rates(sss.at(day), philHealth.at(day), pagIbig.at(day), tax.at(day));
+    }
+
+    /**
+     * The four tables in force for one pay period
+     */
+    public static final class Rates {
+        private final ContributionTable sss;
+        private final ContributionTable philHealth;
+        private final ContributionTable pagIbig;
+        private final ContributionTable tax;
+
+        private Rates(ContributionTable sss, ContributionTable philHealth,
+                      ContributionTable pagIbig, ContributionTable tax) {
+            this.sss = sss;
+            this.philHealth = philHealth;
+            this.pagIbig = pagIbig;
+            this.tax = tax;
+        }
+
+        public double sss(double monthlySalary) {
+            return sss.evaluate(monthlySalary);
+        }
+
+        public double philHealth(double monthlySalary) {
+            return philHealth.evaluate(monthlySalary);
+        }
+
+        public double pagIbig(double monthlySalary) {
+            return pagIbig.evaluate(monthlySalary);
+        }
+
+        /**
+         * Tax brackets are annual, so the monthly salary is annualised and the result spread over 12 months
+         */
+        public double incomeTax(double monthlySalary) {
+            return tax.evaluate(monthlySalary * 12) / 12;
+        }
+    }
+
+    /**
+     * All versions of one table type, sorted by effective date
+     */
+    private static final class Versions {
+        private final long[] effectiveDays;
+        private final ContributionTable[] tables;
+
+        Versions(long[] effectiveDays, ContributionTable[] tables) {
+            this.effectiveDays = effectiveDays;
+            this.tables = tables;
+        }
+
+        /**
+         * @return the latest version effective on or before the day, or the earliest one for older days
+         */
+        ContributionTable at(long day) {
+            int low = 0;
+            int high = effectiveDays.length - 1;
+            int found = 0;
+            while (low <= high) {
+                int mid = (low + high) >>> 1;
+                if (effectiveDays[mid] <= day) {
+                    found = mid;
+                    low = mid + 1;
+                } else {
+                    high = mid - 1;
+                }
+            }
+            return tables[found];
+        }
+    }
+
+    private static Map<String, Versions> compileByType(List<ContributionBracket> brackets) {
+        // type -> effective date -> brackets
+        Map<String, TreeMap<LocalDate, List<ContributionBracket>>> grouped = new TreeMap<>();
+        for (ContributionBracket bracket : brackets) {
+            String type = bracket.getContributionType().trim().toUpperCase();
+            grouped.computeIfAbsent(type, k -> new TreeMap<>())
+                    .computeIfAbsent(bracket.getEffectiveDate(), k -> new ArrayList<>())
+                    .add(bracket);
+        }
+
+        Map<String, Versions> compiled = new TreeMap<>();
+        for (Map.Entry<String, TreeMap<LocalDate, List<ContributionBracket>>> entry : grouped.entrySet()) {
+            TreeMap<LocalDate, List<ContributionBracket>> byDate = entry.getValue();
+            long[] days = new long[byDate.size()];
+            ContributionTable[] tables = new ContributionTable[byDate.size()];
+            int i = 0;
+            for (Map.Entry<LocalDate, List<ContributionBracket>> version : byDate.entrySet()) {
+                days[i] = version.getKey().toEpochDay();
+                tables[i] = ContributionTable.compile(version.getValue());
+                i++;
+            }
+            compiled.put(entry.getKey(), new Versions(days, tables));
+        }
+        return compiled;
+    }
+
+    /**
+     * The rates the calculator used before they moved to the database
+     */
+    private static List<ContributionBracket> builtInBrackets() {
+        List<ContributionBracket> brackets = new ArrayList<>();
+        double[][] sss = {
+                {4000, 180.00}, {4750, 202.50}, {5500, 225.00}, {6250, 247.50}, {7000, 270.00},
+                {7750, 292.50}, {8500, 315.00}, {9250, 337.50}, {10000, 360.00}, {15000, 540.00},
+                {20000, 720.00}, {25000, 900.00}
+        };
+        for (double[] row : sss) {
+            brackets.add(bracket(ContributionBracket.TYPE_SSS, row[0], row[1], 0, 0, null, null));
+        }
+        brackets.add(bracket(ContributionBracket.TYPE_SSS, null, 1125.00, 0, 0, null, null));
+
+        brackets.add(bracket(ContributionBracket.TYPE_PHILHEALTH, null, 0, 0.025, 0, 500.00, 5000.00));
+
+        brackets.add(bracket(ContributionBracket.TYPE_PAGIBIG, 1500.0, 0, 0.01, 0, null, null));
+        brackets.add(bracket(ContributionBracket.TYPE_PAGIBIG, null, 0, 0.02, 0, null, 200.00));
+
+        brackets.add(bracket(ContributionBracket.TYPE_TAX, 250000.0, 0, 0, 0, null, null));
+        brackets.add(bracket(ContributionBracket.TYPE_TAX, 400000.0, 0, 0.15, 250000, null, null));
+        brackets.add(bracket(ContributionBracket.TYPE_TAX, 800000.0, 22500, 0.20, 400000, null, null));
+        brackets.add(bracket(ContributionBracket.TYPE_TAX, 2000000.0, 102500, 0.25, 800000, null, null));
+        brackets.add(bracket(ContributionBracket.TYPE_TAX, 8000000.0, 402500, 0.30, 2000000, null, null));
+        brackets.add(bracket(ContributionBracket.TYPE_TAX, null, 2202500, 0.35, 8000000, null, null));
+        return brackets;
+    }
+
+    private static ContributionBracket bracket(String type, Double upperBound, double fixedAmount, double rate,
+                                               double excessOver, Double minAmount, Double maxAmount) {
+        return new ContributionBracket(type, BUILT_IN_EFFECTIVE_DATE, upperBound, fixedAmount, rate,
+                excessOver, minAmount, maxAmount);
+    }
+}
@@ -0,0 +1,95 @@
+package service;
+
+import model.ContributionBracket;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+
+/**
+ * One version of a contribution or tax table compiled into parallel arrays
+ * sorted by upper bound. Lookups binary-search the bounds and evaluate the
+ * bracket formula without branching chains or allocation.
+ */
+public final class ContributionTable {
+    private final double[] upperBounds;
+    private final double[] fixedAmounts;
+    private final double[] rates;
+    private final double[] excessOver;
+    private final double[] minAmounts;
+    private final double[] maxAmounts;
+
+    private ContributionTable(int size) {
+        upperBounds = new double[size];
+        fixedAmounts = new double[size];
+        rates = new double[size];
+        excessOver = new double[size];
+        minAmounts = new double[size];
+        maxAmounts = new double[size];
+    }
+
+    /**
+     * Compiles the brackets of one table version. The bracket without an upper
+     * bound, if any, becomes the top bracket; without one, bases above the
+     * highest bound use the highest bracket.
+     * @param brackets Brackets of a single type and effective date
+     * @return Compiled table
+     * @throws IllegalArgumentException if there are no brackets or two share an upper bound
+     */
+    public static ContributionTable compile(List<ContributionBracket> brackets) {
+        if (brackets == null || brackets.isEmpty()) {
+            throw new IllegalArgumentException("A contribution table needs at least one bracket");
+        }
+
+        List<ContributionBracket> sorted = new ArrayList<>(brackets);
+        sorted.sort(Comparator.comparingDouble(b -> b.getUpperBound() != null ? b.getUpperBound() : Double.POSITIVE_INFINITY));
+
+        ContributionTable table = new ContributionTable(sorted.size());
+        for (int i = 0; i < sorted.size(); i++) {
+            ContributionBracket bracket = sorted.get(i);
+            double bound = bracket.getUpperBound() != null ? bracket.getUpperBound() : Double.POSITIVE_INFINITY;
+            if (i > 0 && bound == table.upperBounds[i - 1]) {
+                throw new IllegalArgumentException("Duplicate bracket upper bound " + bound
+                        + " in " + bracket.getContributionType() + " table effective " + bracket.getEffectiveDate());
+            }
+            table.upperBounds[i] = bound;
+            table.fixedAmounts[i] = bracket.getFixedAmount();
+            table.rates[i] = bracket.getRate();
+            table.excessOver[i] = bracket.getExcessOver();
+            table.minAmounts[i] = bracket.getMinAmount() != null ? bracket.getMinAmount() : Double.NEGATIVE_INFINITY;
+            table.maxAmounts[i] = bracket.getMaxAmount() != null ? bracket.getMaxAmount() : Double.POSITIVE_INFINITY;
+        }
+        return table;
+    }
+
+    /**
+     * @param base Salary the table applies to
+     * @return Amount due for the base
+     */
+    public double evaluate(double base) {
+        int i = bracketIndex(base);
+        double amount = fixedAmounts[i] + (base - excessOver[i]) * rates[i];
+        return Math.min(Math.max(amount, minAmounts[i]), maxAmounts[i]);
+    }
+
+    /**
+     * @return index of the first bracket whose inclusive upper bound is at least the base
+     */
+    int bracketIndex(double base) {
+        int low = 0;
+        int high = upperBounds.length - 1;
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            if (upperBounds[mid] < base) {
+                low = mid + 1;
+            } else {
+                high = mid;
+            }
+        }
+        return low;
+    }
+
+    public int size() {
+        return upperBounds.length;
+    }
+}
@@ -0,0 +1,148 @@
+package service;
+
+import model.Attendance;
+import model.Employee;
+import model.LeaveRequest;
+import model.Overtime;
+
+import java.time.LocalDate;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Everything one payroll calculation needs for an employee and pay period:
+ * the employee plus the period's attendance, overtime and approved leave, and
+ * the contribution and tax tables in force.
+ * It is populated once - either per employee by {@link PayrollCalculator#loadContext}
+ * or from grouped period data by {@link PayrollRunEngine} - and then passed
+ * through every calculation step, so no step queries the database itself.
+ */
+public class PayrollCalculationContext {
+    private final Employee employee;
+    private final LocalDate periodStart;
+    private final LocalDate periodEnd;
+    private final List<Attendance> attendance;
+    private final AttendanceBlock attendanceBlock;
+    private final List<Overtime> overtime;
+    private final boolean overtimeAvailable;
+    private final double approvedOvertimeHours;
+    private final List<LeaveRequest> approvedLeaves;
+    private final ContributionRateTables.Rates contributionRates;
+
+    /**
+     * @param employee Employee being paid
+     * @param periodStart Start of the pay period
+     * @param periodEnd End of the pay period
+     * @param attendance Attendance within the period
+     * @param overtime Overtime within the period, or null if overtime data is unavailable
+     * @param approvedLeaves Approved leaves overlapping the period, or null if leave data is unavailable
+     */
+    public PayrollCalculationContext(Employee employee, LocalDate periodStart, LocalDate periodEnd,
+                                     List<Attendance> attendance, List<Overtime> overtime,
+                                     List<LeaveRequest> approvedLeaves) {
+        this(employee, periodStart, periodEnd, attendance, overtime, approvedLeaves,
+                ContributionRateTables.getInstance().ratesFor(periodEnd != null ? periodEnd : LocalDate.now()));
+    }
+
+    /**
+     * @param contributionRates Contribution and tax tables in force for the period, shared across a run
+     */
+    public PayrollCalculationContext(Employee employee, LocalDate periodStart, LocalDate periodEnd,
+                                     List<Attendance> attendance, List<Overtime> overtime,
+                                     List<LeaveRequest> approvedLeaves, ContributionRateTables.Rates contributionRates) {
+        this(employee, periodStart, periodEnd, attendance,
+                overtime != null ? Collections.unmodifiableList(overtime) : null,
+                overtime != null, sumApprovedHours(overtime), approvedLeaves, contributionRates);
+    }
+
+    /**
+     * Creates a context from the employee's approved overtime total instead of
+     * the individual records, as read by a period-wide grouped query.
+     * {@link #getOvertime()} is null for such a context.
+     * @param approvedOvertimeHours Approved overtime hours within the period
+     */
+    public static PayrollCalculationContext withOvertimeTotal(Employee employee, LocalDate periodStart,
+                                                              LocalDate periodEnd, List<Attendance> attendance,
+                                                              double approvedOvertimeHours,
+                                                              List<LeaveRequest> approvedLeaves,
+                                                              ContributionRateTables.Rates contributionRates) {
+        return new PayrollCalculationContext(employee, periodStart, periodEnd, attendance,
+                null, true, approvedOvertimeHours, approvedLeaves, contributionRates);
+    }
+
+    private PayrollCalculationContext(Employee employee, LocalDate periodStart, LocalDate periodEnd,
+                                      List<Attendance> attendance, List<Overtime> overtime,
+                                      boolean overtimeAvailable, double approvedOvertimeHours,
+                                      List<LeaveRequest> approvedLeaves, ContributionRateTables.Rates contributionRates) {
+        if (employee == null) {
+            throw new IllegalArgumentException("Employee cannot be null");
+        }
+        if (periodStart == null || periodEnd == null) {
+            throw new IllegalArgumentException("Period start and end dates cannot be null");
+        }
+        this.employee = employee;
+        this.periodStart = periodStart;
+        this.periodEnd = periodEnd;
+        this.attendance = attendance != null ? Collections.unmodifiableList(attendance) : Collections.emptyList();
+        this.attendanceBlock = AttendanceBlock.of(this.attendance);
+        this.overtime = overtime;
+        this.overtimeAvailable = overtimeAvailable;
+        this.approvedOvertimeHours = approvedOvertimeHours;
+        this.approvedLeaves = approvedLeaves != null ? Collections.unmodifiableList(approvedLeaves) : null;
+        if (contributionRates == null) {
+            throw new IllegalArgumentException("Contribution rates cannot be null");
+        }
+        this.contributionRates = contributionRates;
+    }
+
+    public Employee getEmployee() { return employee; }
+    public int getEmployeeId() { return employee.getEmployeeId(); }
+    public LocalDate getPeriodStart() { return periodStart; }
+    public LocalDate getPeriodEnd() { return periodEnd; }
+    public List<Attendance> getAttendance() { return attendance; }
+    public AttendanceBlock getAttendanceBlock() { return attendanceBlock; }
+
+    /**
+     * @return overtime records within the period, or null if overtime data is unavailable
+     *         or only the approved total was loaded
+     */
+    public List<Overtime> getOvertime() { return overtime; }
+
+    /**
+     * @return approved overtime hours within the period, 0.0 if overtime data is unavailable
+     */
+    public double getApprovedOvertimeHours() { return approvedOvertimeHours; }
+
+    /**
+     * @return approved leaves overlapping the period, or null if leave data is unavailable
+     */
+    public List<LeaveRequest> getApprovedLeaves() { return approvedLeaves; }
+
+    public ContributionRateTables.Rates getContributionRates() { return contributionRates; }
+
+    public boolean hasOvertimeData() { return overtimeAvailable; }
+    public boolean hasLeaveData() { return approvedLeaves != null; }
+
+    private static double sumApprovedHours(List<Overtime> overtime) {
+        double total = 0.0;
+        if (overtime != null) {
+            for (Overtime record : overtime) {
+                if (record != null && record.isApproved()) {
+                    total += record.getHours();
+                }
+            }
+        }
+        return total;
+    }
+
+    @Override
+    public String toString() {
+        return "PayrollCalculationContext{" +
+                "employeeId=" + employee.getEmployeeId() +
+                ", period=" + periodStart + " to " + periodEnd +
+                ", attendance=" + attendance.size() +
+                ", approvedOvertimeHours=" + (overtimeAvailable ? approvedOvertimeHours : "n/a") +
+                ", approvedLeaves=" + (approvedLeaves != null ? approvedLeaves.size() : "n/a") +
+                '}';
+    }
+}
@@ -4,21 +4,26 @@ import dao.AttendanceDAO;
 import dao.EmployeeDAO;
 import dao.LeaveRequestDAO;
 import dao.OvertimeDAO;
-import dao.DeductionDAO;
 import model.Attendance;
 import model.Employee;
 import model.LeaveRequest;
 import model.Overtime;
 import model.Payroll;
 import model.Deduction;
+import model.Money;
+import util.ConfigurationManager;
 
 import java.sql.Date;
 import java.sql.Time;
 import java.sql.SQLException;
+import java.time.Instant;
 import java.time.LocalDate;
 import java.time.LocalTime;
-import java.time.temporal.ChronoUnit;
+import java.util.Collections;
 import java.util.List;
+import java.util.concurrent.StructuredTaskScope;
+import java.util.concurrent.StructuredTaskScope.Subtask;
+import java.util.concurrent.TimeoutException;
 import java.util.logging.Level;
 import java.util.logging.Logger;
 
@@ -30,6 +35,9 @@ public class PayrollCalculator {
 
     private static final Logger LOGGER = Logger.getLogger(PayrollCalculator.class.getName());
 
+    /** Queries {@link #loadContext} runs side by side, each on its own connection */
+    public static final int CONTEXT_QUERIES = 4;
+
     // Constants for payroll calculations - moved to interface for better design
     public interface PayrollConstants {
         int STANDARD_WORKING_DAYS_PER_MONTH = 22;
@@ -40,12 +48,16 @@ public class PayrollCalculator {
         LocalTime STANDARD_LOGOUT_TIME = LocalTime.of(17, 0);
     }
 
+    // The same times as minutes of the day, for the attendance kernel
+    private static final int STANDARD_LOGIN_MINUTE = PayrollConstants.STANDARD_LOGIN_TIME.toSecondOfDay() / 60;
+    private static final int LATE_THRESHOLD_MINUTE = PayrollConstants.LATE_THRESHOLD_TIME.toSecondOfDay() / 60;
+    private static final int STANDARD_LOGOUT_MINUTE = PayrollConstants.STANDARD_LOGOUT_TIME.toSecondOfDay() / 60;
+
     // DAO instances with proper initialization
     private final EmployeeDAO employeeDAO;
     private final AttendanceDAO attendanceDAO;
     private LeaveRequestDAO leaveDAO;
     private OvertimeDAO overtimeDAO;
-    private DeductionDAO deductionDAO;
 
     // Constructor with better error handling
     public PayrollCalculator() {
@@ -72,14 +84,6 @@ public class PayrollCalculator {
             LOGGER.warning("⚠️ OvertimeDAO not available - overtime calculations will be skipped: " + e.getMessage());
             this.overtimeDAO = null;
         }
-
-        try {
-            this.deductionDAO = new DeductionDAO();
-            LOGGER.info("✅ DeductionDAO initialized successfully");
-        } catch (Exception e) {
-            LOGGER.warning("⚠️ DeductionDAO not available - deduction records will not be saved: " + e.getMessage());
-            this.deductionDAO = null;
-        }
     }
 
     /**
@@ -90,17 +94,81 @@ public class PayrollCalculator {
             throws PayrollCalculationException {
 
         try {
-            // Enhanced input validation
-            validateCalculationInputs(employeeId, periodStart, periodEnd);
+            // Load employee, attendance, overtime and leave once for every step
+            PayrollCalculationContext context = loadContext(employeeId, periodStart, periodEnd);
 
-            // Get employee with better error handling
-            Employee employee = getEmployeeWithValidation(employeeId);
+            return calculatePayroll(context);
+
+        } catch (PayrollCalculationException e) {
+            throw e; // Re-throw custom exceptions
+        } catch (Exception e) {
+            LOGGER.log(Level.SEVERE, String.format("❌ Unexpected error calculating payroll for employee %d", employeeId), e);
+            throw new PayrollCalculationException("Unexpected error during payroll calculation: " + e.getMessage(), e);
+        }
+    }
+
+    /**
+     * Loads everything a calculation needs for one employee and period
+     * @param employeeId Employee ID
+     * @param periodStart Start of the pay period
+     * @param periodEnd End of the pay period
+     * @return Populated calculation context
+     * @throws PayrollCalculationException if the employee or attendance cannot be loaded
+     */
+    public PayrollCalculationContext loadContext(int employeeId, LocalDate periodStart, LocalDate periodEnd)
+            throws PayrollCalculationException {
+        // Enhanced input validation
+        validateCalculationInputs(employeeId, periodStart, periodEnd);
+
+        // The four fetches are independent, so run them side by side. A failed
+        // employee or attendance fetch cancels the rest; overtime and leave
+        // failures are already absorbed by their loaders.
+        long timeoutMillis = ConfigurationManager.getInstance().getPayrollFetchTimeoutMillis();
+        try (var scope = new StructuredTaskScope.ShutdownOnFailure()) {
+            Subtask<Employee> employee = scope.fork(() -> getEmployeeWithValidation(employeeId));
+            Subtask<List<Attendance>> attendance = scope.fork(() -> loadAttendance(employeeId, periodStart, periodEnd));
+            Subtask<List<Overtime>> overtime = scope.fork(() -> loadOvertime(employeeId, periodStart, periodEnd));
+            Subtask<List<LeaveRequest>> leaves = scope.fork(() -> loadApprovedLeaves(employeeId, periodStart, periodEnd));
+
+            scope.joinUntil(Instant.now().plusMillis(timeoutMillis));
+            scope.throwIfFailed(e -> e instanceof PayrollCalculationException pce ? pce
+                    : new PayrollCalculationException("Error loading payroll data for employee " + employeeId + ": " + e.getMessage(), e));
+
+            return new PayrollCalculationContext(employee.get(), periodStart, periodEnd,
+                    attendance.get(), overtime.get(), leaves.get());
+        } catch (TimeoutException e) {
+            throw new PayrollCalculationException("Timed out after " + timeoutMillis + " ms loading payroll data for employee " + employeeId, e);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new PayrollCalculationException("Interrupted while loading payroll data for employee " + employeeId, e);
+        }
+    }
+
+    /**
+     * Calculates payroll from a populated context. Used directly by batch runs
+     * that build contexts from period-wide queries.
+     * @param context Employee and period records
+     * @return Calculated payroll
+     * @throws PayrollCalculationException if the employee data or calculation is invalid
+     */
+    public Payroll calculatePayroll(PayrollCalculationContext context) throws PayrollCalculationException {
+        if (context == null) {
+            throw new PayrollCalculationException("Calculation context cannot be null");
+        }
+
+        Employee employee = context.getEmployee();
+        LocalDate periodStart = context.getPeriodStart();
+        LocalDate periodEnd = context.getPeriodEnd();
+
+        try {
+            validateCalculationInputs(employee.getEmployeeId(), periodStart, periodEnd);
+            validateEmployee(employee);
 
             // Initialize payroll object
-            Payroll payroll = createPayrollObject(employeeId, periodStart, periodEnd, employee);
+            Payroll payroll = createPayrollObject(employee.getEmployeeId(), periodStart, periodEnd, employee);
 
             // Calculate all payroll components with error handling
-            calculateAllPayrollComponents(payroll, employee, periodStart, periodEnd);
+            calculateAllPayrollComponents(payroll, context);
 
             // Final calculations and validation
             finalizePayrollCalculation(payroll);
@@ -110,9 +178,9 @@ public class PayrollCalculator {
             return payroll;
 
         } catch (PayrollCalculationException e) {
-            throw e; // Re-throw custom exceptions
+            throw e;
         } catch (Exception e) {
-            LOGGER.log(Level.SEVERE, String.format("❌ Unexpected error calculating payroll for employee %d", employeeId), e);
+            LOGGER.log(Level.SEVERE, String.format("❌ Unexpected error calculating payroll for employee %d", employee.getEmployeeId()), e);
             throw new PayrollCalculationException("Unexpected error during payroll calculation: " + e.getMessage(), e);
         }
     }
@@ -140,10 +208,7 @@ public class PayrollCalculator {
                 throw new PayrollCalculationException("Employee not found with ID: " + employeeId + ". Please verify the employee exists in the system.");
             }
 
-            if (employee.getBasicSalary() <= 0) {
-                throw new PayrollCalculationException("Invalid employee data: Employee " + employeeId + " has invalid basic salary (" + employee.getBasicSalary() + ")");
-            }
-
+            validateEmployee(employee);
             return employee;
         } catch (Exception e) {
             if (e instanceof PayrollCalculationException) {
@@ -153,6 +218,46 @@ public class PayrollCalculator {
         }
     }
 
+    private void validateEmployee(Employee employee) throws PayrollCalculationException {
+        if (employee.getBasicSalary() <= 0) {
+            throw new PayrollCalculationException("Invalid employee data: Employee " + employee.getEmployeeId() + " has invalid basic salary (" + employee.getBasicSalary() + ")");
+        }
+    }
+
+    private List<Attendance> loadAttendance(int employeeId, LocalDate periodStart, LocalDate periodEnd)
+            throws PayrollCalculationException {
+        try {
+            return attendanceDAO.getAttendanceByEmployeeIdBetweenDates(employeeId, periodStart, periodEnd);
+        } catch (Exception e) {
+            LOGGER.log(Level.SEVERE, "❌ Error loading attendance records", e);
+            throw new PayrollCalculationException("Failed to calculate attendance-based earnings: " + e.getMessage(), e);
+        }
+    }
+
+    private List<Overtime> loadOvertime(int employeeId, LocalDate periodStart, LocalDate periodEnd) {
+        if (overtimeDAO == null) {
+            return null;
+        }
+        try {
+            return overtimeDAO.getOvertimeByEmployeeIdAndDateRange(employeeId, periodStart, periodEnd);
+        } catch (Exception e) {
+            LOGGER.warning("⚠️ Error loading overtime, setting to 0: " + e.getMessage());
+            return Collections.emptyList();
+        }
+    }
+
+    private List<LeaveRequest> loadApprovedLeaves(int employeeId, LocalDate periodStart, LocalDate periodEnd) {
+        if (leaveDAO == null) {
+            return null;
+        }
+        try {
+            return leaveDAO.getApprovedLeavesByEmployeeIdAndDateRange(employeeId, periodStart, periodEnd);
+        } catch (Exception e) {
+            LOGGER.warning("⚠️ Error loading approved leaves: " + e.getMessage());
+            return Collections.emptyList();
+        }
+    }
+
     private Payroll createPayrollObject(int employeeId, LocalDate periodStart, LocalDate periodEnd, Employee employee) {
         Payroll payroll = new Payroll(employeeId, Date.valueOf(periodStart), Date.valueOf(periodEnd));
         
@@ -165,25 +270,30 @@ public class PayrollCalculator {
         return payroll;
     }
 
-    private void calculateAllPayrollComponents(Payroll payroll, Employee employee, LocalDate periodStart, LocalDate periodEnd) 
+    private void calculateAllPayrollComponents(Payroll payroll, PayrollCalculationContext context)
             throws PayrollCalculationException {
         try {
+            Employee employee = context.getEmployee();
             double dailyRate = payroll.getDailyRate();
+
+            // One pass over the attendance feeds both earnings and time-based deductions
+            AttendanceBlock.Totals attendanceTotals = context.getAttendanceBlock().summarize(
+                    STANDARD_LOGIN_MINUTE, LATE_THRESHOLD_MINUTE, STANDARD_LOGOUT_MINUTE, new AttendanceBlock.Totals());
             
             // Calculate attendance-based earnings
-            calculateAttendanceBasedEarnings(payroll, employee.getEmployeeId(), periodStart, periodEnd, dailyRate);
+            calculateAttendanceBasedEarnings(payroll, context, attendanceTotals, dailyRate);
 
             // Calculate overtime earnings
-            calculateOvertimeEarnings(payroll, employee.getEmployeeId(), periodStart, periodEnd, dailyRate);
+            calculateOvertimeEarnings(payroll, context, dailyRate);
 
             // Calculate allowances and benefits
             calculateAllowancesAndBenefits(payroll, employee);
 
             // Calculate time-based deductions
-            calculateTimeBasedDeductions(payroll, employee.getEmployeeId(), periodStart, periodEnd, dailyRate);
+            calculateTimeBasedDeductions(payroll, context, attendanceTotals, dailyRate);
 
             // Calculate government contributions and tax
-            calculateGovernmentContributionsAndTax(payroll, employee.getBasicSalary());
+            calculateGovernmentContributionsAndTax(payroll, employee.getBasicSalary(), context.getContributionRates());
 
         } catch (Exception e) {
             throw new PayrollCalculationException("Error calculating payroll components: " + e.getMessage(), e);
@@ -206,55 +316,30 @@ public class PayrollCalculator {
     /**
      * FIXED: Better attendance calculation with proper error handling
      */
-    private void calculateAttendanceBasedEarnings(Payroll payroll, int employeeId,
-                                                   LocalDate periodStart, LocalDate periodEnd, double dailyRate) 
+    private void calculateAttendanceBasedEarnings(Payroll payroll, PayrollCalculationContext context,
+                                                   AttendanceBlock.Totals attendanceTotals, double dailyRate)
             throws PayrollCalculationException {
 
+        int employeeId = context.getEmployeeId();
+        LocalDate periodStart = context.getPeriodStart();
+        LocalDate periodEnd = context.getPeriodEnd();
         LOGGER.info(String.format("🔍 Calculating attendance for employee %d (period: %s to %s)", 
                 employeeId, periodStart, periodEnd));
 
         try {
-            List<Attendance> attendanceList = attendanceDAO.getAttendanceByEmployeeIdBetweenDates(
-                    employeeId, periodStart, periodEnd);
-
-            if (attendanceList == null) {
-                LOGGER.warning("⚠️ Attendance list is null for employee " + employeeId);
-                payroll.setDaysWorked(0);
-                payroll.setGrossEarnings(0.0);
-                return;
-            }
-
-            LOGGER.info(String.format("📊 Found %d attendance records for employee %d", attendanceList.size(), employeeId));
-
-            int validAttendanceDays = 0;
-            double totalValidHours = 0.0;
+            LOGGER.info(String.format("📊 Found %d attendance records for employee %d",
+                    context.getAttendanceBlock().size(), employeeId));
 
-            for (Attendance attendance : attendanceList) {
-                if (attendance == null) {
-                    LOGGER.warning("⚠️ Null attendance record found, skipping");
-                    continue;
-                }
-
-                if (attendance.getLogIn() != null) {
-                    validAttendanceDays++;
-                    double workHours = attendance.getWorkHours();
-                    totalValidHours += workHours;
-
-                    LOGGER.fine(String.format("✓ Valid attendance: Date=%s, Hours=%.2f", 
-                            attendance.getDate(), workHours));
-                } else {
-                    LOGGER.warning(String.format("⚠️ Invalid attendance (no log in): Date=%s", 
-                            attendance.getDate()));
-                }
-            }
+            // Days with a log in count as worked
+            int validAttendanceDays = attendanceTotals.getDaysWorked();
 
             // Set calculated values
             payroll.setDaysWorked(validAttendanceDays);
-            double basicPay = validAttendanceDays * dailyRate;
-            payroll.setGrossEarnings(basicPay);
+            long basicPay = Money.toCentavos(validAttendanceDays * dailyRate);
+            payroll.setGrossEarningsCentavos(basicPay);
 
-            LOGGER.info(String.format("✅ Attendance calculation complete: %d days worked, %.2f basic pay", 
-                    validAttendanceDays, basicPay));
+            LOGGER.info(String.format("✅ Attendance calculation complete: %d days worked (%.2f hours), %.2f basic pay", 
+                    validAttendanceDays, attendanceTotals.getWorkedMinutes() / 60.0, Money.toPesos(basicPay)));
 
             // Warn if no valid attendance found
             if (validAttendanceDays == 0) {
@@ -271,39 +356,27 @@ public class PayrollCalculator {
     /**
      * FIXED: Better overtime calculation with proper null checks
      */
-    private void calculateOvertimeEarnings(Payroll payroll, int employeeId,
-                                           LocalDate periodStart, LocalDate periodEnd, double dailyRate) {
-        if (overtimeDAO == null) {
-            LOGGER.info("ℹ️ Overtime calculation skipped - OvertimeDAO not available");
-            payroll.setTotalOvertimeHours(0.0);
-            payroll.setOvertimePay(0.0);
-            return;
-        }
+    private void calculateOvertimeEarnings(Payroll payroll, PayrollCalculationContext context, double dailyRate) {
+        int employeeId = context.getEmployeeId();
 
         try {
-            List<Overtime> overtimeList = overtimeDAO.getOvertimeByEmployeeIdAndDateRange(
-                    employeeId, periodStart, periodEnd);
-
-            if (overtimeList == null) {
-                LOGGER.warning("⚠️ Overtime list is null for employee " + employeeId);
+            if (!context.hasOvertimeData()) {
+                LOGGER.info("ℹ️ Overtime calculation skipped - no overtime data for employee " + employeeId);
                 payroll.setTotalOvertimeHours(0.0);
                 payroll.setOvertimePay(0.0);
                 return;
             }
 
-            double totalOvertimeHours = overtimeList.stream()
-                    .filter(overtime -> overtime != null && overtime.isApproved())
-                    .mapToDouble(Overtime::getHours)
-                    .sum();
+            double totalOvertimeHours = context.getApprovedOvertimeHours();
 
             double hourlyRate = dailyRate / PayrollConstants.STANDARD_WORKING_HOURS_PER_DAY;
-            double overtimePay = totalOvertimeHours * hourlyRate * PayrollConstants.OVERTIME_RATE_MULTIPLIER;
+            long overtimePay = Money.toCentavos(totalOvertimeHours * hourlyRate * PayrollConstants.OVERTIME_RATE_MULTIPLIER);
 
             payroll.setTotalOvertimeHours(totalOvertimeHours);
-            payroll.setOvertimePay(overtimePay);
+            payroll.setOvertimePayCentavos(overtimePay);
 
             LOGGER.info(String.format("✅ Overtime calculation: %.2f hours, ₱%.2f pay for employee %d", 
-                    totalOvertimeHours, overtimePay, employeeId));
+                    totalOvertimeHours, Money.toPesos(overtimePay), employeeId));
 
         } catch (Exception e) {
             LOGGER.warning("⚠️ Error calculating overtime, setting to 0: " + e.getMessage());
@@ -339,31 +412,24 @@ public class PayrollCalculator {
     /**
      * FIXED: Enhanced time-based deductions with better error handling
      */
-    private void calculateTimeBasedDeductions(Payroll payroll, int employeeId,
-                                              LocalDate periodStart, LocalDate periodEnd, double dailyRate) {
-        try {
-            // Get attendance records safely
-            List<Attendance> attendanceList = attendanceDAO.getAttendanceByEmployeeIdBetweenDates(
-                    employeeId, periodStart, periodEnd);
-
-            if (attendanceList == null) {
-                LOGGER.warning("⚠️ No attendance data for deduction calculation");
-                setZeroDeductions(payroll);
-                return;
-            }
+    private void calculateTimeBasedDeductions(Payroll payroll, PayrollCalculationContext context,
+                                              AttendanceBlock.Totals attendanceTotals, double dailyRate) {
+        int employeeId = context.getEmployeeId();
 
-            // Calculate time-based deductions
-            double lateDeduction = calculateLateDeduction(attendanceList, dailyRate);
-            double undertimeDeduction = calculateUndertimeDeduction(attendanceList, dailyRate);
+        try {
+            // Late and undertime are charged per minute at the hourly rate
+            double hourlyRate = dailyRate / PayrollConstants.STANDARD_WORKING_HOURS_PER_DAY;
+            long lateDeduction = Money.toCentavos(attendanceTotals.getLateMinutes() / 60.0 * hourlyRate);
+            long undertimeDeduction = Money.toCentavos(attendanceTotals.getUndertimeMinutes() / 60.0 * hourlyRate);
 
-            payroll.setLateDeduction(lateDeduction);
-            payroll.setUndertimeDeduction(undertimeDeduction);
+            payroll.setLateDeductionCentavos(lateDeduction);
+            payroll.setUndertimeDeductionCentavos(undertimeDeduction);
 
             // Calculate unpaid leave deduction
-            calculateUnpaidLeaveDeduction(payroll, employeeId, periodStart, periodEnd, dailyRate);
+            calculateUnpaidLeaveDeduction(payroll, context, dailyRate);
 
             LOGGER.info(String.format("✅ Time deductions for employee %d - Late: ₱%.2f, Undertime: ₱%.2f, Unpaid Leave: ₱%.2f",
-                    employeeId, lateDeduction, undertimeDeduction, payroll.getUnpaidLeaveDeduction()));
+                    employeeId, Money.toPesos(lateDeduction), Money.toPesos(undertimeDeduction), payroll.getUnpaidLeaveDeduction()));
 
         } catch (Exception e) {
             LOGGER.warning("⚠️ Error calculating time-based deductions: " + e.getMessage());
@@ -378,20 +444,14 @@ public class PayrollCalculator {
         payroll.setUnpaidLeaveCount(0);
     }
 
-    private void calculateUnpaidLeaveDeduction(Payroll payroll, int employeeId, 
-                                               LocalDate periodStart, LocalDate periodEnd, double dailyRate) {
-        if (leaveDAO == null) {
-            LOGGER.info("ℹ️ Unpaid leave calculation skipped - LeaveRequestDAO not available");
-            payroll.setUnpaidLeaveDeduction(0.0);
-            payroll.setUnpaidLeaveCount(0);
-            return;
-        }
+    private void calculateUnpaidLeaveDeduction(Payroll payroll, PayrollCalculationContext context, double dailyRate) {
+        int employeeId = context.getEmployeeId();
 
         try {
-            List<LeaveRequest> approvedLeaves = leaveDAO.getApprovedLeavesByEmployeeIdAndDateRange(
-                    employeeId, periodStart, periodEnd);
+            List<LeaveRequest> approvedLeaves = context.getApprovedLeaves();
 
             if (approvedLeaves == null) {
+                LOGGER.info("ℹ️ Unpaid leave calculation skipped - no leave data for employee " + employeeId);
                 payroll.setUnpaidLeaveDeduction(0.0);
                 payroll.setUnpaidLeaveCount(0);
                 return;
@@ -402,14 +462,14 @@ public class PayrollCalculator {
                     .mapToLong(LeaveRequest::getLeaveDays)
                     .sum();
 
-            double unpaidLeaveDeduction = unpaidLeaveCount * dailyRate;
+            long unpaidLeaveDeduction = Money.toCentavos(unpaidLeaveCount * dailyRate);
 
             payroll.setUnpaidLeaveCount(unpaidLeaveCount);
-            payroll.setUnpaidLeaveDeduction(unpaidLeaveDeduction);
+            payroll.setUnpaidLeaveDeductionCentavos(unpaidLeaveDeduction);
 
             if (unpaidLeaveCount > 0) {
                 LOGGER.info(String.format("✅ Unpaid leave for employee %d: %d days, ₱%.2f deduction",
-                        employeeId, unpaidLeaveCount, unpaidLeaveDeduction));
+                        employeeId, unpaidLeaveCount, Money.toPesos(unpaidLeaveDeduction)));
             }
 
         } catch (Exception e) {
@@ -420,78 +480,15 @@ public class PayrollCalculator {
     }
 
     /**
-     * FIXED: Enhanced late deduction calculation
+     * Government contributions and withholding tax from the period's rate tables
      */
-    private double calculateLateDeduction(List<Attendance> attendanceList, double dailyRate) {
-        if (attendanceList == null || attendanceList.isEmpty()) {
-            return 0.0;
-        }
-
-        double totalLateDeduction = 0.0;
-        double hourlyRate = dailyRate / PayrollConstants.STANDARD_WORKING_HOURS_PER_DAY;
-
-        for (Attendance attendance : attendanceList) {
-            if (attendance == null || attendance.getLogIn() == null) {
-                continue;
-            }
-
-            try {
-                LocalTime loginTime = attendance.getLogIn().toLocalTime();
-
-                if (loginTime.isAfter(PayrollConstants.LATE_THRESHOLD_TIME)) {
-                    long minutesLate = ChronoUnit.MINUTES.between(PayrollConstants.STANDARD_LOGIN_TIME, loginTime);
-                    double hoursLate = minutesLate / 60.0;
-                    totalLateDeduction += hoursLate * hourlyRate;
-                }
-            } catch (Exception e) {
-                LOGGER.warning("⚠️ Error processing attendance record for late calculation: " + e.getMessage());
-            }
-        }
-
-        return totalLateDeduction;
-    }
-
-    /**
-     * FIXED: Enhanced undertime deduction calculation
-     */
-    private double calculateUndertimeDeduction(List<Attendance> attendanceList, double dailyRate) {
-        if (attendanceList == null || attendanceList.isEmpty()) {
-            return 0.0;
-        }
-
-        double totalUndertimeDeduction = 0.0;
-        double hourlyRate = dailyRate / PayrollConstants.STANDARD_WORKING_HOURS_PER_DAY;
-
-        for (Attendance attendance : attendanceList) {
-            if (attendance == null || attendance.getLogOut() == null) {
-                continue;
-            }
-
-            try {
-                LocalTime logoutTime = attendance.getLogOut().toLocalTime();
-
-                if (logoutTime.isBefore(PayrollConstants.STANDARD_LOGOUT_TIME)) {
-                    long minutesShort = ChronoUnit.MINUTES.between(logoutTime, PayrollConstants.STANDARD_LOGOUT_TIME);
-                    double hoursShort = minutesShort / 60.0;
-                    totalUndertimeDeduction += hoursShort * hourlyRate;
-                }
-            } catch (Exception e) {
-                LOGGER.warning("⚠️ Error processing attendance record for undertime calculation: " + e.getMessage());
-            }
-        }
-
-        return totalUndertimeDeduction;
-    }
-
-    /**
-     * FIXED: Better government contributions calculation
-     */
-    private void calculateGovernmentContributionsAndTax(Payroll payroll, double monthlySalary) {
+    private void calculateGovernmentContributionsAndTax(Payroll payroll, double monthlySalary,
+                                                        ContributionRateTables.Rates rates) {
         try {
-            double sss = calculateSSSContribution(monthlySalary);
-            double philhealth = calculatePhilHealthContribution(monthlySalary);
-            double pagibig = calculatePagIBIGContribution(monthlySalary);
-            double tax = calculateIncomeTax(monthlySalary);
+            double sss = rates.sss(monthlySalary);
+            double philhealth = rates.philHealth(monthlySalary);
+            double pagibig = rates.pagIbig(monthlySalary);
+            double tax = rates.incomeTax(monthlySalary);
 
             payroll.setSss(sss);
             payroll.setPhilhealth(philhealth);
@@ -510,84 +507,6 @@ public class PayrollCalculator {
         }
     }
 
-    // Government contribution calculation methods (unchanged but with better error handling)
-    private double calculateSSSContribution(double monthlySalary) {
-        try {
-            if (monthlySalary <= 4000) return 180.00;
-            if (monthlySalary <= 4750) return 202.50;
-            if (monthlySalary <= 5500) return 225.00;
-            if (monthlySalary <= 6250) return 247.50;
-            if (monthlySalary <= 7000) return 270.00;
-            if (monthlySalary <= 7750) return 292.50;
-            if (monthlySalary <= 8500) return 315.00;
-            if (monthlySalary <= 9250) return 337.50;
-            if (monthlySalary <= 10000) return 360.00;
-            if (monthlySalary <= 15000) return 540.00;
-            if (monthlySalary <= 20000) return 720.00;
-            if (monthlySalary <= 25000) return 900.00;
-            return 1125.00;
-        } catch (Exception e) {
-            LOGGER.warning("Error calculating SSS contribution: " + e.getMessage());
-            return 0.0;
-        }
-    }
-
-    private double calculatePhilHealthContribution(double monthlySalary) {
-        try {
-            double rate = 0.05;
-            double employeeShare = (monthlySalary * rate) / 2;
-            double minContribution = 500.00;
-            double maxContribution = 5000.00;
-
-            if (employeeShare < minContribution) return minContribution;
-            if (employeeShare > maxContribution) return maxContribution;
-            return employeeShare;
-        } catch (Exception e) {
-            LOGGER.warning("Error calculating PhilHealth contribution: " + e.getMessage());
-            return 0.0;
-        }
-    }
-
-    private double calculatePagIBIGContribution(double monthlySalary) {
-        try {
-            if (monthlySalary <= 1500) {
-                return monthlySalary * 0.01;
-            } else {
-                double contribution = monthlySalary * 0.02;
-                return Math.min(contribution, 200.00);
-            }
-        } catch (Exception e) {
-            LOGGER.warning("Error calculating Pag-IBIG contribution: " + e.getMessage());
-            return 0.0;
-        }
-    }
-
-    private double calculateIncomeTax(double monthlySalary) {
-        try {
-            double annualSalary = monthlySalary * 12;
-            double annualTax = 0.0;
-
-            if (annualSalary <= 250000) {
-                annualTax = 0.0;
-            } else if (annualSalary <= 400000) {
-                annualTax = (annualSalary - 250000) * 0.15;
-            } else if (annualSalary <= 800000) {
-                annualTax = 22500 + (annualSalary - 400000) * 0.20;
-            } else if (annualSalary <= 2000000) {
-                annualTax = 102500 + (annualSalary - 800000) * 0.25;
-            } else if (annualSalary <= 8000000) {
-                annualTax = 402500 + (annualSalary - 2000000) * 0.30;
-            } else {
-                annualTax = 2202500 + (annualSalary - 8000000) * 0.35;
-            }
-
-            return annualTax / 12;
-        } catch (Exception e) {
-            LOGGER.warning("Error calculating income tax: " + e.getMessage());
-            return 0.0;
-        }
-    }
-
     private void validateFinalPayroll(Payroll payroll) throws PayrollCalculationException {
         if (!payroll.isValid()) {
             throw new PayrollCalculationException("Invalid payroll calculation result - basic validation failed");
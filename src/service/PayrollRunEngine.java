@@ -0,0 +1,417 @@
+package service;
+
+import dao.AttendanceDAO;
+import dao.DeductionDAO;
+import dao.EmployeeDAO;
+import dao.GovernmentContributionsDAO;
+import dao.LeaveRequestDAO;
+import dao.OvertimeDAO;
+import dao.PayrollDAO;
+import dao.UnitOfWork;
+import model.Attendance;
+import model.Employee;
+import model.GovernmentContributions;
+import model.LeaveRequest;
+import model.OvertimeTotals;
+import model.Payroll;
+import util.ConfigurationManager;
+import util.PayrollChangeTracker;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.Semaphore;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+/**
+ * Set-based payroll run for all employees in a period.
+ * Loads attendance, overtime and approved leave for the whole period with one
+ * range query per table, groups the rows by employee in memory and feeds them
+ * to the regular {@link PayrollCalculator} steps as one
+ * {@link PayrollCalculationContext} per employee. A run therefore costs a
+ * handful of queries instead of several per employee.
+ *
+ * {@link #runParallel} is the alternative for runs over a subset of employees,
+ * where period-wide queries would load far more rows than needed: each employee
+ * is loaded and calculated on its own virtual thread, with a semaphore capping
+ * how many pooled connections the loads hold at once.
+ *
+ * {@link #runIncremental} stores its results and, on later runs of the same
+ * period, recalculates only employees whose records changed since (as reported
+ * by {@link PayrollChangeTracker}), reusing the stored payroll rows for the rest.
+ * It writes payroll, contribution and deduction rows, so it backs the explicit
+ * finalize action; reports use the read-only {@link #run}.
+ */
+public class PayrollRunEngine {
+    private static final Logger LOGGER = Logger.getLogger(PayrollRunEngine.class.getName());
+
+    private final EmployeeDAO employeeDAO;
+    private final AttendanceDAO attendanceDAO;
+    private final OvertimeDAO overtimeDAO;
+    private final LeaveRequestDAO leaveDAO;
+    private final PayrollDAO payrollDAO;
+    private final GovernmentContributionsDAO contributionsDAO;
+    private final DeductionDAO deductionDAO;
+    private final PayrollChangeTracker changeTracker;
+    private final PayrollCalculator payrollCalculator;
+    private final int maxDbConcurrency;
+    private final int maxDbConnections;
+
+    public PayrollRunEngine() {
+        this(new PayrollCalculator());
+    }
+
+    public PayrollRunEngine(PayrollCalculator payrollCalculator) {
+        this(payrollCalculator, ConfigurationManager.getInstance().getPayrollRunMaxDbConcurrency());
+    }
+
+    /**
+     * @param payrollCalculator Calculator used for every employee
+     * @param maxDbConcurrency Maximum number of employees loading data at once in a parallel run,
+     *                         further limited so the loads never hold more than the pool's connections
+     */
+    public PayrollRunEngine(PayrollCalculator payrollCalculator, int maxDbConcurrency) {
+        if (maxDbConcurrency <= 0) {
+            throw new IllegalArgumentException("Max DB concurrency must be positive");
+        }
+        this.employeeDAO = new EmployeeDAO();
+        this.attendanceDAO = new AttendanceDAO();
+        this.overtimeDAO = new OvertimeDAO();
+        this.leaveDAO = new LeaveRequestDAO();
+        this.payrollDAO = new PayrollDAO();
+        this.contributionsDAO = new GovernmentContributionsDAO();
+        this.deductionDAO = new DeductionDAO();
+        this.changeTracker = PayrollChangeTracker.getInstance();
+        this.payrollCalculator = payrollCalculator;
+        this.maxDbConcurrency = maxDbConcurrency;
+        // Each load borrows a connection per query, so budget connections rather than employees
+        this.maxDbConnections = Math.max(PayrollCalculator.CONTEXT_QUERIES,
+                Math.min(maxDbConcurrency * PayrollCalculator.CONTEXT_QUERIES,
+                        ConfigurationManager.getInstance().getPoolMaxSize()));
+    }
+
+    /**
+     * Calculates payroll for every employee in the period
+     * @param periodStart Start of the pay period
+     * @param periodEnd End of the pay period
+     * @return Run result with payrolls and per-employee failures, in employee order
+     */
+    public RunResult run(LocalDate periodStart, LocalDate periodEnd) {
+        return run(employeeDAO.getAllEmployees(), periodStart, periodEnd);
+    }
+
+    /**
+     * Calculates payroll for the given employees in the period
+     * @param employees Employees to pay
+     * @param periodStart Start of the pay period
+     * @param periodEnd End of the pay period
+     * @return Run result with payrolls and per-employee failures, in employee order
+     */
+    public RunResult run(List<Employee> employees, LocalDate periodStart, LocalDate periodEnd) {
+        validatePeriod(periodStart, periodEnd);
+
+        long started = System.currentTimeMillis();
+        PeriodData data = loadPeriodData(periodStart, periodEnd);
+        RunResult result = new RunResult(employees);
+
+        for (Employee employee : employees) {
+            int employeeId = employee.getEmployeeId();
+            try {
+                Payroll payroll = payrollCalculator.calculatePayroll(data.contextFor(employee, periodStart, periodEnd));
+                result.payrolls.put(employeeId, payroll);
+            } catch (Exception e) {
+                LOGGER.log(Level.WARNING, "Error calculating payroll for employee " + employeeId, e);
+                result.failures.put(employeeId, e);
+            }
+        }
+
+        LOGGER.info(String.format("✅ Payroll run %s to %s: %d calculated, %d failed in %d ms",
+                periodStart, periodEnd, result.payrolls.size(), result.failures.size(),
+                System.currentTimeMillis() - started));
+        return result;
+    }
+
+    /**
+     * Calculates payroll for the given employees in the period, one virtual
+     * thread per employee. Each employee's data is loaded with its own queries;
+     * at most {@code maxDbConcurrency} employees load at the same time, and
+     * fewer when their queries would need more connections than the pool has.
+     * @param employees Employees to pay
+     * @param periodStart Start of the pay period
+     * @param periodEnd End of the pay period
+     * @return Run result with payrolls and per-employee failures, in employee order
+     * @throws InterruptedException if the calling thread is interrupted while waiting for the run
+     */
+    public RunResult runParallel(List<Employee> employees, LocalDate periodStart, LocalDate periodEnd)
+            throws InterruptedException {
+        validatePeriod(periodStart, periodEnd);
+
+        long started = System.currentTimeMillis();
+        Semaphore dbPermits = new Semaphore(maxDbConnections);
+        RunResult result = new RunResult(employees);
+        List<Future<Payroll>> futures = new ArrayList<>(employees.size());
+
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            for (Employee employee : employees) {
+                futures.add(executor.submit(() -> calculateBounded(employee, periodStart, periodEnd, dbPermits)));
+            }
+
+            // Collect in submission order so results line up with the employee list
+            for (int i = 0; i < employees.size(); i++) {
+                int employeeId = employees.get(i).getEmployeeId();
+                try {
+                    result.payrolls.put(employeeId, futures.get(i).get());
+                } catch (ExecutionException e) {
+                    Throwable cause = e.getCause();
+                    LOGGER.log(Level.WARNING, "Error calculating payroll for employee " + employeeId, cause);
+                    result.failures.put(employeeId, cause instanceof Exception ? (Exception) cause : e);
+                }
+            }
+        } catch (InterruptedException e) {
+            futures.forEach(f -> f.cancel(true));
+            throw e;
+        }
+
+        LOGGER.info(String.format("✅ Parallel payroll run %s to %s: %d calculated, %d failed in %d ms (db connections %d)",
+                periodStart, periodEnd, result.payrolls.size(), result.failures.size(),
+                System.currentTimeMillis() - started, maxDbConnections));
+        return result;
+    }
+
+    /**
+     * Calculates and stores payroll for every employee in the period, reusing
+     * stored rows where nothing changed. The first run of a period in this
+     * process recalculates everyone to establish a baseline; later runs only
+     * recalculate employees that are dirty or have no stored row, until the
+     * baseline expires and the next run recalculates everyone again.
+     * @param periodStart Start of the pay period
+     * @param periodEnd End of the pay period
+     * @return Run result with payrolls and per-employee failures, in employee order
+     * @throws InterruptedException if interrupted while waiting for a parallel recalculation
+     */
+    public RunResult runIncremental(LocalDate periodStart, LocalDate periodEnd) throws InterruptedException {
+        validatePeriod(periodStart, periodEnd);
+
+        List<Employee> employees = employeeDAO.getAllEmployees();
+        // Drain before loading so changes made during the run stay dirty for the next one
+        Set<Integer> dirty = changeTracker.drainDirty(periodStart, periodEnd);
+        Map<Integer, Payroll> stored = new HashMap<>();
+        for (Payroll payroll : payrollDAO.getPayrollsForPeriod(periodStart, periodEnd)) {
+            stored.put(payroll.getEmployeeId(), payroll);
+        }
+
+        if (!changeTracker.isBaselined(periodStart, periodEnd)) {
+            RunResult full = run(employees, periodStart, periodEnd);
+            store(full, stored, periodStart, periodEnd);
+            changeTracker.markBaselined(periodStart, periodEnd);
+            return full;
+        }
+
+        List<Employee> stale = new ArrayList<>();
+        for (Employee employee : employees) {
+            if (dirty.contains(employee.getEmployeeId()) || !stored.containsKey(employee.getEmployeeId())) {
+                stale.add(employee);
+            }
+        }
+
+        RunResult result = new RunResult(employees);
+        RunResult recalculated = null;
+        if (!stale.isEmpty()) {
+            // Period-wide loads win once a large share of the company is stale
+            recalculated = stale.size() * 2 > employees.size()
+                    ? run(stale, periodStart, periodEnd)
+                    : runParallel(stale, periodStart, periodEnd);
+            store(recalculated, stored, periodStart, periodEnd);
+        }
+
+        for (Employee employee : employees) {
+            int employeeId = employee.getEmployeeId();
+            if (recalculated != null && recalculated.hasFailed(employeeId)) {
+                result.failures.put(employeeId, recalculated.failures.get(employeeId));
+            } else if (recalculated != null && recalculated.getPayroll(employeeId) != null) {
+                result.payrolls.put(employeeId, recalculated.getPayroll(employeeId));
+            } else {
+                result.payrolls.put(employeeId, stored.get(employeeId));
+            }
+        }
+
+        LOGGER.info(String.format("✅ Incremental payroll run %s to %s: %d recalculated, %d reused, %d failed",
+                periodStart, periodEnd, stale.size() - result.failures.size(),
+                employees.size() - stale.size(), result.failures.size()));
+        return result;
+    }
+
+    /**
+     * Saves calculated payrolls over any stored rows for the period, together with
+     * their government contributions and itemized deductions. Each chunk of
+     * employees is written in one unit of work, so an employee's payslip is
+     * stored completely or not at all and a whole chunk shares one commit.
+     * Employees that failed to calculate or save are marked dirty so the next
+     * run retries them.
+     */
+    private void store(RunResult run, Map<Integer, Payroll> stored, LocalDate periodStart, LocalDate periodEnd) {
+        for (Integer employeeId : run.failures.keySet()) {
+            changeTracker.markDirty(employeeId, periodStart, periodEnd);
+        }
+
+        List<Payroll> payrolls = new ArrayList<>(run.payrolls.values());
+        for (Payroll payroll : payrolls) {
+            Payroll existing = stored.get(payroll.getEmployeeId());
+            if (existing != null) {
+                payroll.setPayrollId(existing.getPayrollId());
+            }
+        }
+
+        int chunkSize = Math.max(1, ConfigurationManager.getInstance().getBatchWriteChunkSize());
+        for (int from = 0; from < payrolls.size(); from += chunkSize) {
+            List<Payroll> chunk = payrolls.subList(from, Math.min(from + chunkSize, payrolls.size()));
+            try (UnitOfWork work = UnitOfWork.begin()) {
+                contributionsDAO.replaceContributionsForPeriod(work, contributionsOf(chunk), periodStart);
+                payrollDAO.insertOrReplacePayrolls(work, chunk);
+                deductionDAO.replacePayrollDeductions(work, chunk);
+                work.commit();
+            } catch (Exception e) {
+                // The chunk was rolled back; earlier chunks stay stored and redoing them is harmless
+                LOGGER.log(Level.WARNING, "Error storing payrolls for " + periodStart, e);
+                chunk.forEach(payroll -> changeTracker.markDirty(payroll.getEmployeeId(), periodStart, periodEnd));
+            }
+        }
+    }
+
+    private static List<GovernmentContributions> contributionsOf(List<Payroll> payrolls) {
+        List<GovernmentContributions> contributions = new ArrayList<>(payrolls.size());
+        for (Payroll payroll : payrolls) {
+            contributions.add(new GovernmentContributions(payroll.getEmployeeId(),
+                    payroll.getSss(), payroll.getPhilhealth(), payroll.getPagibig(), payroll.getTax()));
+        }
+        return contributions;
+    }
+
+    private Payroll calculateBounded(Employee employee, LocalDate periodStart, LocalDate periodEnd,
+                                     Semaphore dbPermits) throws Exception {
+        PayrollCalculationContext context;
+        // One permit per connection the load's parallel queries borrow
+        dbPermits.acquire(PayrollCalculator.CONTEXT_QUERIES);
+        try {
+            context = payrollCalculator.loadContext(employee.getEmployeeId(), periodStart, periodEnd);
+        } finally {
+            dbPermits.release(PayrollCalculator.CONTEXT_QUERIES);
+        }
+        // The calculation itself is pure CPU work and does not need a permit
+        return payrollCalculator.calculatePayroll(context);
+    }
+
+    private void validatePeriod(LocalDate periodStart, LocalDate periodEnd) {
+        if (periodStart == null || periodEnd == null) {
+            throw new IllegalArgumentException("Period start and end dates cannot be null");
+        }
+        if (periodStart.isAfter(periodEnd)) {
+            throw new IllegalArgumentException("Period start date cannot be after end date");
+        }
+    }
+
+    public int getMaxDbConcurrency() {
+        return maxDbConcurrency;
+    }
+
+    /**
+     * Loads the period's attendance, approved overtime totals and approved leave for all employees
+     */
+    PeriodData loadPeriodData(LocalDate periodStart, LocalDate periodEnd) {
+        // Rate tables are resolved once and shared by every employee in the run
+        PeriodData data = new PeriodData(ContributionRateTables.getInstance().ratesFor(periodEnd));
+
+        data.attendance.putAll(attendanceDAO.getAttendanceByEmployeesBetweenDates(null, periodStart, periodEnd));
+
+        try {
+            // Only the approved total feeds the calculation, so let the database sum it
+            data.overtime = overtimeDAO.getApprovedOvertimeTotals(null, periodStart, periodEnd);
+        } catch (Exception e) {
+            LOGGER.warning("⚠️ Error loading overtime for payroll run, overtime will be 0: " + e.getMessage());
+        }
+
+        try {
+            data.leaves.putAll(leaveDAO.getApprovedLeavesByEmployeesAndDateRange(null, periodStart, periodEnd));
+        } catch (Exception e) {
+            LOGGER.warning("⚠️ Error loading approved leaves for payroll run: " + e.getMessage());
+        }
+
+        return data;
+    }
+
+    /**
+     * Period records grouped by employee ID
+     */
+    static class PeriodData {
+        private final Map<Integer, List<Attendance>> attendance = new HashMap<>();
+        private OvertimeTotals overtime = new OvertimeTotals();
+        private final Map<Integer, List<LeaveRequest>> leaves = new HashMap<>();
+        private final ContributionRateTables.Rates rates;
+
+        PeriodData(ContributionRateTables.Rates rates) {
+            this.rates = rates;
+        }
+
+        List<Attendance> attendanceFor(int employeeId) {
+            return attendance.getOrDefault(employeeId, Collections.emptyList());
+        }
+
+        double approvedOvertimeHoursFor(int employeeId) {
+            return overtime.getHours(employeeId);
+        }
+
+        List<LeaveRequest> leavesFor(int employeeId) {
+            return leaves.getOrDefault(employeeId, Collections.emptyList());
+        }
+
+        PayrollCalculationContext contextFor(Employee employee, LocalDate periodStart, LocalDate periodEnd) {
+            int employeeId = employee.getEmployeeId();
+            return PayrollCalculationContext.withOvertimeTotal(employee, periodStart, periodEnd,
+                    attendanceFor(employeeId), approvedOvertimeHoursFor(employeeId), leavesFor(employeeId), rates);
+        }
+    }
+
+    /**
+     * Outcome of a payroll run. Payrolls and failures keep the order of the
+     * employee list the run was started with.
+     */
+    public static class RunResult {
+        private final List<Employee> employees;
+        private final Map<Integer, Payroll> payrolls = new LinkedHashMap<>();
+        private final Map<Integer, Exception> failures = new LinkedHashMap<>();
+
+        RunResult(List<Employee> employees) {
+            this.employees = employees;
+        }
+
+        public List<Employee> getEmployees() {
+            return Collections.unmodifiableList(employees);
+        }
+
+        public List<Payroll> getPayrolls() {
+            return new ArrayList<>(payrolls.values());
+        }
+
+        public Payroll getPayroll(int employeeId) {
+            return payrolls.get(employeeId);
+        }
+
+        public Map<Integer, Exception> getFailures() {
+            return Collections.unmodifiableMap(failures);
+        }
+
+        public boolean hasFailed(int employeeId) {
+            return failures.containsKey(employeeId);
+        }
+    }
+}
@@ -14,6 +14,7 @@ import java.util.logging.Level;
 import java.io.*;
 import java.nio.file.Files;
 import java.nio.file.Paths;
+import java.util.stream.Stream;
 
 public class ReportGenerator {
     private static final Logger logger = Logger.getLogger(ReportGenerator.class.getName());
@@ -22,12 +23,14 @@ public class ReportGenerator {
     private final PayrollDAO payrollDAO;
     private final AttendanceDAO attendanceDAO;
     private final PayrollCalculator payrollCalculator;
+    private final PayrollRunEngine payrollRunEngine;
 
     public ReportGenerator() {
         this.employeeDAO = new EmployeeDAO();
         this.payrollDAO = new PayrollDAO();
         this.attendanceDAO = new AttendanceDAO();
         this.payrollCalculator = new PayrollCalculator();
+        this.payrollRunEngine = new PayrollRunEngine(payrollCalculator);
     }
 
     /**
@@ -47,18 +50,8 @@ public class ReportGenerator {
         report.setPeriodEnd(periodEnd);
 
         try {
-            List<Employee> employees = employeeDAO.getAllEmployees();
-            List<Payroll> payrollData = new ArrayList<>();
-
-            for (Employee emp : employees) {
-                try {
-                    Payroll payroll = payrollCalculator.calculatePayroll(
-                            emp.getEmployeeId(), periodStart, periodEnd);
-                    payrollData.add(payroll);
-                } catch (Exception e) {
-                    logger.log(Level.WARNING, "Error calculating payroll for employee " + emp.getEmployeeId(), e);
-                }
-            }
+            // Reports only calculate; storing a period's payroll is an explicit finalize action
+            List<Payroll> payrollData = payrollRunEngine.run(periodStart, periodEnd).getPayrolls();
 
             report.setPayrollData(payrollData);
             report.setSummary(generateReportSummary(payrollData));
@@ -124,11 +117,12 @@ public class ReportGenerator {
         try {
             List<Employee> employees = employeeDAO.getAllEmployees();
             Map<Integer, List<Attendance>> attendanceMap = new HashMap<>();
+            Map<Integer, List<Attendance>> attendanceByEmployee =
+                    attendanceDAO.getAttendanceByEmployeesBetweenDates(null, periodStart, periodEnd);
 
             for (Employee emp : employees) {
-                List<Attendance> attendanceList = attendanceDAO.getAttendanceByEmployeeIdBetweenDates(
-                        emp.getEmployeeId(), periodStart, periodEnd);
-                attendanceMap.put(emp.getEmployeeId(), attendanceList);
+                attendanceMap.put(emp.getEmployeeId(),
+                        attendanceByEmployee.getOrDefault(emp.getEmployeeId(), new ArrayList<>()));
             }
 
             report.setAttendanceData(attendanceMap);
@@ -189,6 +183,33 @@ public class ReportGenerator {
         }
     }
 
+    /**
+     * Export the attendance of all employees in a period to CSV.
+     * Rows are streamed from the database straight to the file, so the
+     * export runs in constant memory however many records the period has.
+     * @return Number of attendance records written
+     */
+    public long exportAttendanceToCSV(LocalDate periodStart, LocalDate periodEnd, String filePath) throws IOException {
+        long count = 0;
+        try (PrintWriter writer = new PrintWriter(Files.newBufferedWriter(Paths.get(filePath)));
+             Stream<Attendance> records = attendanceDAO.streamAttendanceBetweenDates(periodStart, periodEnd)) {
+            writer.println("Employee ID,Date,Log In,Log Out,Hours");
+
+            Iterator<Attendance> it = records.iterator();
+            while (it.hasNext()) {
+                Attendance attendance = it.next();
+                writer.printf("%d,%s,%s,%s,%.2f%n",
+                        attendance.getEmployeeId(),
+                        attendance.getDate(),
+                        attendance.getLogIn() != null ? attendance.getLogIn() : "",
+                        attendance.getLogOut() != null ? attendance.getLogOut() : "",
+                        attendance.getWorkHours());
+                count++;
+            }
+        }
+        return count;
+    }
+
     /**
      * Export report to HTML format
      */
@@ -252,14 +273,26 @@ public class ReportGenerator {
             return summary;
         }
 
+        // Sum exact centavo amounts in one pass and convert once at the end
+        long grossPay = 0, deductions = 0, netPay = 0, sss = 0, philHealth = 0, pagIbig = 0, tax = 0;
+        for (Payroll payroll : payrollData) {
+            grossPay += payroll.getGrossPayCentavos();
+            deductions += payroll.getTotalDeductionsCentavos();
+            netPay += payroll.getNetPayCentavos();
+            sss += payroll.getSssCentavos();
+            philHealth += payroll.getPhilhealthCentavos();
+            pagIbig += payroll.getPagibigCentavos();
+            tax += payroll.getTaxCentavos();
+        }
+
         summary.setTotalEmployees(payrollData.size());
-        summary.setTotalGrossPay(payrollData.stream().mapToDouble(Payroll::getGrossPay).sum());
-        summary.setTotalDeductions(payrollData.stream().mapToDouble(Payroll::getTotalDeductions).sum());
-        summary.setTotalNetPay(payrollData.stream().mapToDouble(Payroll::getNetPay).sum());
-        summary.setTotalSSSContributions(payrollData.stream().mapToDouble(Payroll::getSss).sum());
-        summary.setTotalPhilHealthContributions(payrollData.stream().mapToDouble(Payroll::getPhilhealth).sum());
-        summary.setTotalPagIBIGContributions(payrollData.stream().mapToDouble(Payroll::getPagibig).sum());
-        summary.setTotalTax(payrollData.stream().mapToDouble(Payroll::getTax).sum());
+        summary.setTotalGrossPay(Money.toPesos(grossPay));
+        summary.setTotalDeductions(Money.toPesos(deductions));
+        summary.setTotalNetPay(Money.toPesos(netPay));
+        summary.setTotalSSSContributions(Money.toPesos(sss));
+        summary.setTotalPhilHealthContributions(Money.toPesos(philHealth));
+        summary.setTotalPagIBIGContributions(Money.toPesos(pagIbig));
+        summary.setTotalTax(Money.toPesos(tax));
 
         return summary;
     }
@@ -4,19 +4,25 @@ package ui;
 import dao.AttendanceDAO;
 import dao.EmployeeDAO;
 import model.Employee;
+import model.EmployeeSummary;
 import model.Attendance;
+import service.AttendanceCsvImporter;
 
 import javax.swing.*;
 import javax.swing.table.DefaultTableModel;
 import javax.swing.table.DefaultTableCellRenderer;
+import javax.swing.filechooser.FileNameExtensionFilter;
 import java.awt.*;
 import java.awt.event.ActionEvent;
 import java.awt.event.ActionListener;
+import java.nio.file.Path;
 import java.sql.Date;
 import java.sql.Time;
 import java.time.LocalDate;
 import java.time.LocalTime;
+import java.util.Collections;
 import java.util.List;
+import java.util.Map;
 
 /**
  * Dialog for managing employee attendance records
@@ -30,7 +36,7 @@ public class AttendanceManagementDialog extends JDialog {
     // UI Components
     private JTable attendanceTable;
     private DefaultTableModel tableModel;
-    private JComboBox<Employee> employeeComboBox;
+    private JComboBox<EmployeeSummary> employeeComboBox;
     private JSpinner dateSpinner;
     private JSpinner logInSpinner;
     private JSpinner logOutSpinner;
@@ -39,6 +45,7 @@ public class AttendanceManagementDialog extends JDialog {
     private JButton deleteButton;
     private JButton refreshButton;
     private JButton clearButton;
+    private JButton importButton;
     private JLabel statusLabel;
 
     // Form state
@@ -143,6 +150,7 @@ public class AttendanceManagementDialog extends JDialog {
         deleteButton = createStyledButton("Delete", new Color(220, 20, 60), Color.WHITE);
         refreshButton = createStyledButton("Refresh", new Color(128, 128, 128), Color.WHITE);
         clearButton = createStyledButton("Clear Form", new Color(255, 140, 0), Color.WHITE);
+        importButton = createStyledButton("Import CSV", new Color(72, 61, 139), Color.WHITE);
 
         // Set button sizes
         Dimension buttonSize = new Dimension(100, 30);
@@ -151,6 +159,7 @@ public class AttendanceManagementDialog extends JDialog {
         deleteButton.setPreferredSize(buttonSize);
         refreshButton.setPreferredSize(buttonSize);
         clearButton.setPreferredSize(buttonSize);
+        importButton.setPreferredSize(buttonSize);
     }
 
     private JButton createStyledButton(String text, Color backgroundColor, Color foregroundColor) {
@@ -276,6 +285,7 @@ public class AttendanceManagementDialog extends JDialog {
         buttonPanel.add(Box.createHorizontalStrut(20));
         buttonPanel.add(clearButton);
         buttonPanel.add(refreshButton);
+        buttonPanel.add(importButton);
 
         return buttonPanel;
     }
@@ -298,6 +308,7 @@ public class AttendanceManagementDialog extends JDialog {
             setStatus("Records refreshed");
         });
         clearButton.addActionListener(e -> clearForm());
+        importButton.addActionListener(e -> importAttendanceCsv());
 
         // Table selection listener
         attendanceTable.getSelectionModel().addListSelectionListener(e -> {
@@ -314,8 +325,8 @@ public class AttendanceManagementDialog extends JDialog {
     private void loadEmployees() {
         employeeComboBox.removeAllItems();
         try {
-            List<Employee> employees = employeeDAO.getAllEmployees();
-            for (Employee emp : employees) {
+            List<EmployeeSummary> employees = employeeDAO.getEmployeeSummaries();
+            for (EmployeeSummary emp : employees) {
                 employeeComboBox.addItem(emp);
             }
             setStatus("Loaded " + employees.size() + " employees");
@@ -332,19 +343,21 @@ public class AttendanceManagementDialog extends JDialog {
             LocalDate endDate = LocalDate.now();
             LocalDate startDate = endDate.minusDays(30);
 
-            List<Employee> employees = employeeDAO.getAllEmployees();
+            List<EmployeeSummary> employees = employeeDAO.getEmployeeSummaries();
+            Map<Integer, List<Attendance>> attendanceByEmployee =
+                    attendanceDAO.getAttendanceByEmployeesBetweenDates(null, startDate, endDate);
             int totalRecords = 0;
 
-            for (Employee emp : employees) {
-                List<Attendance> records = attendanceDAO.getAttendanceByEmployeeIdBetweenDates(
-                        emp.getEmployeeId(), startDate, endDate);
+            for (EmployeeSummary emp : employees) {
+                List<Attendance> records = attendanceByEmployee.getOrDefault(
+                        emp.employeeId(), Collections.emptyList());
 
                 for (Attendance attendance : records) {
                     String status = determineAttendanceStatus(attendance);
 
                     Object[] row = {
                             attendance.getId(),
-                            emp.getFullName(),
+                            emp.fullName(),
                             attendance.getDate(),
                             attendance.getLogIn(),
                             attendance.getLogOut(),
@@ -391,28 +404,25 @@ public class AttendanceManagementDialog extends JDialog {
         if (!validateForm()) return;
 
         try {
-            Employee selectedEmployee = (Employee) employeeComboBox.getSelectedItem();
+            EmployeeSummary selectedEmployee = (EmployeeSummary) employeeComboBox.getSelectedItem();
             Date date = new Date(((java.util.Date) dateSpinner.getValue()).getTime());
             Time logIn = new Time(((java.util.Date) logInSpinner.getValue()).getTime());
             Time logOut = new Time(((java.util.Date) logOutSpinner.getValue()).getTime());
 
-            // Check if attendance already exists
-            if (attendanceDAO.attendanceExistsForDate(selectedEmployee.getEmployeeId(), date.toLocalDate())) {
-                showWarning("Attendance record already exists for " + selectedEmployee.getFullName() + " on " + date);
-                return;
-            }
-
-            Attendance attendance = new Attendance(selectedEmployee.getEmployeeId(), date, logIn, logOut);
+            // insertAttendance rejects a second record on the same day
+            Attendance attendance = new Attendance(selectedEmployee.employeeId(), date, logIn, logOut);
             int id = attendanceDAO.insertAttendance(attendance);
 
             if (id > 0) {
-                showSuccess("Attendance record added successfully for " + selectedEmployee.getFullName());
+                showSuccess("Attendance record added successfully for " + selectedEmployee.fullName());
                 loadAttendanceRecords();
                 clearForm();
             } else {
                 showError("Failed to add attendance record");
             }
 
+        } catch (IllegalArgumentException e) {
+            showWarning(e.getMessage());
         } catch (Exception e) {
             showError("Error adding attendance record: " + e.getMessage());
         }
@@ -427,12 +437,12 @@ public class AttendanceManagementDialog extends JDialog {
         if (!validateForm()) return;
 
         try {
-            Employee selectedEmployee = (Employee) employeeComboBox.getSelectedItem();
+            EmployeeSummary selectedEmployee = (EmployeeSummary) employeeComboBox.getSelectedItem();
             Date date = new Date(((java.util.Date) dateSpinner.getValue()).getTime());
             Time logIn = new Time(((java.util.Date) logInSpinner.getValue()).getTime());
             Time logOut = new Time(((java.util.Date) logOutSpinner.getValue()).getTime());
 
-            Attendance attendance = new Attendance(selectedEmployee.getEmployeeId(), date, logIn, logOut);
+            Attendance attendance = new Attendance(selectedEmployee.employeeId(), date, logIn, logOut);
             attendance.setId(editingAttendanceId);
 
             boolean updated = attendanceDAO.updateAttendance(attendance);
@@ -485,6 +495,50 @@ public class AttendanceManagementDialog extends JDialog {
         }
     }
 
+    private void importAttendanceCsv() {
+        JFileChooser fileChooser = new JFileChooser();
+        fileChooser.setDialogTitle("Import Attendance CSV");
+        fileChooser.setFileFilter(new FileNameExtensionFilter("CSV files", "csv"));
+        if (fileChooser.showOpenDialog(this) != JFileChooser.APPROVE_OPTION) {
+            return;
+        }
+
+        Path csvFile = fileChooser.getSelectedFile().toPath();
+        Path rejectFile = csvFile.resolveSibling(
+                csvFile.getFileName().toString().replaceFirst("(?i)\\.csv$", "") + "_rejects.csv");
+
+        importButton.setEnabled(false);
+        setStatus("Importing " + csvFile.getFileName() + "...");
+
+        // Large files take a while; keep the database work off the event dispatch thread
+        new SwingWorker<AttendanceCsvImporter.ImportResult, Void>() {
+            @Override
+            protected AttendanceCsvImporter.ImportResult doInBackground() throws Exception {
+                return new AttendanceCsvImporter().importFile(csvFile, rejectFile);
+            }
+
+            @Override
+            protected void done() {
+                importButton.setEnabled(true);
+                try {
+                    AttendanceCsvImporter.ImportResult result = get();
+                    loadAttendanceRecords();
+                    String message = String.format("Imported %d of %d attendance records.",
+                            result.getRowsImported(), result.getRowsRead());
+                    if (result.getRowsRejected() > 0) {
+                        showWarning(message + "\n" + result.getRowsRejected() +
+                                " rejected records were written to " + result.getRejectFile());
+                    } else {
+                        showSuccess(message);
+                    }
+                } catch (Exception e) {
+                    Throwable cause = e.getCause() != null ? e.getCause() : e;
+                    showError("Error importing attendance: " + cause.getMessage());
+                }
+            }
+        }.execute();
+    }
+
     private void populateFormFromSelection() {
         int selectedRow = attendanceTable.getSelectedRow();
         if (selectedRow == -1) {
@@ -504,8 +558,8 @@ public class AttendanceManagementDialog extends JDialog {
 
             // Find and select the employee
             for (int i = 0; i < employeeComboBox.getItemCount(); i++) {
-                Employee emp = employeeComboBox.getItemAt(i);
-                if (emp.getFullName().equals(employeeName)) {
+                EmployeeSummary emp = employeeComboBox.getItemAt(i);
+                if (emp.fullName().equals(employeeName)) {
                     employeeComboBox.setSelectedIndex(i);
                     break;
                 }
@@ -599,9 +653,9 @@ public class AttendanceManagementDialog extends JDialog {
                                                       boolean isSelected, boolean cellHasFocus) {
             super.getListCellRendererComponent(list, value, index, isSelected, cellHasFocus);
 
-            if (value instanceof Employee) {
-                Employee emp = (Employee) value;
-                setText(emp.getEmployeeId() + " - " + emp.getFullName());
+            if (value instanceof EmployeeSummary) {
+                EmployeeSummary emp = (EmployeeSummary) value;
+                setText(emp.employeeId() + " - " + emp.fullName());
             }
 
             return this;
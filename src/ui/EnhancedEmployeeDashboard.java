@@ -7,6 +7,7 @@ import model.Attendance;
 import model.Payroll;
 import service.PayrollCalculator;
 import service.JasperReportService;
+import util.ConfigurationManager;
 import ui.PayrollDetailsDialog;
 import ui.LoginForm;
 import ui.LeaveRequestDialog;
@@ -22,7 +23,9 @@ import java.awt.event.KeyEvent;
 import java.awt.event.KeyListener;
 import java.time.LocalDate;
 import java.time.format.DateTimeFormatter;
+import java.util.Iterator;
 import java.util.List;
+import java.util.stream.Stream;
 import java.util.concurrent.SwingWorker;
 
 /**
@@ -37,8 +40,8 @@ public class EnhancedEmployeeDashboard extends JFrame {
     private JLabel nameLabel, positionLabel, statusLabel, salaryLabel;
     private JLabel phoneLabel, addressLabel, sssLabel, philhealthLabel;
     private JTable attendanceTable;
-    private DefaultTableModel attendanceTableModel;
-    private TableRowSorter<DefaultTableModel> attendanceTableSorter;
+    private KeysetTableModel<Attendance> attendanceTableModel;
+    private TableRowSorter<KeysetTableModel<Attendance>> attendanceTableSorter;
     private JLabel totalDaysLabel, averageHoursLabel, attendanceRateLabel;
     private JTable payrollTable;
     private DefaultTableModel payrollTableModel;
@@ -100,9 +103,7 @@ public class EnhancedEmployeeDashboard extends JFrame {
         this.payrollCalculator = new PayrollCalculator();
         this.jasperReportService = new JasperReportService();
         
-        // Test services to ensure they work
-        attendanceDAO.getAttendanceByEmployeeId(currentUser.getEmployeeId());
-        System.out.println("✅ Services initialized and tested successfully");
+        System.out.println("✅ Services initialized successfully");
     }
 
     private void initializeEnhancedComponents() {
@@ -123,12 +124,9 @@ public class EnhancedEmployeeDashboard extends JFrame {
 
         // Enhanced attendance table with sorting and filtering
         String[] attendanceColumns = {"Date", "Log In", "Log Out", "Work Hours", "Status", "Late (min)", "Undertime (min)"};
-        attendanceTableModel = new DefaultTableModel(attendanceColumns, 0) {
-            @Override
-            public boolean isCellEditable(int row, int column) {
-                return false;
-            }
-            
+        // Attendance history is paged in as the table is scrolled
+        attendanceTableModel = new KeysetTableModel<Attendance>(attendanceColumns,
+                ConfigurationManager.getInstance().getTablePageSize(), this::toAttendanceRow) {
             @Override
             public Class<?> getColumnClass(int columnIndex) {
                 // Enhanced column type detection for better sorting
@@ -544,6 +542,7 @@ public class EnhancedEmployeeDashboard extends JFrame {
         tablePanel.setBorder(tableBorder);
 
         JScrollPane attendanceScrollPane = new JScrollPane(attendanceTable);
+        attendanceTableModel.installOn(attendanceScrollPane);
         attendanceScrollPane.setPreferredSize(new Dimension(0, 400));
         tablePanel.add(attendanceScrollPane, BorderLayout.CENTER);
 
@@ -898,47 +897,31 @@ public class EnhancedEmployeeDashboard extends JFrame {
     // ENHANCED ATTENDANCE DATA LOADING WITH VALIDATION AND FILTERING
     private void loadAttendanceDataWithValidation() {
         try {
-            attendanceTableModel.setRowCount(0);
-            
             if (attendanceDAO == null) {
                 throw new IllegalStateException("Attendance DAO is not initialized");
             }
 
-            List<Attendance> attendanceList = attendanceDAO.getAttendanceByEmployeeId(currentUser.getEmployeeId());
-            
-            if (attendanceList == null) {
-                attendanceList = new ArrayList<>();
-            }
+            int employeeId = currentUser.getEmployeeId();
+            attendanceTableModel.setPageLoader((lastSeen, limit) ->
+                    attendanceDAO.getAttendancePage(employeeId, lastSeen, limit));
 
+            // The summary covers the whole history, read as a stream rather than held in the table
+            int totalDays = 0;
             double totalHours = 0;
-            int totalDays = attendanceList.size();
             int lateDays = 0;
             int undertimeDays = 0;
             int fullDays = 0;
 
-            for (Attendance att : attendanceList) {
-                if (att == null) continue; // Skip null records
-                
-                double workHours = att.getWorkHours();
-                totalHours += workHours;
-
-                // Enhanced status determination
-                String status = determineAttendanceStatus(att);
-                if (att.isLate()) lateDays++;
-                if (att.hasUndertime()) undertimeDays++;
-                if (att.isFullDay()) fullDays++;
-
-                // Safe data extraction with null checks
-                Object[] row = {
-                    att.getDate() != null ? att.getDate() : "N/A",
-                    att.getLogIn() != null ? att.getLogIn().toString() : "No Log In",
-                    att.getLogOut() != null ? att.getLogOut().toString() : "No Log Out",
-                    String.format("%.2f hrs", workHours),
-                    status,
-                    att.isLate() ? String.format("%.0f", att.getLateMinutes()) : "0",
-                    att.hasUndertime() ? String.format("%.0f", att.getUndertimeMinutes()) : "0"
-                };
-                attendanceTableModel.addRow(row);
+            try (Stream<Attendance> history = attendanceDAO.streamAttendanceByEmployeeId(employeeId)) {
+                Iterator<Attendance> it = history.iterator();
+                while (it.hasNext()) {
+                    Attendance att = it.next();
+                    totalDays++;
+                    totalHours += att.getWorkHours();
+                    if (att.isLate()) lateDays++;
+                    if (att.hasUndertime()) undertimeDays++;
+                    if (att.isFullDay()) fullDays++;
+                }
             }
 
             // Enhanced summary calculations with validation
@@ -958,6 +941,20 @@ public class EnhancedEmployeeDashboard extends JFrame {
         }
     }
 
+    private Object[] toAttendanceRow(Attendance att) {
+        double workHours = att.getWorkHours();
+        // Safe data extraction with null checks
+        return new Object[] {
+            att.getDate() != null ? att.getDate() : "N/A",
+            att.getLogIn() != null ? att.getLogIn().toString() : "No Log In",
+            att.getLogOut() != null ? att.getLogOut().toString() : "No Log Out",
+            String.format("%.2f hrs", workHours),
+            determineAttendanceStatus(att),
+            att.isLate() ? String.format("%.0f", att.getLateMinutes()) : "0",
+            att.hasUndertime() ? String.format("%.0f", att.getUndertimeMinutes()) : "0"
+        };
+    }
+
     private String determineAttendanceStatus(Attendance att) {
         if (att.getLogIn() == null) {
             return "❌ No Log In";
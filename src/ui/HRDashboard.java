@@ -1,11 +1,15 @@
 package ui;
 
+import dao.AsyncDAO;
 import dao.EmployeeDAO;
 import dao.AttendanceDAO;
 import model.Employee;
+import model.EmployeeSummary;
 import model.Attendance;
 import model.Payroll;
 import service.PayrollCalculator;
+import service.PayrollRunEngine;
+import util.ConfigurationManager;
 import ui.LoginForm;
 import ui.EmployeeDetailsDialog;
 import ui.PasswordChangeDialog;
@@ -15,7 +19,6 @@ import ui.ReportsDialog;
 import ui.PayrollDetailsDialog;
 
 import javax.swing.*;
-import javax.swing.table.DefaultTableModel;
 import javax.swing.table.DefaultTableCellRenderer;
 import javax.swing.table.TableRowSorter;
 import javax.swing.border.AbstractBorder;
@@ -53,8 +56,8 @@ public class HRDashboard extends JFrame {
 
     // Dashboard Components
     private JTable employeeTable;
-    private DefaultTableModel employeeTableModel;
-    private TableRowSorter<DefaultTableModel> tableSorter;
+    private KeysetTableModel<EmployeeSummary> employeeTableModel;
+    private TableRowSorter<KeysetTableModel<EmployeeSummary>> tableSorter;
     private JTextField searchField;
     private JLabel totalEmployeesLabel;
     private JLabel newEmployeesLabel;
@@ -65,6 +68,8 @@ public class HRDashboard extends JFrame {
     private EmployeeDAO employeeDAO;
     private AttendanceDAO attendanceDAO;
     private PayrollCalculator payrollCalculator;
+    private PayrollRunEngine payrollRunEngine;
+    private AsyncDAO asyncDAO;
 
     // Timer for real-time updates
     private Timer dateTimeTimer;
@@ -80,6 +85,8 @@ public class HRDashboard extends JFrame {
             this.employeeDAO = new EmployeeDAO();
             this.attendanceDAO = new AttendanceDAO();
             this.payrollCalculator = new PayrollCalculator();
+            this.payrollRunEngine = new PayrollRunEngine(payrollCalculator);
+            this.asyncDAO = new AsyncDAO();
 
             initializeComponents();
             setupLayout();
@@ -179,12 +186,12 @@ public class HRDashboard extends JFrame {
 
         // Initialize employee table for dashboard
         String[] columns = {"ID", "Last Name", "First Name", "Position", "Department", "Email", "Phone", "Hire Date", "Salary"};
-        employeeTableModel = new DefaultTableModel(columns, 0) {
-            @Override
-            public boolean isCellEditable(int row, int column) {
-                return false;
-            }
-        };
+        // Pages are fetched as the table is scrolled instead of loading every employee up front
+        employeeTableModel = new KeysetTableModel<>(columns,
+                ConfigurationManager.getInstance().getTablePageSize(), this::toEmployeeRow);
+        employeeTableModel.setErrorHandler(e -> JOptionPane.showMessageDialog(this,
+                "<html><center><h3>❌ Data Loading Error</h3><p>Error loading employee data: " + e.getMessage() + "</p></center></html>",
+                "Error", JOptionPane.ERROR_MESSAGE));
 
         employeeTable = new JTable(employeeTableModel);
         setupTableStyling(employeeTable);
@@ -476,6 +483,7 @@ public class HRDashboard extends JFrame {
         tablePanel.setBorder(BorderFactory.createLineBorder(BORDER_LIGHT, 1));
 
         JScrollPane scrollPane = new JScrollPane(employeeTable);
+        employeeTableModel.installOn(scrollPane);
         scrollPane.setBorder(BorderFactory.createEmptyBorder());
         scrollPane.getViewport().setBackground(CARD_WHITE);
 
@@ -612,11 +620,67 @@ public class HRDashboard extends JFrame {
         title.setForeground(TEXT_PRIMARY);
 
         panel.add(title, BorderLayout.NORTH);
-        // Add payroll management content here
+
+        // Finalizing stores the month's payroll; the reports only calculate it
+        String[] months = {"January", "February", "March", "April", "May", "June",
+                "July", "August", "September", "October", "November", "December"};
+        JComboBox<String> monthComboBox = new JComboBox<>(months);
+        monthComboBox.setSelectedIndex(LocalDate.now().getMonthValue() - 1);
+        int currentYear = LocalDate.now().getYear();
+        JComboBox<Integer> yearComboBox = new JComboBox<>(new Integer[]{currentYear - 1, currentYear});
+        yearComboBox.setSelectedItem(currentYear);
+
+        JButton finalizeButton = createModernButton("✅ Finalize Payroll", SUCCESS_GREEN);
+        finalizeButton.addActionListener(e -> finalizePayroll(
+                LocalDate.of((Integer) yearComboBox.getSelectedItem(), monthComboBox.getSelectedIndex() + 1, 1),
+                finalizeButton));
+
+        JPanel finalizePanel = new JPanel(new FlowLayout(FlowLayout.LEFT, 10, 20));
+        finalizePanel.setOpaque(false);
+        finalizePanel.add(new JLabel("Pay period:"));
+        finalizePanel.add(monthComboBox);
+        finalizePanel.add(yearComboBox);
+        finalizePanel.add(finalizeButton);
+        panel.add(finalizePanel, BorderLayout.CENTER);
 
         return panel;
     }
 
+    /**
+     * Calculates and stores the month's payroll for every employee, off the event
+     * dispatch thread. Employees whose records have not changed since the last
+     * finalize keep their stored payroll.
+     */
+    private void finalizePayroll(LocalDate month, JButton finalizeButton) {
+        LocalDate periodStart = month.withDayOfMonth(1);
+        LocalDate periodEnd = month.withDayOfMonth(month.lengthOfMonth());
+        String period = month.format(DateTimeFormatter.ofPattern("MMMM yyyy"));
+
+        int confirm = JOptionPane.showConfirmDialog(this,
+                "Store the payroll of every employee for " + period + "?\n" +
+                        "Payslips already stored for this period will be replaced.",
+                "Finalize Payroll", JOptionPane.YES_NO_OPTION);
+        if (confirm != JOptionPane.YES_OPTION) {
+            return;
+        }
+
+        finalizeButton.setEnabled(false);
+        // A whole-company run can take longer than a single query, so it has no deadline
+        asyncDAO.supply(() -> payrollRunEngine.runIncremental(periodStart, periodEnd), 0)
+                .whenComplete((result, failure) -> SwingUtilities.invokeLater(() -> {
+                    finalizeButton.setEnabled(true);
+                    if (failure != null) {
+                        JOptionPane.showMessageDialog(this, "Error finalizing payroll: " + failure.getMessage(),
+                                "Error", JOptionPane.ERROR_MESSAGE);
+                        return;
+                    }
+                    JOptionPane.showMessageDialog(this,
+                            String.format("Payroll for %s stored for %d employees, %d failed.",
+                                    period, result.getPayrolls().size(), result.getFailures().size()),
+                            "Payroll Finalized", JOptionPane.INFORMATION_MESSAGE);
+                }));
+    }
+
     private JPanel createAttendanceView() {
         JPanel panel = new JPanel(new BorderLayout());
         panel.setBackground(BACKGROUND_LIGHT);
@@ -654,8 +718,7 @@ public class HRDashboard extends JFrame {
 
     private void updateMetrics() {
         try {
-            List<Employee> allEmployees = employeeDAO.getAllEmployees();
-            totalEmployeesLabel.setText(String.valueOf(allEmployees.size()));
+            totalEmployeesLabel.setText(String.valueOf(employeeDAO.getEmployeeCount()));
 
             // Calculate new employees - simplified since getHireDate might not exist
             // For now, show a placeholder value
@@ -679,7 +742,7 @@ public class HRDashboard extends JFrame {
                     int row = employeeTable.getSelectedRow();
                     if (row >= 0) {
                         int modelRow = employeeTable.convertRowIndexToModel(row);
-                        int employeeId = (Integer) employeeTableModel.getValueAt(modelRow, 0);
+                        int employeeId = employeeTableModel.getItem(modelRow).employeeId();
                         Employee employee = employeeDAO.getEmployeeById(employeeId);
                         if (employee != null) {
                             showEmployeeDetails(employee);
@@ -696,32 +759,21 @@ public class HRDashboard extends JFrame {
     }
 
     private void loadEmployeeData() {
-        employeeTableModel.setRowCount(0);
-
-        try {
-            List<Employee> employees = employeeDAO.getAllEmployees();
-
-            for (Employee emp : employees) {
-                Object[] row = {
-                        emp.getEmployeeId(),
-                        emp.getLastName(),
-                        emp.getFirstName(),
-                        emp.getPosition(),
-                        "HR", // Department placeholder since getDepartment() doesn't exist
-                        emp.getEmployeeId() + "@motorphilippines.com", // Email placeholder
-                        emp.getPhoneNumber() != null ? emp.getPhoneNumber() : "Not provided",
-                        "Jan 15, 2024", // Hire date placeholder since getHireDate() doesn't exist
-                        String.format("₱%,.2f", emp.getBasicSalary())
-                };
-                employeeTableModel.addRow(row);
-            }
+        employeeTableModel.setPageLoader(employeeDAO::getEmployeeSummariesPage);
+    }
 
-        } catch (Exception e) {
-            JOptionPane.showMessageDialog(this, 
-                    "<html><center><h3>❌ Data Loading Error</h3><p>Error loading employee data: " + e.getMessage() + "</p></center></html>",
-                    "Error", JOptionPane.ERROR_MESSAGE);
-            e.printStackTrace();
-        }
+    private Object[] toEmployeeRow(EmployeeSummary emp) {
+        return new Object[] {
+                emp.employeeId(),
+                emp.lastName(),
+                emp.firstName(),
+                emp.position(),
+                "HR", // Department placeholder since getDepartment() doesn't exist
+                emp.employeeId() + "@motorphilippines.com", // Email placeholder
+                emp.phoneNumber() != null ? emp.phoneNumber() : "Not provided",
+                "Jan 15, 2024", // Hire date placeholder since getHireDate() doesn't exist
+                String.format("₱%,.2f", emp.basicSalary())
+        };
     }
 
     private void searchEmployees() {
@@ -731,25 +783,9 @@ public class HRDashboard extends JFrame {
             return;
         }
 
-        employeeTableModel.setRowCount(0);
-
         try {
-            List<Employee> employees = employeeDAO.searchEmployees(searchTerm);
-
-            for (Employee emp : employees) {
-                Object[] row = {
-                        emp.getEmployeeId(),
-                        emp.getLastName(),
-                        emp.getFirstName(),
-                        emp.getPosition(),
-                        "HR", // Department placeholder
-                        emp.getEmployeeId() + "@motorphilippines.com", // Email placeholder
-                        emp.getPhoneNumber() != null ? emp.getPhoneNumber() : "Not provided",
-                        "Jan 15, 2024", // Hire date placeholder
-                        String.format("₱%,.2f", emp.getBasicSalary())
-                };
-                employeeTableModel.addRow(row);
-            }
+            List<EmployeeSummary> employees = employeeDAO.searchEmployeeSummaries(searchTerm);
+            employeeTableModel.setRows(employees);
 
         } catch (Exception e) {
             JOptionPane.showMessageDialog(this, 
@@ -0,0 +1,232 @@
+package ui;
+
+import javax.swing.JScrollBar;
+import javax.swing.JScrollPane;
+import javax.swing.SwingWorker;
+import javax.swing.table.AbstractTableModel;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+/**
+ * Read-only table model that loads its rows a page at a time.
+ * The first page is fetched when a loader is set and further pages are
+ * fetched in the background as the user scrolls near the bottom of the
+ * scroll pane the model is installed on. Each page is requested with the
+ * last row already loaded, matching the keyset-paginated DAO methods.
+ *
+ * Sorting and filtering through a row sorter only see the rows loaded so far.
+ *
+ * @param <T> Row type
+ */
+public class KeysetTableModel<T> extends AbstractTableModel {
+    private static final Logger LOGGER = Logger.getLogger(KeysetTableModel.class.getName());
+
+    /** Rows left below the visible area when the next page is requested */
+    private static final int PREFETCH_ROWS = 20;
+
+    /**
+     * Loads the page that follows a row
+     * @param <T> Row type
+     */
+    @FunctionalInterface
+    public interface PageLoader<T> {
+        /**
+         * @param lastSeen Last row loaded so far, or null for the first page
+         * @param limit Maximum number of rows to return
+         * @return Following rows; fewer than limit when there are no more
+         */
+        List<T> load(T lastSeen, int limit);
+    }
+
+    private final String[] columns;
+    private final int pageSize;
+    private final Function<T, Object[]> rowMapper;
+    private final List<T> items = new ArrayList<>();
+    private final List<Object[]> rows = new ArrayList<>();
+
+    private PageLoader<T> loader;
+    private JScrollPane scrollPane;
+    private Consumer<Exception> errorHandler =
+            e -> LOGGER.log(Level.WARNING, "Error loading table page", e);
+    private boolean loading;
+    private boolean exhausted = true;
+    // Bumped on every reset so pages requested before it are dropped
+    private int generation;
+
+    /**
+     * @param columns Column names
+     * @param pageSize Rows per page
+     * @param rowMapper Converts a row to its cell values, one per column
+     */
+    public KeysetTableModel(String[] columns, int pageSize, Function<T, Object[]> rowMapper) {
+        if (pageSize <= 0) {
+            throw new IllegalArgumentException("Page size must be positive");
+        }
+        this.columns = columns.clone();
+        this.pageSize = pageSize;
+        this.rowMapper = rowMapper;
+    }
+
+    /**
+     * Fetches further pages when the scroll pane is scrolled near the bottom
+     */
+    public void installOn(JScrollPane scrollPane) {
+        this.scrollPane = scrollPane;
+        // Also fires when the scroll bar's range changes, e.g. on first layout or resize
+        scrollPane.getVerticalScrollBar().addAdjustmentListener(e -> {
+            if (nearBottom()) {
+                loadNextPage();
+            }
+        });
+    }
+
+    public void setErrorHandler(Consumer<Exception> errorHandler) {
+        this.errorHandler = errorHandler;
+    }
+
+    /**
+     * Clears the table and starts paging from the first row with a new loader
+     */
+    public void setPageLoader(PageLoader<T> loader) {
+        this.loader = loader;
+        reload();
+    }
+
+    /**
+     * Clears the table and loads the first page again
+     */
+    public void reload() {
+        clear();
+        exhausted = loader == null;
+        loadNextPage();
+    }
+
+    /**
+     * Shows a fixed list of rows, e.g. search results, without paging
+     */
+    public void setRows(List<T> allRows) {
+        clear();
+        loader = null;
+        exhausted = true;
+        append(allRows);
+    }
+
+    public T getItem(int row) {
+        return items.get(row);
+    }
+
+    public List<T> getLoadedItems() {
+        return Collections.unmodifiableList(items);
+    }
+
+    /**
+     * @return true when every row has been loaded
+     */
+    public boolean isFullyLoaded() {
+        return exhausted;
+    }
+
+    /**
+     * Requests the next page in the background unless one is already on its way
+     */
+    public void loadNextPage() {
+        if (loading || exhausted || loader == null) {
+            return;
+        }
+        loading = true;
+        final int requestGeneration = generation;
+        final PageLoader<T> pageLoader = loader;
+        final T lastSeen = items.isEmpty() ? null : items.get(items.size() - 1);
+
+        new SwingWorker<List<T>, Void>() {
+            @Override
+            protected List<T> doInBackground() {
+                return pageLoader.load(lastSeen, pageSize);
+            }
+
+            @Override
+            protected void done() {
+                if (requestGeneration != generation) {
+                    return;
+                }
+                loading = false;
+                try {
+                    List<T> page = get();
+                    exhausted = page.size() < pageSize;
+                    append(page);
+                } catch (Exception e) {
+                    exhausted = true;
+                    errorHandler.accept(e.getCause() instanceof Exception ? (Exception) e.getCause() : e);
+                    return;
+                }
+                // Keep loading while the rows do not fill the visible area yet
+                if (nearBottom()) {
+                    loadNextPage();
+                }
+            }
+        }.execute();
+    }
+
+    private void clear() {
+        generation++;
+        loading = false;
+        int size = rows.size();
+        items.clear();
+        rows.clear();
+        if (size > 0) {
+            fireTableRowsDeleted(0, size - 1);
+        }
+    }
+
+    private void append(List<T> page) {
+        if (page == null || page.isEmpty()) {
+            return;
+        }
+        int first = rows.size();
+        for (T item : page) {
+            items.add(item);
+            rows.add(rowMapper.apply(item));
+        }
+        fireTableRowsInserted(first, rows.size() - 1);
+    }
+
+    private boolean nearBottom() {
+        // Not laid out yet: the scroll bar range says nothing about what is visible
+        if (scrollPane == null || !scrollPane.isShowing()) {
+            return false;
+        }
+        JScrollBar bar = scrollPane.getVerticalScrollBar();
+        int rowHeight = Math.max(1, bar.getUnitIncrement(1));
+        return bar.getValue() + bar.getVisibleAmount() >= bar.getMaximum() - PREFETCH_ROWS * rowHeight;
+    }
+
+    @Override
+    public int getRowCount() {
+        return rows.size();
+    }
+
+    @Override
+    public int getColumnCount() {
+        return columns.length;
+    }
+
+    @Override
+    public String getColumnName(int column) {
+        return columns[column];
+    }
+
+    @Override
+    public Object getValueAt(int rowIndex, int columnIndex) {
+        return rows.get(rowIndex)[columnIndex];
+    }
+
+    @Override
+    public boolean isCellEditable(int rowIndex, int columnIndex) {
+        return false;
+    }
+}
@@ -1,5 +1,6 @@
 package ui;
 
+import dao.EmployeeDAO;
 import util.DBConnection;
 import ui.LoginForm;
 import javax.swing.*;
@@ -76,6 +77,17 @@ public class MainApplication {
                 if (connected) {
                     publish("Database connected successfully!");
                     Thread.sleep(500);
+                    publish("Checking database schema...");
+                    if (!DBConnection.isDatabaseSetup()) {
+                        System.err.println("Database is missing required tables; run the database setup script");
+                    }
+                    publish("Building employee search index...");
+                    try {
+                        new EmployeeDAO().buildSearchIndex();
+                    } catch (RuntimeException e) {
+                        // Searches go to the database until the index is built
+                        System.err.println("Could not build employee search index: " + e.getMessage());
+                    }
                     publish("Loading application...");
                     Thread.sleep(1000);
                     return true;
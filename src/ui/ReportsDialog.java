@@ -1,12 +1,13 @@
 package ui;
 
-import dao.EmployeeDAO;
+import dao.AsyncDAO;
 import dao.PayrollDAO;
-import dao.AttendanceDAO;
 import model.Employee;
 import model.Payroll;
 import model.Attendance;
 import service.PayrollCalculator;
+import service.PayrollRunEngine;
+import service.ReportGenerator;
 
 import javax.swing.*;
 import java.awt.*;
@@ -18,14 +19,27 @@ import java.io.File;
 import java.io.PrintWriter;
 import java.nio.file.Files;
 import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.Collections;
 import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.TimeoutException;
 
 public class ReportsDialog extends JDialog {
+    // Continues report futures on the event dispatch thread
+    private static final Executor EDT = SwingUtilities::invokeLater;
+
     private Employee currentUser;
-    private EmployeeDAO employeeDAO;
     private PayrollDAO payrollDAO;
-    private AttendanceDAO attendanceDAO;
     private PayrollCalculator payrollCalculator;
+    private PayrollRunEngine payrollRunEngine;
+    private ReportGenerator reportGenerator;
+    private AsyncDAO asyncDAO;
+    private CompletableFuture<?> pendingReport;
 
     private JComboBox<String> reportTypeComboBox;
     private JComboBox<String> monthComboBox;
@@ -45,10 +59,11 @@ public class ReportsDialog extends JDialog {
     public ReportsDialog(Frame parent, Employee currentUser) {
         super(parent, "Generate Reports", true);
         this.currentUser = currentUser;
-        this.employeeDAO = new EmployeeDAO();
         this.payrollDAO = new PayrollDAO();
-        this.attendanceDAO = new AttendanceDAO();
         this.payrollCalculator = new PayrollCalculator();
+        this.payrollRunEngine = new PayrollRunEngine(payrollCalculator);
+        this.reportGenerator = new ReportGenerator();
+        this.asyncDAO = new AsyncDAO();
 
         initializeComponents();
         setupLayout();
@@ -64,6 +79,7 @@ public class ReportsDialog extends JDialog {
                 "Monthly Payroll Report",
                 "Employee Directory Report",
                 "Attendance Summary Report",
+                "Attendance Records",
                 "Government Contributions Report"
         };
         reportTypeComboBox = new JComboBox<>(reportTypes);
@@ -195,6 +211,9 @@ public class ReportsDialog extends JDialog {
             monthComboBox.setEnabled(!isEmployeeDirectory);
             yearComboBox.setEnabled(!isEmployeeDirectory);
 
+            // Attendance records are always exported as CSV
+            formatComboBox.setEnabled(!"Attendance Records".equals(selectedType));
+
             revalidate();
             repaint();
         });
@@ -214,250 +233,289 @@ public class ReportsDialog extends JDialog {
         });
     }
 
+    /**
+     * Reads the selections on the event dispatch thread, runs the queries and
+     * payroll calculation on the DAO executor, then shows or exports the result
+     * back on the event dispatch thread.
+     */
     private void generateReport() {
-        try {
-            generateButton.setEnabled(false);
-            generateButton.setText("Generating...");
-
-            String reportType = (String) reportTypeComboBox.getSelectedItem();
-            String format = (String) formatComboBox.getSelectedItem();
-
-            switch (reportType) {
-                case "Monthly Payroll Report":
-                    generatePayrollReport(format);
-                    break;
-                case "Employee Directory Report":
-                    generateEmployeeDirectoryReport(format);
-                    break;
-                case "Government Contributions Report":
-                    generateGovernmentContributionsReport(format);
-                    break;
-                case "Attendance Summary Report":
-                    generateAttendanceReport(format);
-                    break;
-                default:
-                    JOptionPane.showMessageDialog(this, "Selected report type not yet implemented.",
-                            "Feature Coming Soon", JOptionPane.INFORMATION_MESSAGE);
+        String reportType = (String) reportTypeComboBox.getSelectedItem();
+        String format = (String) formatComboBox.getSelectedItem();
+        int selectedMonth = monthComboBox.getSelectedIndex() + 1;
+        int selectedYear = Integer.parseInt((String) yearComboBox.getSelectedItem());
+        LocalDate periodStart = LocalDate.of(selectedYear, selectedMonth, 1);
+        LocalDate periodEnd = periodStart.withDayOfMonth(periodStart.lengthOfMonth());
+        String periodSuffix = "_" + selectedMonth + "_" + selectedYear;
+
+        // Cancelling the report only completes its last stage, so the fetches are cancelled with it
+        List<CompletableFuture<?>> fetches = new ArrayList<>(2);
+        CompletableFuture<Void> report;
+        switch (reportType) {
+            case "Monthly Payroll Report": {
+                // A whole-company run can take longer than a single query, so it has no deadline
+                CompletableFuture<PayrollRunEngine.RunResult> run =
+                        asyncDAO.supply(() -> payrollRunEngine.run(periodStart, periodEnd), 0);
+                fetches.add(run);
+                report = run.thenApply(result -> buildPayrollReport(result, periodStart))
+                        .thenAcceptAsync(text -> showTextReport(text, "Payroll_Report" + periodSuffix, format), EDT);
+                break;
+            }
+            case "Employee Directory Report": {
+                CompletableFuture<List<Employee>> employees = asyncDAO.getAllEmployees();
+                fetches.add(employees);
+                report = employees.thenAcceptAsync(list -> showEmployeeDirectory(list, format), EDT);
+                break;
+            }
+            case "Government Contributions Report": {
+                CompletableFuture<PayrollRunEngine.RunResult> run =
+                        asyncDAO.supply(() -> payrollRunEngine.run(periodStart, periodEnd), 0);
+                fetches.add(run);
+                report = run.thenApply(result -> buildGovernmentContributionsReport(result, periodStart))
+                        .thenAcceptAsync(text -> showTextReport(text, "Government_Contributions" + periodSuffix, format), EDT);
+                break;
+            }
+            case "Attendance Summary Report": {
+                // Both fetches run at the same time
+                CompletableFuture<List<Employee>> employees = asyncDAO.getAllEmployees();
+                CompletableFuture<Map<Integer, List<Attendance>>> attendance =
+                        asyncDAO.getAttendanceByEmployeesBetweenDates(null, periodStart, periodEnd);
+                fetches.add(employees);
+                fetches.add(attendance);
+                report = employees.thenCombine(attendance,
+                                (list, byEmployee) -> buildAttendanceReport(list, byEmployee, periodStart, periodEnd))
+                        .thenAcceptAsync(text -> showTextReport(text, "Attendance_Summary" + periodSuffix, format), EDT);
+                break;
+            }
+            case "Attendance Records": {
+                // Every record of the period, streamed straight to the CSV file
+                File file = chooseExportFile("Attendance_Records" + periodSuffix + ".csv");
+                if (file == null) {
                     return;
+                }
+                CompletableFuture<Long> export = asyncDAO.supply(() ->
+                        reportGenerator.exportAttendanceToCSV(periodStart, periodEnd, file.getAbsolutePath()), 0);
+                fetches.add(export);
+                report = export.thenAcceptAsync(count -> JOptionPane.showMessageDialog(this,
+                        count + " attendance records exported successfully to:\n" + file.getAbsolutePath(),
+                        "Export Successful", JOptionPane.INFORMATION_MESSAGE), EDT);
+                break;
             }
+            default:
+                JOptionPane.showMessageDialog(this, "Selected report type not yet implemented.",
+                        "Feature Coming Soon", JOptionPane.INFORMATION_MESSAGE);
+                return;
+        }
 
-        } catch (Exception e) {
-            JOptionPane.showMessageDialog(this, "Error generating report: " + e.getMessage(),
-                    "Error", JOptionPane.ERROR_MESSAGE);
-            e.printStackTrace();
-        } finally {
+        generateButton.setEnabled(false);
+        generateButton.setText("Generating...");
+        pendingReport = report;
+        report.whenComplete((ignored, failure) -> {
+            if (report.isCancelled()) {
+                fetches.forEach(fetch -> fetch.cancel(true));
+            }
+        });
+        report.whenCompleteAsync((ignored, failure) -> {
+            if (pendingReport == report) {
+                pendingReport = null;
+            }
             generateButton.setEnabled(true);
             generateButton.setText("Generate Report");
+
+            Throwable cause = failure instanceof CompletionException && failure.getCause() != null
+                    ? failure.getCause() : failure;
+            if (cause == null || cause instanceof CancellationException) {
+                return;
+            }
+            String message = cause instanceof TimeoutException
+                    ? "Timed out waiting for the database." : cause.getMessage();
+            JOptionPane.showMessageDialog(this, "Error generating report: " + message,
+                    "Error", JOptionPane.ERROR_MESSAGE);
+            cause.printStackTrace();
+        }, EDT);
+    }
+
+    @Override
+    public void dispose() {
+        // Stop a report still running for a dialog that is no longer shown
+        CompletableFuture<?> report = pendingReport;
+        if (report != null) {
+            report.cancel(true);
         }
+        super.dispose();
     }
 
-    private void generatePayrollReport(String format) {
-        try {
-            int selectedMonth = monthComboBox.getSelectedIndex() + 1;
-            int selectedYear = Integer.parseInt((String) yearComboBox.getSelectedItem());
-            LocalDate periodStart = LocalDate.of(selectedYear, selectedMonth, 1);
-            LocalDate periodEnd = periodStart.withDayOfMonth(periodStart.lengthOfMonth());
+    private void showTextReport(String report, String baseFileName, String format) {
+        if ("Preview Only".equals(format)) {
+            previewArea.setText(report);
+        } else {
+            exportTextReport(report, baseFileName, format);
+        }
+    }
 
-            List<Employee> employees = employeeDAO.getAllEmployees();
-            StringBuilder report = new StringBuilder();
+    private String buildPayrollReport(PayrollRunEngine.RunResult run, LocalDate periodStart) {
+        StringBuilder report = new StringBuilder();
 
-            // Build payroll report
-            report.append("MONTHLY PAYROLL REPORT\n");
-            report.append("Period: ").append(periodStart.format(DateTimeFormatter.ofPattern("MMMM yyyy"))).append("\n");
-            report.append("Generated: ").append(LocalDate.now().format(DateTimeFormatter.ofPattern("MMMM dd, yyyy"))).append("\n");
-            report.append("Generated by: ").append(currentUser.getFullName()).append("\n");
-            report.append("=".repeat(80)).append("\n\n");
+        // Build payroll report
+        report.append("MONTHLY PAYROLL REPORT\n");
+        report.append("Period: ").append(periodStart.format(DateTimeFormatter.ofPattern("MMMM yyyy"))).append("\n");
+        report.append("Generated: ").append(LocalDate.now().format(DateTimeFormatter.ofPattern("MMMM dd, yyyy"))).append("\n");
+        report.append("Generated by: ").append(currentUser.getFullName()).append("\n");
+        report.append("=".repeat(80)).append("\n\n");
 
-            report.append(String.format("%-6s %-25s %-12s %-12s %-12s %-12s%n",
-                    "ID", "Name", "Basic Pay", "Allowances", "Deductions", "Net Pay"));
-            report.append("-".repeat(80)).append("\n");
+        report.append(String.format("%-6s %-25s %-12s %-12s %-12s %-12s%n",
+                "ID", "Name", "Basic Pay", "Allowances", "Deductions", "Net Pay"));
+        report.append("-".repeat(80)).append("\n");
 
-            double totalGross = 0, totalDeductions = 0, totalNet = 0;
+        double totalGross = 0, totalDeductions = 0, totalNet = 0;
 
-            for (Employee emp : employees) {
-                try {
-                    Payroll payroll = payrollCalculator.calculatePayroll(emp.getEmployeeId(), periodStart, periodEnd);
-
-                    double grossPay = payroll.getGrossPay();
-                    double deductions = payroll.getTotalDeductions();
-                    double netPay = payroll.getNetPay();
-
-                    totalGross += grossPay;
-                    totalDeductions += deductions;
-                    totalNet += netPay;
-
-                    String name = emp.getFullName();
-                    if (name.length() > 25) name = name.substring(0, 22) + "...";
-
-                    report.append(String.format("%-6d %-25s ₱%-11.2f ₱%-11.2f ₱%-11.2f ₱%-11.2f%n",
-                            emp.getEmployeeId(), name, payroll.getGrossEarnings(),
-                            payroll.getRiceSubsidy() + payroll.getPhoneAllowance() + payroll.getClothingAllowance(),
-                            deductions, netPay));
-                } catch (Exception e) {
-                    report.append(String.format("%-6d %-25s %-12s %-12s %-12s %-12s%n",
-                            emp.getEmployeeId(), emp.getFullName(), "Error", "Error", "Error", "Error"));
-                }
-            }
+        for (Employee emp : run.getEmployees()) {
+            try {
+                Payroll payroll = requirePayroll(run, emp);
 
-            report.append("-".repeat(80)).append("\n");
-            report.append(String.format("%-31s ₱%-11.2f ₱%-11.2f ₱%-11.2f ₱%-11.2f%n",
-                    "TOTALS:", totalGross - totalDeductions, 0.0, totalDeductions, totalNet));
+                double grossPay = payroll.getGrossPay();
+                double deductions = payroll.getTotalDeductions();
+                double netPay = payroll.getNetPay();
 
-            if ("Preview Only".equals(format)) {
-                previewArea.setText(report.toString());
-            } else {
-                exportTextReport(report.toString(), "Payroll_Report_" + selectedMonth + "_" + selectedYear, format);
+                totalGross += grossPay;
+                totalDeductions += deductions;
+                totalNet += netPay;
+
+                String name = emp.getFullName();
+                if (name.length() > 25) name = name.substring(0, 22) + "...";
+
+                report.append(String.format("%-6d %-25s ₱%-11.2f ₱%-11.2f ₱%-11.2f ₱%-11.2f%n",
+                        emp.getEmployeeId(), name, payroll.getGrossEarnings(),
+                        payroll.getRiceSubsidy() + payroll.getPhoneAllowance() + payroll.getClothingAllowance(),
+                        deductions, netPay));
+            } catch (Exception e) {
+                report.append(String.format("%-6d %-25s %-12s %-12s %-12s %-12s%n",
+                        emp.getEmployeeId(), emp.getFullName(), "Error", "Error", "Error", "Error"));
             }
+        }
+
+        report.append("-".repeat(80)).append("\n");
+        report.append(String.format("%-31s ₱%-11.2f ₱%-11.2f ₱%-11.2f ₱%-11.2f%n",
+                "TOTALS:", totalGross - totalDeductions, 0.0, totalDeductions, totalNet));
+
+        return report.toString();
+    }
 
-        } catch (Exception e) {
-            throw new RuntimeException("Error generating payroll report: " + e.getMessage(), e);
+    private Payroll requirePayroll(PayrollRunEngine.RunResult run, Employee emp) throws Exception {
+        if (run.hasFailed(emp.getEmployeeId())) {
+            throw run.getFailures().get(emp.getEmployeeId());
         }
+        return run.getPayroll(emp.getEmployeeId());
     }
 
-    private void generateEmployeeDirectoryReport(String format) {
-        try {
-            List<Employee> employees = employeeDAO.getAllEmployees();
-
-            // Sort employees by last name, then first name
-            employees.sort((e1, e2) -> {
-                int lastNameCompare = e1.getLastName().compareToIgnoreCase(e2.getLastName());
-                if (lastNameCompare != 0) return lastNameCompare;
-                return e1.getFirstName().compareToIgnoreCase(e2.getFirstName());
-            });
-
-            if ("Preview Only".equals(format)) {
-                showEmployeeDirectoryPreview(employees);
-            } else {
-                exportEmployeeDirectory(employees, format);
-            }
-        } catch (Exception e) {
-            throw new RuntimeException("Error generating employee directory: " + e.getMessage(), e);
+    private void showEmployeeDirectory(List<Employee> employees, String format) {
+        // Sort employees by last name, then first name
+        employees.sort((e1, e2) -> {
+            int lastNameCompare = e1.getLastName().compareToIgnoreCase(e2.getLastName());
+            if (lastNameCompare != 0) return lastNameCompare;
+            return e1.getFirstName().compareToIgnoreCase(e2.getFirstName());
+        });
+
+        if ("Preview Only".equals(format)) {
+            showEmployeeDirectoryPreview(employees);
+        } else {
+            exportEmployeeDirectory(employees, format);
         }
     }
 
-    private void generateGovernmentContributionsReport(String format) {
-        try {
-            int selectedMonth = monthComboBox.getSelectedIndex() + 1;
-            int selectedYear = Integer.parseInt((String) yearComboBox.getSelectedItem());
-            LocalDate periodStart = LocalDate.of(selectedYear, selectedMonth, 1);
-            LocalDate periodEnd = periodStart.withDayOfMonth(periodStart.lengthOfMonth());
+    private String buildGovernmentContributionsReport(PayrollRunEngine.RunResult run, LocalDate periodStart) {
+        StringBuilder report = new StringBuilder();
 
-            List<Employee> employees = employeeDAO.getAllEmployees();
-            StringBuilder report = new StringBuilder();
+        report.append("GOVERNMENT CONTRIBUTIONS REPORT\n");
+        report.append("Period: ").append(periodStart.format(DateTimeFormatter.ofPattern("MMMM yyyy"))).append("\n");
+        report.append("Generated: ").append(LocalDate.now().format(DateTimeFormatter.ofPattern("MMMM dd, yyyy"))).append("\n");
+        report.append("=".repeat(80)).append("\n\n");
 
-            report.append("GOVERNMENT CONTRIBUTIONS REPORT\n");
-            report.append("Period: ").append(periodStart.format(DateTimeFormatter.ofPattern("MMMM yyyy"))).append("\n");
-            report.append("Generated: ").append(LocalDate.now().format(DateTimeFormatter.ofPattern("MMMM dd, yyyy"))).append("\n");
-            report.append("=".repeat(80)).append("\n\n");
+        report.append(String.format("%-6s %-20s %-10s %-12s %-10s %-10s%n",
+                "ID", "Name", "SSS", "PhilHealth", "Pag-IBIG", "Tax"));
+        report.append("-".repeat(80)).append("\n");
 
-            report.append(String.format("%-6s %-20s %-10s %-12s %-10s %-10s%n",
-                    "ID", "Name", "SSS", "PhilHealth", "Pag-IBIG", "Tax"));
-            report.append("-".repeat(80)).append("\n");
+        double totalSSS = 0, totalPhilHealth = 0, totalPagIBIG = 0, totalTax = 0;
 
-            double totalSSS = 0, totalPhilHealth = 0, totalPagIBIG = 0, totalTax = 0;
+        for (Employee emp : run.getEmployees()) {
+            try {
+                Payroll payroll = requirePayroll(run, emp);
 
-            for (Employee emp : employees) {
-                try {
-                    Payroll payroll = payrollCalculator.calculatePayroll(emp.getEmployeeId(), periodStart, periodEnd);
-
-                    totalSSS += payroll.getSss();
-                    totalPhilHealth += payroll.getPhilhealth();
-                    totalPagIBIG += payroll.getPagibig();
-                    totalTax += payroll.getTax();
-
-                    String name = emp.getFullName();
-                    if (name.length() > 20) name = name.substring(0, 17) + "...";
-
-                    report.append(String.format("%-6d %-20s ₱%-9.2f ₱%-11.2f ₱%-9.2f ₱%-9.2f%n",
-                            emp.getEmployeeId(), name, payroll.getSss(), payroll.getPhilhealth(),
-                            payroll.getPagibig(), payroll.getTax()));
-                } catch (Exception e) {
-                    report.append(String.format("%-6d %-20s %-10s %-12s %-10s %-10s%n",
-                            emp.getEmployeeId(), emp.getFullName(), "Error", "Error", "Error", "Error"));
-                }
-            }
+                totalSSS += payroll.getSss();
+                totalPhilHealth += payroll.getPhilhealth();
+                totalPagIBIG += payroll.getPagibig();
+                totalTax += payroll.getTax();
 
-            report.append("-".repeat(80)).append("\n");
-            report.append(String.format("%-26s ₱%-9.2f ₱%-11.2f ₱%-9.2f ₱%-9.2f%n",
-                    "TOTALS:", totalSSS, totalPhilHealth, totalPagIBIG, totalTax));
+                String name = emp.getFullName();
+                if (name.length() > 20) name = name.substring(0, 17) + "...";
 
-            if ("Preview Only".equals(format)) {
-                previewArea.setText(report.toString());
-            } else {
-                exportTextReport(report.toString(), "Government_Contributions_" + selectedMonth + "_" + selectedYear, format);
+                report.append(String.format("%-6d %-20s ₱%-9.2f ₱%-11.2f ₱%-9.2f ₱%-9.2f%n",
+                        emp.getEmployeeId(), name, payroll.getSss(), payroll.getPhilhealth(),
+                        payroll.getPagibig(), payroll.getTax()));
+            } catch (Exception e) {
+                report.append(String.format("%-6d %-20s %-10s %-12s %-10s %-10s%n",
+                        emp.getEmployeeId(), emp.getFullName(), "Error", "Error", "Error", "Error"));
             }
-
-        } catch (Exception e) {
-            throw new RuntimeException("Error generating government contributions report: " + e.getMessage(), e);
         }
-    }
 
-    private void generateAttendanceReport(String format) {
-        try {
-            int selectedMonth = monthComboBox.getSelectedIndex() + 1;
-            int selectedYear = Integer.parseInt((String) yearComboBox.getSelectedItem());
-            LocalDate startDate = LocalDate.of(selectedYear, selectedMonth, 1);
-            LocalDate endDate = startDate.withDayOfMonth(startDate.lengthOfMonth());
+        report.append("-".repeat(80)).append("\n");
+        report.append(String.format("%-26s ₱%-9.2f ₱%-11.2f ₱%-9.2f ₱%-9.2f%n",
+                "TOTALS:", totalSSS, totalPhilHealth, totalPagIBIG, totalTax));
 
-            List<Employee> employees = employeeDAO.getAllEmployees();
-            StringBuilder report = new StringBuilder();
+        return report.toString();
+    }
 
-            report.append("ATTENDANCE SUMMARY REPORT\n");
-            report.append("Period: ").append(startDate.format(DateTimeFormatter.ofPattern("MMMM dd, yyyy")))
-                    .append(" - ").append(endDate.format(DateTimeFormatter.ofPattern("MMMM dd, yyyy"))).append("\n");
-            report.append("Generated: ").append(LocalDate.now().format(DateTimeFormatter.ofPattern("MMMM dd, yyyy"))).append("\n");
-            report.append("=".repeat(80)).append("\n\n");
+    private String buildAttendanceReport(List<Employee> employees, Map<Integer, List<Attendance>> attendanceByEmployee,
+                                         LocalDate startDate, LocalDate endDate) {
+        StringBuilder report = new StringBuilder();
 
-            report.append(String.format("%-6s %-25s %-12s %-12s %-12s%n",
-                    "ID", "Name", "Days Present", "Total Hours", "Avg Hours/Day"));
-            report.append("-".repeat(80)).append("\n");
+        report.append("ATTENDANCE SUMMARY REPORT\n");
+        report.append("Period: ").append(startDate.format(DateTimeFormatter.ofPattern("MMMM dd, yyyy")))
+                .append(" - ").append(endDate.format(DateTimeFormatter.ofPattern("MMMM dd, yyyy"))).append("\n");
+        report.append("Generated: ").append(LocalDate.now().format(DateTimeFormatter.ofPattern("MMMM dd, yyyy"))).append("\n");
+        report.append("=".repeat(80)).append("\n\n");
 
-            int totalEmployees = 0;
-            int totalDaysPresent = 0;
-            double totalHours = 0;
+        report.append(String.format("%-6s %-25s %-12s %-12s %-12s%n",
+                "ID", "Name", "Days Present", "Total Hours", "Avg Hours/Day"));
+        report.append("-".repeat(80)).append("\n");
 
-            for (Employee emp : employees) {
-                try {
-                    List<Attendance> attendanceList = attendanceDAO.getAttendanceByEmployeeIdBetweenDates(
-                            emp.getEmployeeId(), startDate, endDate);
+        int totalEmployees = 0;
+        int totalDaysPresent = 0;
+        double totalHours = 0;
 
-                    int daysPresent = attendanceList.size();
-                    double empTotalHours = 0;
-
-                    for (Attendance att : attendanceList) {
-                        empTotalHours += att.getWorkHours();
-                    }
+        for (Employee emp : employees) {
+            try {
+                List<Attendance> attendanceList = attendanceByEmployee.getOrDefault(
+                        emp.getEmployeeId(), Collections.emptyList());
 
-                    double avgHours = daysPresent > 0 ? empTotalHours / daysPresent : 0;
+                int daysPresent = attendanceList.size();
+                double empTotalHours = 0;
 
-                    totalEmployees++;
-                    totalDaysPresent += daysPresent;
-                    totalHours += empTotalHours;
+                for (Attendance att : attendanceList) {
+                    empTotalHours += att.getWorkHours();
+                }
 
-                    String name = emp.getFullName();
-                    if (name.length() > 25) name = name.substring(0, 22) + "...";
+                double avgHours = daysPresent > 0 ? empTotalHours / daysPresent : 0;
 
-                    report.append(String.format("%-6d %-25s %-12d %-12.2f %-12.2f%n",
-                            emp.getEmployeeId(), name, daysPresent, empTotalHours, avgHours));
-                } catch (Exception e) {
-                    report.append(String.format("%-6d %-25s %-12s %-12s %-12s%n",
-                            emp.getEmployeeId(), emp.getFullName(), "Error", "Error", "Error"));
-                }
-            }
+                totalEmployees++;
+                totalDaysPresent += daysPresent;
+                totalHours += empTotalHours;
 
-            report.append("-".repeat(80)).append("\n");
-            report.append(String.format("TOTALS: %d employees, %d total days present, %.2f total hours%n",
-                    totalEmployees, totalDaysPresent, totalHours));
+                String name = emp.getFullName();
+                if (name.length() > 25) name = name.substring(0, 22) + "...";
 
-            if ("Preview Only".equals(format)) {
-                previewArea.setText(report.toString());
-            } else {
-                exportTextReport(report.toString(), "Attendance_Summary_" + selectedMonth + "_" + selectedYear, format);
+                report.append(String.format("%-6d %-25s %-12d %-12.2f %-12.2f%n",
+                        emp.getEmployeeId(), name, daysPresent, empTotalHours, avgHours));
+            } catch (Exception e) {
+                report.append(String.format("%-6d %-25s %-12s %-12s %-12s%n",
+                        emp.getEmployeeId(), emp.getFullName(), "Error", "Error", "Error"));
             }
-
-        } catch (Exception e) {
-            throw new RuntimeException("Error generating attendance report: " + e.getMessage(), e);
         }
+
+        report.append("-".repeat(80)).append("\n");
+        report.append(String.format("TOTALS: %d employees, %d total days present, %.2f total hours%n",
+                totalEmployees, totalDaysPresent, totalHours));
+
+        return report.toString();
     }
 
     private void showEmployeeDirectoryPreview(List<Employee> employees) {
@@ -772,6 +830,16 @@ public class ReportsDialog extends JDialog {
         Files.write(Paths.get(filePath), html.toString().getBytes());
     }
 
+    /**
+     * @return File the user chose to save to, or null if they cancelled
+     */
+    private File chooseExportFile(String fileName) {
+        JFileChooser fileChooser = new JFileChooser();
+        fileChooser.setDialogTitle("Save Report");
+        fileChooser.setSelectedFile(new File(fileName));
+        return fileChooser.showSaveDialog(this) == JFileChooser.APPROVE_OPTION ? fileChooser.getSelectedFile() : null;
+    }
+
     private void exportTextReport(String reportContent, String baseFileName, String format) {
         JFileChooser fileChooser = new JFileChooser();
         fileChooser.setDialogTitle("Save Report");
@@ -90,10 +90,73 @@ public class ConfigurationManager {
     }
     
     public String getDatabaseUrl() {
-        return String.format("jdbc:mysql://%s:%d/%s?useSSL=false&serverTimezone=UTC&allowPublicKeyRetrieval=true",
+        return String.format("jdbc:mysql://%s:%d/%s?useSSL=false&serverTimezone=UTC&allowPublicKeyRetrieval=true&rewriteBatchedStatements=true",
                 getDatabaseHost(), getDatabasePort(), getDatabaseName());
     }
-    
+
+    // Connection Pool Configuration
+    public int getPoolMinIdle() {
+        return getIntProperty("db.pool.min.idle", 2);
+    }
+
+    public int getPoolMaxSize() {
+        return getIntProperty("db.pool.max.size", 10);
+    }
+
+    public long getPoolIdleTimeoutMillis() {
+        return getIntProperty("db.pool.idle.timeout.ms", 300_000);
+    }
+
+    public long getPoolBorrowTimeoutMillis() {
+        return getIntProperty("db.pool.borrow.timeout.ms", 10_000);
+    }
+
+    public long getPoolLeakThresholdMillis() {
+        return getIntProperty("db.pool.leak.threshold.ms", 60_000);
+    }
+
+    public long getPoolValidationBypassMillis() {
+        return getIntProperty("db.pool.validation.bypass.ms", 500);
+    }
+
+    public int getPoolValidationTimeoutSeconds() {
+        return getIntProperty("db.pool.validation.timeout.seconds", 3);
+    }
+
+    // Rows fetched per round trip by streaming reads
+    public int getStreamingFetchSize() {
+        return getIntProperty("db.streaming.fetch.size", 1000);
+    }
+
+    // Rows written per batch and per transaction by bulk writes
+    public int getBatchWriteChunkSize() {
+        return getIntProperty("db.batch.chunk.size", 500);
+    }
+
+    // Rows fetched per page by lazily loaded tables
+    public int getTablePageSize() {
+        return getIntProperty("ui.table.page.size", 100);
+    }
+
+    // Employees kept by the read-through employee cache
+    public int getEmployeeCacheMaxSize() {
+        return getIntProperty("cache.employee.max.size", 1000);
+    }
+
+    public long getEmployeeCacheTtlMillis() {
+        return getIntProperty("cache.employee.ttl.ms", 300_000);
+    }
+
+    // How often the employee search index is rebuilt, picking up employees changed by other clients
+    public long getEmployeeSearchRebuildMillis() {
+        return getIntProperty("cache.employee.search.rebuild.ms", 300_000);
+    }
+
+    // How long an employee's leaves stay in the in-memory leave index
+    public long getLeaveIndexTtlMillis() {
+        return getIntProperty("cache.leave.ttl.ms", 300_000);
+    }
+
     // JasperReports Configuration
     public String getJasperReportsPath() {
         return getProperty("jasper.reports.path", "src/reports/templates/");
@@ -127,6 +190,28 @@ public class ConfigurationManager {
     public int getMaxLeaveDaysPerYear() {
         return getIntProperty("payroll.max.leave.days.per.year", 15);
     }
+
+    // Employees loading data at once in a parallel payroll run; each load holds four connections,
+    // and the run never holds more than db.pool.max.size
+    public int getPayrollRunMaxDbConcurrency() {
+        return getIntProperty("payroll.run.max.db.concurrency", 4);
+    }
+
+    // How long an incremental payroll run trusts its baseline; after that it recalculates everyone,
+    // picking up changes made by other clients
+    public long getPayrollBaselineTtlMillis() {
+        return getIntProperty("payroll.incremental.baseline.ttl.ms", 600_000);
+    }
+
+    // Deadline for loading one employee's payroll data
+    public long getPayrollFetchTimeoutMillis() {
+        return getIntProperty("payroll.fetch.timeout.ms", 15_000);
+    }
+
+    // Deadline for an asynchronous DAO call made from the UI, 0 for none
+    public long getAsyncDaoTimeoutMillis() {
+        return getIntProperty("dao.async.timeout.ms", 30_000);
+    }
     
     // Security Configuration
     public int getPasswordMinLength() {
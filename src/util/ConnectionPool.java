@@ -0,0 +1,369 @@
+package util;
+
+import javax.sql.DataSource;
+import java.io.PrintWriter;
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.SQLException;
+import java.sql.SQLFeatureNotSupportedException;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.LinkedBlockingDeque;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+/**
+ * Bounded JDBC connection pool used behind {@link DBConnection#getConnection()}.
+ * Physical connections are kept idle between borrows and handed out wrapped in a
+ * proxy whose {@code close()} returns the connection to the pool instead of
+ * closing the socket, so existing try-with-resources DAO code works unchanged.
+ *
+ * Features: min/max sizing, idle eviction, validation on borrow, borrow timeout
+ * and leak detection (connections held longer than the leak threshold are logged
+ * together with the stack trace of the borrower).
+ */
+public class ConnectionPool implements DataSource {
+    private static final Logger LOGGER = Logger.getLogger(ConnectionPool.class.getName());
+
+    private final String url;
+    private final String username;
+    private final String password;
+    private final int minIdle;
+    private final int maxSize;
+    private final long idleTimeoutMillis;
+    private final long borrowTimeoutMillis;
+    private final long leakThresholdMillis;
+    private final long validationBypassMillis;
+    private final int validationTimeoutSeconds;
+
+    // Permits bound the number of connections on loan at any one time
+    private final Semaphore permits;
+    private final LinkedBlockingDeque<PooledConnection> idle = new LinkedBlockingDeque<>();
+    private final Map<PooledConnection, Lease> leased = new ConcurrentHashMap<>();
+    private final AtomicInteger totalConnections = new AtomicInteger();
+    private final ScheduledExecutorService housekeeper;
+    private volatile boolean closed;
+
+    public ConnectionPool(String url, String username, String password, int minIdle, int maxSize,
+                          long idleTimeoutMillis, long borrowTimeoutMillis, long leakThresholdMillis,
+                          long validationBypassMillis, int validationTimeoutSeconds) {
+        if (maxSize <= 0) {
+            throw new IllegalArgumentException("Pool max size must be positive");
+        }
+        if (minIdle < 0 || minIdle > maxSize) {
+            throw new IllegalArgumentException("Pool min idle must be between 0 and max size");
+        }
+        this.url = url;
+        this.username = username;
+        this.password = password;
+        this.minIdle = minIdle;
+        this.maxSize = maxSize;
+        this.idleTimeoutMillis = idleTimeoutMillis;
+        this.borrowTimeoutMillis = borrowTimeoutMillis;
+        this.leakThresholdMillis = leakThresholdMillis;
+        this.validationBypassMillis = validationBypassMillis;
+        this.validationTimeoutSeconds = validationTimeoutSeconds;
+        this.permits = new Semaphore(maxSize, true);
+
+        this.housekeeper = Executors.newSingleThreadScheduledExecutor(r -> {
+            Thread t = new Thread(r, "motorph-pool-housekeeper");
+            t.setDaemon(true);
+            return t;
+        });
+        long period = Math.max(1000L, Math.min(idleTimeoutMillis, 30_000L) / 2);
+        housekeeper.scheduleWithFixedDelay(this::houseKeep, period, period, TimeUnit.MILLISECONDS);
+    }
+
+    /**
+     * Borrows a connection, waiting up to the borrow timeout for a free slot.
+     * @return a pooled connection; closing it returns it to the pool
+     * @throws SQLException if the pool is exhausted or a new connection cannot be opened
+     */
+    @Override
+    public Connection getConnection() throws SQLException {
+        if (closed) {
+            throw new SQLException("Connection pool has been shut down");
+        }
+
+        try {
+            if (!permits.tryAcquire(borrowTimeoutMillis, TimeUnit.MILLISECONDS)) {
+                throw new SQLException(String.format(
+                        "Timed out after %d ms waiting for a database connection (pool size %d, in use %d)",
+                        borrowTimeoutMillis, maxSize, leased.size()));
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new SQLException("Interrupted while waiting for a database connection", e);
+        }
+
+        try {
+            PooledConnection pooled = takeValidIdle();
+            if (pooled == null) {
+                pooled = openPhysical();
+            }
+            leased.put(pooled, new Lease(leakThresholdMillis > 0 ? new Throwable("Connection borrowed here") : null));
+            return pooled.newHandle();
+        } catch (SQLException | RuntimeException e) {
+            permits.release();
+            throw e;
+        }
+    }
+
+    @Override
+    public Connection getConnection(String username, String password) throws SQLException {
+        throw new SQLFeatureNotSupportedException("Pool uses fixed credentials");
+    }
+
+    private PooledConnection takeValidIdle() {
+        PooledConnection candidate;
+        while ((candidate = idle.pollFirst()) != null) {
+            if (isUsable(candidate)) {
+                return candidate;
+            }
+            discard(candidate);
+        }
+        return null;
+    }
+
+    private boolean isUsable(PooledConnection candidate) {
+        // Skip the ping round trip for connections that were returned moments ago
+        if (System.currentTimeMillis() - candidate.lastReturned < validationBypassMillis) {
+            return true;
+        }
+        try {
+            return candidate.physical.isValid(validationTimeoutSeconds);
+        } catch (SQLException e) {
+            LOGGER.log(Level.FINE, "Pooled connection failed validation", e);
+            return false;
+        }
+    }
+
+    private PooledConnection openPhysical() throws SQLException {
+        Connection physical = DriverManager.getConnection(url, username, password);
+        totalConnections.incrementAndGet();
+        LOGGER.fine("🔗 Opened pooled database connection (" + totalConnections.get() + "/" + maxSize + ")");
+        return new PooledConnection(physical);
+    }
+
+    private void discard(PooledConnection pooled) {
+        totalConnections.decrementAndGet();
+        try {
+            pooled.physical.close();
+        } catch (SQLException e) {
+            LOGGER.log(Level.FINE, "Error closing discarded connection", e);
+        }
+    }
+
+    private void release(PooledConnection pooled) {
+        leased.remove(pooled);
+        boolean reusable = !closed;
+        try {
+            if (reusable && pooled.physical.isClosed()) {
+                reusable = false;
+            }
+            if (reusable) {
+                // Reset session state left behind by the borrower
+                if (!pooled.physical.getAutoCommit()) {
+                    pooled.physical.rollback();
+                    pooled.physical.setAutoCommit(true);
+                }
+                if (pooled.physical.isReadOnly()) {
+                    pooled.physical.setReadOnly(false);
+                }
+                pooled.physical.clearWarnings();
+            }
+        } catch (SQLException e) {
+            LOGGER.log(Level.FINE, "Connection could not be reset, discarding", e);
+            reusable = false;
+        }
+
+        if (reusable) {
+            pooled.lastReturned = System.currentTimeMillis();
+            idle.offerFirst(pooled);
+        } else {
+            discard(pooled);
+        }
+        permits.release();
+    }
+
+    private void houseKeep() {
+        try {
+            long now = System.currentTimeMillis();
+
+            // Evict idle connections beyond the minimum, oldest first
+            if (idleTimeoutMillis > 0) {
+                PooledConnection oldest;
+                while (idle.size() > minIdle && (oldest = idle.peekLast()) != null
+                        && now - oldest.lastReturned > idleTimeoutMillis) {
+                    if (idle.removeLastOccurrence(oldest)) {
+                        discard(oldest);
+                    }
+                }
+            }
+
+            // Report connections that have been held longer than the leak threshold
+            if (leakThresholdMillis > 0) {
+                for (Lease lease : leased.values()) {
+                    if (!lease.reported && now - lease.borrowedAt > leakThresholdMillis) {
+                        lease.reported = true;
+                        LOGGER.log(Level.WARNING, String.format(
+                                "⚠️ Possible connection leak: connection held for %d ms", now - lease.borrowedAt),
+                                lease.borrowSite);
+                    }
+                }
+            }
+
+            // Keep the minimum number of warm connections available
+            while (!closed && idle.size() < minIdle && totalConnections.get() < maxSize && permits.tryAcquire()) {
+                try {
+                    PooledConnection fresh = openPhysical();
+                    fresh.lastReturned = now;
+                    idle.offerLast(fresh);
+                } catch (SQLException e) {
+                    LOGGER.log(Level.FINE, "Could not pre-open pooled connection", e);
+                    break;
+                } finally {
+                    permits.release();
+                }
+            }
+        } catch (RuntimeException e) {
+            LOGGER.log(Level.WARNING, "Connection pool housekeeping failed", e);
+        }
+    }
+
+    /**
+     * Closes all idle connections and rejects further borrows.
+     * Connections currently in use are closed when they are returned.
+     */
+    public void shutdown() {
+        closed = true;
+        housekeeper.shutdownNow();
+        PooledConnection pooled;
+        while ((pooled = idle.pollFirst()) != null) {
+            discard(pooled);
+        }
+        LOGGER.info("🔒 Connection pool shut down");
+    }
+
+    public int getTotalConnections() { return totalConnections.get(); }
+    public int getIdleConnections() { return idle.size(); }
+    public int getActiveConnections() { return leased.size(); }
+    public int getMaxSize() { return maxSize; }
+
+    public String getStatistics() {
+        return String.format("Pool[total=%d, active=%d, idle=%d, max=%d]",
+                getTotalConnections(), getActiveConnections(), getIdleConnections(), maxSize);
+    }
+
+    // DataSource boilerplate
+    @Override
+    public PrintWriter getLogWriter() { return null; }
+
+    @Override
+    public void setLogWriter(PrintWriter out) { }
+
+    @Override
+    public void setLoginTimeout(int seconds) { }
+
+    @Override
+    public int getLoginTimeout() { return (int) TimeUnit.MILLISECONDS.toSeconds(borrowTimeoutMillis); }
+
+    @Override
+    public Logger getParentLogger() { return LOGGER; }
+
+    @Override
+    public <T> T unwrap(Class<T> iface) throws SQLException {
+        if (iface.isInstance(this)) {
+            return iface.cast(this);
+        }
+        throw new SQLException("Not a wrapper for " + iface.getName());
+    }
+
+    @Override
+    public boolean isWrapperFor(Class<?> iface) {
+        return iface.isInstance(this);
+    }
+
+    /**
+     * Bookkeeping for a borrowed connection, used by leak detection
+     */
+    private static final class Lease {
+        final long borrowedAt = System.currentTimeMillis();
+        final Throwable borrowSite;
+        volatile boolean reported;
+
+        Lease(Throwable borrowSite) {
+            this.borrowSite = borrowSite;
+        }
+    }
+
+    /**
+     * A physical connection owned by the pool
+     */
+    private final class PooledConnection {
+        final Connection physical;
+        volatile long lastReturned = System.currentTimeMillis();
+
+        PooledConnection(Connection physical) {
+            this.physical = physical;
+        }
+
+        Connection newHandle() {
+            return (Connection) Proxy.newProxyInstance(
+                    Connection.class.getClassLoader(),
+                    new Class<?>[]{Connection.class},
+                    new Handle(this));
+        }
+    }
+
+    /**
+     * Logical connection handed to callers. close() returns the physical
+     * connection to the pool; any use after close fails like a real connection would.
+     */
+    private final class Handle implements InvocationHandler {
+        private final PooledConnection pooled;
+        private final AtomicBoolean handleClosed = new AtomicBoolean();
+
+        Handle(PooledConnection pooled) {
+            this.pooled = pooled;
+        }
+
+        @Override
+        public Object invoke(Object proxy, Method method, Object[] args) throws Throwable {
+            switch (method.getName()) {
+                case "close":
+                    if (handleClosed.compareAndSet(false, true)) {
+                        release(pooled);
+                    }
+                    return null;
+                case "isClosed":
+                    return handleClosed.get() || pooled.physical.isClosed();
+                case "equals":
+                    return proxy == args[0];
+                case "hashCode":
+                    return System.identityHashCode(proxy);
+                case "toString":
+                    return "PooledConnection[" + pooled.physical + (handleClosed.get() ? ", closed" : "") + "]";
+                default:
+                    if (handleClosed.get()) {
+                        throw new SQLException("Connection is closed");
+                    }
+                    try {
+                        return method.invoke(pooled.physical, args);
+                    } catch (InvocationTargetException e) {
+                        throw e.getCause();
+                    }
+            }
+        }
+    }
+}
@@ -3,12 +3,16 @@ package util;
 import java.sql.Connection;
 import java.sql.DriverManager;
 import java.sql.SQLException;
+import javax.sql.DataSource;
+import java.util.List;
 import java.util.logging.Logger;
 import java.util.logging.Level;
 
 /**
  * Fixed Database Connection Utility Class
- * Provides centralized database connection management
+ * Provides centralized database connection management.
+ * Connections are served from a bounded {@link ConnectionPool}; closing a
+ * connection returns it to the pool.
  */
 public class DBConnection {
     private static final Logger LOGGER = Logger.getLogger(DBConnection.class.getName());
@@ -23,10 +27,19 @@ public class DBConnection {
     
     // Connection URL
     private static final String DB_URL = String.format(
-        "jdbc:mysql://%s:%s/%s?useSSL=false&serverTimezone=UTC&allowPublicKeyRetrieval=true&useUnicode=true&characterEncoding=UTF-8",
+        "jdbc:mysql://%s:%s/%s?useSSL=false&serverTimezone=UTC&allowPublicKeyRetrieval=true&useUnicode=true&characterEncoding=UTF-8&rewriteBatchedStatements=true",
         DB_HOST, DB_PORT, DB_NAME
     );
     
+    // Cursor fetch uses server-side prepared statements, so it is only enabled for streaming reads
+    private static final String STREAMING_URL = DB_URL + "&useCursorFetch=true";
+    
+    // Tables the application cannot run without
+    private static final String[] REQUIRED_TABLES = {
+        "employees", "credentials", "attendance",
+        "payroll", "leave_request", "overtime"
+    };
+    
     // Static block to load the driver
     static {
         try {
@@ -38,15 +51,42 @@ public class DBConnection {
         }
     }
     
+    // Shared connection pool, created on first use
+    private static volatile ConnectionPool pool;
+    
+    private static ConnectionPool getPool() {
+        ConnectionPool current = pool;
+        if (current == null) {
+            synchronized (DBConnection.class) {
+                current = pool;
+                if (current == null) {
+                    ConfigurationManager config = ConfigurationManager.getInstance();
+                    current = new ConnectionPool(DB_URL, DB_USERNAME, DB_PASSWORD,
+                            config.getPoolMinIdle(),
+                            config.getPoolMaxSize(),
+                            config.getPoolIdleTimeoutMillis(),
+                            config.getPoolBorrowTimeoutMillis(),
+                            config.getPoolLeakThresholdMillis(),
+                            config.getPoolValidationBypassMillis(),
+                            config.getPoolValidationTimeoutSeconds());
+                    pool = current;
+                    Runtime.getRuntime().addShutdownHook(new Thread(DBConnection::shutdown, "motorph-pool-shutdown"));
+                    LOGGER.info("✅ Database connection pool initialized (max " + current.getMaxSize() + " connections)");
+                }
+            }
+        }
+        return current;
+    }
+    
     /**
-     * Get a database connection
-     * @return Connection object
-     * @throws SQLException if connection fails
+     * Get a database connection from the pool
+     * @return Connection object; close it to return it to the pool
+     * @throws SQLException if connection fails or the pool is exhausted
      */
     public static Connection getConnection() throws SQLException {
         try {
-            Connection connection = DriverManager.getConnection(DB_URL, DB_USERNAME, DB_PASSWORD);
-            LOGGER.fine("🔗 Database connection established");
+            Connection connection = getPool().getConnection();
+            LOGGER.fine("🔗 Database connection borrowed");
             return connection;
         } catch (SQLException e) {
             LOGGER.log(Level.SEVERE, "❌ Failed to establish database connection", e);
@@ -58,6 +98,24 @@ public class DBConnection {
         }
     }
     
+    /**
+     * Open a dedicated connection for reading very large result sets.
+     * It has cursor fetch enabled, so a statement with a positive fetch size
+     * pulls rows from the server in blocks instead of buffering the whole result,
+     * and it is not taken from the pool so a long-running read neither holds a
+     * pooled connection nor trips the pool's leak detection.
+     * @return Connection that must be closed by the caller
+     * @throws SQLException if the connection cannot be opened
+     */
+    public static Connection getStreamingConnection() throws SQLException {
+        try {
+            return DriverManager.getConnection(STREAMING_URL, DB_USERNAME, DB_PASSWORD);
+        } catch (SQLException e) {
+            LOGGER.log(Level.SEVERE, "❌ Failed to open streaming database connection", e);
+            throw e;
+        }
+    }
+    
     /**
      * Test database connection
      * @return true if connection is successful, false otherwise
@@ -77,6 +135,33 @@ public class DBConnection {
         }
     }
     
+    /**
+     * Get the pooled DataSource backing {@link #getConnection()}
+     * @return DataSource
+     */
+    public static DataSource getDataSource() {
+        return getPool();
+    }
+    
+    /**
+     * Get current pool statistics for diagnostics
+     * @return Pool usage summary
+     */
+    public static String getPoolStatistics() {
+        ConnectionPool current = pool;
+        return current != null ? current.getStatistics() : "Pool[not initialized]";
+    }
+    
+    /**
+     * Close all pooled connections (called on application exit)
+     */
+    public static synchronized void shutdown() {
+        if (pool != null) {
+            pool.shutdown();
+            pool = null;
+        }
+    }
+    
     /**
      * Close connection safely
      * @param connection Connection to close
@@ -102,30 +187,22 @@ public class DBConnection {
     }
     
     /**
-     * Check if database and required tables exist
+     * Check if database and required tables exist.
+     * Reads the schema once through {@link SchemaRegistry} and answers from memory afterwards.
      * @return true if database is properly set up
      */
     public static boolean isDatabaseSetup() {
-        try (Connection connection = getConnection()) {
-            // Check if main tables exist
-            String[] requiredTables = {
-                "employees", "credentials", "attendance", 
-                "payroll", "leave_request", "overtime"
-            };
-            
-            for (String table : requiredTables) {
-                try {
-                    connection.prepareStatement("SELECT 1 FROM " + table + " LIMIT 1").executeQuery();
-                } catch (SQLException e) {
-                    LOGGER.warning("❌ Required table missing: " + table);
-                    return false;
-                }
+        try {
+            List<String> missing = SchemaRegistry.getInstance().missingTables(REQUIRED_TABLES);
+            if (!missing.isEmpty()) {
+                LOGGER.warning("❌ Required tables missing: " + String.join(", ", missing));
+                return false;
             }
             
             LOGGER.info("✅ Database setup validation passed");
             return true;
             
-        } catch (SQLException e) {
+        } catch (RuntimeException e) {
             LOGGER.log(Level.WARNING, "❌ Database setup validation failed", e);
             return false;
         }
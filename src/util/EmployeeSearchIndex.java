@@ -0,0 +1,280 @@
+package util;
+
+import model.EmployeeSummary;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.logging.Logger;
+
+/**
+ * In-memory trigram index over employee names, IDs and positions.
+ * It answers the same substring searches as the SQL {@code LIKE '%term%'}
+ * query without scanning the table: the term's rarest trigram narrows the
+ * candidates, which are then checked against the actual fields.
+ *
+ * The index starts cold and is filled by {@link #rebuild(Collection)}, normally
+ * at startup. EmployeeDAO keeps it in step with its own inserts, updates and
+ * deletes and falls back to SQL while it is cold. Changes made by other clients
+ * only show up when the index is rebuilt, which EmployeeDAO does in the
+ * background once {@link #claimRebuild()} reports it is due.
+ */
+public class EmployeeSearchIndex {
+    private static final Logger LOGGER = Logger.getLogger(EmployeeSearchIndex.class.getName());
+    private static final EmployeeSearchIndex INSTANCE = new EmployeeSearchIndex(
+            ConfigurationManager.getInstance().getEmployeeSearchRebuildMillis());
+
+    private static final Comparator<EmployeeSummary> NAME_ORDER = Comparator
+            .comparing(EmployeeSummary::lastName, Comparator.nullsFirst(String.CASE_INSENSITIVE_ORDER))
+            .thenComparing(EmployeeSummary::firstName, Comparator.nullsFirst(String.CASE_INSENSITIVE_ORDER))
+            .thenComparingInt(EmployeeSummary::employeeId);
+
+    private final Map<Integer, Entry> entries = new HashMap<>();
+    private final Map<Long, Set<Integer>> postings = new HashMap<>();
+    private boolean warm;
+
+    private final long rebuildIntervalNanos;
+    private long builtAt;
+    // Bumped on every change so a rebuild from an older read does not undo it
+    private long generation;
+
+    /**
+     * @param rebuildIntervalMillis How long the index is used before it is due to be rebuilt
+     */
+    public EmployeeSearchIndex(long rebuildIntervalMillis) {
+        if (rebuildIntervalMillis < 0) {
+            throw new IllegalArgumentException("Rebuild interval cannot be negative");
+        }
+        this.rebuildIntervalNanos = rebuildIntervalMillis * 1_000_000L;
+    }
+
+    public static EmployeeSearchIndex getInstance() {
+        return INSTANCE;
+    }
+
+    /**
+     * @return true once the index has been built and can answer searches
+     */
+    public synchronized boolean isWarm() {
+        return warm;
+    }
+
+    /**
+     * Replaces the contents of the index with the given employees and marks it warm
+     */
+    public synchronized void rebuild(Collection<EmployeeSummary> employees) {
+        entries.clear();
+        postings.clear();
+        for (EmployeeSummary employee : employees) {
+            add(employee);
+        }
+        warm = true;
+        builtAt = System.nanoTime();
+        generation++;
+        LOGGER.info("Employee search index built with " + entries.size() + " employees");
+    }
+
+    /**
+     * Rebuilds the index unless it changed after the employees were read
+     * @param employees Every employee, read after {@link #generation()} returned the given value
+     * @param expectedGeneration Generation of the index before the employees were read
+     * @return true if the index was rebuilt
+     */
+    public synchronized boolean rebuild(Collection<EmployeeSummary> employees, long expectedGeneration) {
+        if (generation != expectedGeneration) {
+            return false;
+        }
+        rebuild(employees);
+        return true;
+    }
+
+    /**
+     * @return a value that changes whenever the contents of the index change
+     */
+    public synchronized long generation() {
+        return generation;
+    }
+
+    /**
+     * Reports whether the warm index is older than the rebuild interval. Only
+     * the first caller in each interval gets true and is expected to rebuild
+     * the index; if that fails, the next attempt is one interval later.
+     */
+    public synchronized boolean claimRebuild() {
+        long now = System.nanoTime();
+        if (!warm || now - builtAt < rebuildIntervalNanos) {
+            return false;
+        }
+        builtAt = now;
+        return true;
+    }
+
+    /**
+     * Adds or replaces an employee. Ignored while the index is cold,
+     * since the next rebuild reads every employee anyway.
+     */
+    public synchronized void put(EmployeeSummary employee) {
+        if (!warm || employee == null) {
+            return;
+        }
+        remove(employee.employeeId());
+        add(employee);
+    }
+
+    public synchronized void remove(int employeeId) {
+        generation++;
+        Entry entry = entries.remove(employeeId);
+        if (entry == null) {
+            return;
+        }
+        for (long trigram : entry.trigrams) {
+            Set<Integer> ids = postings.get(trigram);
+            if (ids != null && ids.remove(employeeId) && ids.isEmpty()) {
+                postings.remove(trigram);
+            }
+        }
+    }
+
+    /**
+     * Empties the index and marks it cold, e.g. when it can no longer be kept current
+     */
+    public synchronized void invalidate() {
+        entries.clear();
+        postings.clear();
+        warm = false;
+        generation++;
+    }
+
+    /**
+     * Finds employees whose full name, ID or position contains the term, ignoring case.
+     * Matches are ranked: exact ID, then ID prefix, then name prefix (first or last),
+     * then other name matches, then other ID matches, then position matches;
+     * ties are ordered by name.
+     * @param term Text to look for
+     * @return Ranked matches, or an empty list for a blank term
+     * @throws IllegalStateException if the index is cold
+     */
+    public synchronized List<EmployeeSummary> search(String term) {
+        if (!warm) {
+            throw new IllegalStateException("Employee search index has not been built");
+        }
+        String needle = normalize(term).trim();
+        if (needle.isEmpty()) {
+            return new ArrayList<>();
+        }
+
+        Collection<Integer> candidates = candidates(needle);
+        List<Entry> matches = new ArrayList<>();
+        for (Integer id : candidates) {
+            Entry entry = entries.get(id);
+            int rank = entry.rank(needle);
+            if (rank >= 0) {
+                entry.lastRank = rank;
+                matches.add(entry);
+            }
+        }
+        matches.sort(Comparator.<Entry>comparingInt(e -> e.lastRank)
+                .thenComparing(e -> e.summary, NAME_ORDER));
+
+        List<EmployeeSummary> results = new ArrayList<>(matches.size());
+        for (Entry entry : matches) {
+            results.add(entry.summary);
+        }
+        return results;
+    }
+
+    /**
+     * @return number of employees in the index
+     */
+    public synchronized int size() {
+        return entries.size();
+    }
+
+    private Collection<Integer> candidates(String needle) {
+        // Terms shorter than a trigram cannot be narrowed; check every employee
+        if (needle.length() < 3) {
+            return entries.keySet();
+        }
+        Set<Integer> smallest = null;
+        for (int i = 0; i + 3 <= needle.length(); i++) {
+            Set<Integer> ids = postings.get(trigram(needle, i));
+            if (ids == null) {
+                return new ArrayList<>();
+            }
+            if (smallest == null || ids.size() < smallest.size()) {
+                smallest = ids;
+            }
+        }
+        return smallest;
+    }
+
+    private void add(EmployeeSummary employee) {
+        Entry entry = new Entry(employee);
+        entries.put(employee.employeeId(), entry);
+        for (long trigram : entry.trigrams) {
+            postings.computeIfAbsent(trigram, k -> new HashSet<>()).add(employee.employeeId());
+        }
+    }
+
+    private static String normalize(String value) {
+        return value == null ? "" : value.toLowerCase(Locale.ROOT);
+    }
+
+    // Three UTF-16 chars packed into one key
+    private static long trigram(String text, int start) {
+        return ((long) text.charAt(start) << 32) | ((long) text.charAt(start + 1) << 16) | text.charAt(start + 2);
+    }
+
+    private static void addTrigrams(String text, Set<Long> trigrams) {
+        for (int i = 0; i + 3 <= text.length(); i++) {
+            trigrams.add(trigram(text, i));
+        }
+    }
+
+    /**
+     * Searchable fields of one employee, lower-cased as the SQL search compares them
+     */
+    private static final class Entry {
+        private final EmployeeSummary summary;
+        private final String id;
+        private final String firstName;
+        private final String lastName;
+        private final String fullName;
+        private final String position;
+        private final Set<Long> trigrams = new HashSet<>();
+        // Scratch value for sorting within one search, which holds the lock
+        private int lastRank;
+
+        Entry(EmployeeSummary summary) {
+            this.summary = summary;
+            this.id = String.valueOf(summary.employeeId());
+            this.firstName = normalize(summary.firstName());
+            this.lastName = normalize(summary.lastName());
+            // Same text as CONCAT(first_name, ' ', last_name)
+            this.fullName = firstName + " " + lastName;
+            this.position = normalize(summary.position());
+            addTrigrams(id, trigrams);
+            addTrigrams(fullName, trigrams);
+            addTrigrams(position, trigrams);
+        }
+
+        /**
+         * @return rank of the best field matching the term, lower is better, or -1 for no match
+         */
+        int rank(String needle) {
+            if (id.equals(needle)) return 0;
+            if (id.startsWith(needle)) return 1;
+            if (firstName.startsWith(needle) || lastName.startsWith(needle)) return 2;
+            if (fullName.contains(needle)) return 3;
+            if (id.contains(needle)) return 4;
+            if (position.contains(needle)) return 5;
+            return -1;
+        }
+    }
+}
@@ -0,0 +1,199 @@
+package util;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.logging.Logger;
+
+/**
+ * Tracks which employees' payroll became stale since it was last calculated.
+ * DAOs record the dates touched by every attendance, overtime and leave write,
+ * and employee updates mark all of that employee's periods. An incremental
+ * payroll run drains the dirty employees for its period and reuses the stored
+ * payroll rows of everyone else.
+ *
+ * State lives in memory only, so a period is trusted only after one full run
+ * in this process has established a baseline for it (see {@link #isBaselined}).
+ * Changes made by other clients or directly in the database are not seen, so a
+ * baseline expires after a while and the next run recalculates everyone again.
+ */
+public class PayrollChangeTracker {
+    private static final Logger LOGGER = Logger.getLogger(PayrollChangeTracker.class.getName());
+    private static final PayrollChangeTracker INSTANCE = new PayrollChangeTracker(
+            ConfigurationManager.getInstance().getPayrollBaselineTtlMillis());
+
+    // Dirty day ranges per employee, as inclusive epoch-day pairs kept sorted and merged
+    private final Map<Integer, List<long[]>> dirtyRanges = new HashMap<>();
+    // When each period was baselined, from System.nanoTime()
+    private final Map<String, Long> baselinedPeriods = new HashMap<>();
+    private final long baselineTtlNanos;
+
+    /**
+     * @param baselineTtlMillis How long a baseline is trusted before a full run is needed again
+     */
+    public PayrollChangeTracker(long baselineTtlMillis) {
+        if (baselineTtlMillis < 0) {
+            throw new IllegalArgumentException("Baseline TTL cannot be negative");
+        }
+        this.baselineTtlNanos = baselineTtlMillis * 1_000_000L;
+    }
+
+    public static PayrollChangeTracker getInstance() {
+        return INSTANCE;
+    }
+
+    /**
+     * Marks a single day of an employee's records as changed
+     */
+    public void markDirty(int employeeId, LocalDate date) {
+        if (date != null) {
+            markDirty(employeeId, date, date);
+        }
+    }
+
+    /**
+     * Marks a range of days of an employee's records as changed
+     */
+    public synchronized void markDirty(int employeeId, LocalDate from, LocalDate to) {
+        if (from == null || to == null) {
+            markEmployeeDirty(employeeId);
+            return;
+        }
+        long start = Math.min(from.toEpochDay(), to.toEpochDay());
+        long end = Math.max(from.toEpochDay(), to.toEpochDay());
+        add(employeeId, start, end);
+    }
+
+    /**
+     * Marks every period of an employee as changed, e.g. after a salary update
+     */
+    public synchronized void markEmployeeDirty(int employeeId) {
+        add(employeeId, Long.MIN_VALUE, Long.MAX_VALUE);
+    }
+
+    /**
+     * @return true if any of the employee's changes fall within the period
+     */
+    public synchronized boolean isDirty(int employeeId, LocalDate periodStart, LocalDate periodEnd) {
+        List<long[]> ranges = dirtyRanges.get(employeeId);
+        if (ranges == null) {
+            return false;
+        }
+        long start = periodStart.toEpochDay();
+        long end = periodEnd.toEpochDay();
+        for (long[] range : ranges) {
+            if (range[0] <= end && range[1] >= start) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Returns the employees with changes in the period and clears those changes.
+     * Callers that fail to recalculate an employee must mark it dirty again.
+     * @param periodStart Start of the pay period
+     * @param periodEnd End of the pay period
+     * @return IDs of employees whose payroll for the period is stale
+     */
+    public synchronized Set<Integer> drainDirty(LocalDate periodStart, LocalDate periodEnd) {
+        long start = periodStart.toEpochDay();
+        long end = periodEnd.toEpochDay();
+        Set<Integer> drained = new HashSet<>();
+
+        var iterator = dirtyRanges.entrySet().iterator();
+        while (iterator.hasNext()) {
+            Map.Entry<Integer, List<long[]>> entry = iterator.next();
+            List<long[]> remaining = new ArrayList<>();
+            boolean hit = false;
+            for (long[] range : entry.getValue()) {
+                if (range[0] > end || range[1] < start) {
+                    remaining.add(range);
+                    continue;
+                }
+                hit = true;
+                // Keep the parts of the range outside the period
+                if (range[0] < start) {
+                    remaining.add(new long[]{range[0], start - 1});
+                }
+                if (range[1] > end) {
+                    remaining.add(new long[]{end + 1, range[1]});
+                }
+            }
+            if (hit) {
+                drained.add(entry.getKey());
+            }
+            if (remaining.isEmpty()) {
+                iterator.remove();
+            } else {
+                entry.setValue(remaining);
+            }
+        }
+        return drained;
+    }
+
+    /**
+     * @return true if a full run has calculated the period within the baseline TTL
+     */
+    public synchronized boolean isBaselined(LocalDate periodStart, LocalDate periodEnd) {
+        String key = periodKey(periodStart, periodEnd);
+        Long baselinedAt = baselinedPeriods.get(key);
+        if (baselinedAt == null) {
+            return false;
+        }
+        if (System.nanoTime() - baselinedAt >= baselineTtlNanos) {
+            baselinedPeriods.remove(key);
+            LOGGER.fine("Payroll period baseline expired: " + periodStart + " to " + periodEnd);
+            return false;
+        }
+        return true;
+    }
+
+    /**
+     * Records that every employee's payroll for the period has been calculated and stored
+     */
+    public synchronized void markBaselined(LocalDate periodStart, LocalDate periodEnd) {
+        baselinedPeriods.put(periodKey(periodStart, periodEnd), System.nanoTime());
+        LOGGER.fine("Payroll period baselined: " + periodStart + " to " + periodEnd);
+    }
+
+    /**
+     * Forgets all changes and baselines
+     */
+    public synchronized void reset() {
+        dirtyRanges.clear();
+        baselinedPeriods.clear();
+    }
+
+    private void add(int employeeId, long start, long end) {
+        List<long[]> ranges = dirtyRanges.computeIfAbsent(employeeId, k -> new ArrayList<>());
+        List<long[]> merged = new ArrayList<>(ranges.size() + 1);
+        long newStart = start;
+        long newEnd = end;
+        int i = 0;
+
+        // Ranges entirely before the new one (adjacent days merge)
+        while (i < ranges.size() && ranges.get(i)[1] < newStart - 1 && newStart != Long.MIN_VALUE) {
+            merged.add(ranges.get(i++));
+        }
+        // Ranges overlapping or touching the new one
+        while (i < ranges.size() && (newEnd == Long.MAX_VALUE || ranges.get(i)[0] <= newEnd + 1)) {
+            newStart = Math.min(newStart, ranges.get(i)[0]);
+            newEnd = Math.max(newEnd, ranges.get(i)[1]);
+            i++;
+        }
+        merged.add(new long[]{newStart, newEnd});
+        while (i < ranges.size()) {
+            merged.add(ranges.get(i++));
+        }
+        dirtyRanges.put(employeeId, merged);
+    }
+
+    private static String periodKey(LocalDate periodStart, LocalDate periodEnd) {
+        return periodStart + "|" + periodEnd;
+    }
+}
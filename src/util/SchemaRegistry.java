@@ -0,0 +1,219 @@
+package util;
+
+import java.sql.Connection;
+import java.sql.DatabaseMetaData;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+/**
+ * Tables, columns and unique keys of the application database, read once from
+ * {@link DatabaseMetaData} and kept in memory. DAOs ask it whether a table or
+ * column exists instead of probing the database on every request, and can
+ * look up a column's ordinal position to read {@code SELECT *} results by index.
+ * DAOs that rely on a unique key to reject duplicates check for it here, since
+ * databases created from older scripts may not have it.
+ *
+ * Names are matched ignoring case. Call {@link #reload()} after changing the
+ * schema while the application is running.
+ */
+public final class SchemaRegistry {
+    private static final Logger LOGGER = Logger.getLogger(SchemaRegistry.class.getName());
+
+    private static volatile SchemaRegistry instance;
+
+    // Column name to 1-based ordinal position, by table, all lower case
+    private final Map<String, Map<String, Integer>> columnsByTable;
+
+    // Column sets of the primary and unique keys, by table, all lower case
+    private final Map<String, List<Set<String>>> uniqueKeysByTable;
+
+    private SchemaRegistry(Map<String, Map<String, Integer>> columnsByTable,
+                           Map<String, List<Set<String>>> uniqueKeysByTable) {
+        this.columnsByTable = columnsByTable;
+        this.uniqueKeysByTable = uniqueKeysByTable;
+    }
+
+    /**
+     * @return the schema read from the database on first use
+     * @throws RuntimeException if the schema cannot be read
+     */
+    public static SchemaRegistry getInstance() {
+        SchemaRegistry registry = instance;
+        if (registry == null) {
+            synchronized (SchemaRegistry.class) {
+                registry = instance;
+                if (registry == null) {
+                    registry = load();
+                    instance = registry;
+                }
+            }
+        }
+        return registry;
+    }
+
+    /**
+     * Reads the schema from the database again
+     */
+    public static synchronized void reload() {
+        instance = load();
+    }
+
+    /**
+     * Builds a registry from column names listed in ordinal order per table
+     */
+    public static SchemaRegistry fromColumns(Map<String, List<String>> columnsByTable) {
+        return fromColumns(columnsByTable, Collections.emptyMap());
+    }
+
+    /**
+     * Builds a registry from column names listed in ordinal order per table,
+     * and the column lists of each table's unique keys
+     */
+    public static SchemaRegistry fromColumns(Map<String, List<String>> columnsByTable,
+                                             Map<String, List<List<String>>> uniqueKeysByTable) {
+        Map<String, List<Set<String>>> keys = new HashMap<>();
+        for (Map.Entry<String, List<List<String>>> table : uniqueKeysByTable.entrySet()) {
+            List<Set<String>> tableKeys = new ArrayList<>();
+            for (List<String> key : table.getValue()) {
+                tableKeys.add(normalize(key));
+            }
+            keys.put(normalize(table.getKey()), Collections.unmodifiableList(tableKeys));
+        }
+
+        Map<String, Map<String, Integer>> tables = new HashMap<>();
+        for (Map.Entry<String, List<String>> table : columnsByTable.entrySet()) {
+            Map<String, Integer> columns = new LinkedHashMap<>();
+            int ordinal = 1;
+            for (String column : table.getValue()) {
+                columns.put(normalize(column), ordinal++);
+            }
+            tables.put(normalize(table.getKey()), Collections.unmodifiableMap(columns));
+        }
+        return new SchemaRegistry(tables, keys);
+    }
+
+    private static SchemaRegistry load() {
+        try (Connection conn = DBConnection.getConnection()) {
+            DatabaseMetaData metaData = conn.getMetaData();
+            Map<String, List<String>> columnsByTable = new HashMap<>();
+            Map<String, Map<Integer, String>> ordered = new HashMap<>();
+
+            try (ResultSet rs = metaData.getColumns(conn.getCatalog(), null, "%", "%")) {
+                while (rs.next()) {
+                    ordered.computeIfAbsent(rs.getString("TABLE_NAME"), k -> new TreeMap<>())
+                            .put(rs.getInt("ORDINAL_POSITION"), rs.getString("COLUMN_NAME"));
+                }
+            }
+            for (Map.Entry<String, Map<Integer, String>> table : ordered.entrySet()) {
+                columnsByTable.put(table.getKey(), new ArrayList<>(table.getValue().values()));
+            }
+
+            // getIndexInfo takes no table pattern, so each table is asked separately
+            Map<String, List<List<String>>> uniqueKeysByTable = new HashMap<>();
+            for (String table : columnsByTable.keySet()) {
+                Map<String, Map<Integer, String>> keyColumns = new HashMap<>();
+                try (ResultSet rs = metaData.getIndexInfo(conn.getCatalog(), null, table, true, true)) {
+                    while (rs.next()) {
+                        String indexName = rs.getString("INDEX_NAME");
+                        String column = rs.getString("COLUMN_NAME");
+                        if (indexName != null && column != null) {
+                            keyColumns.computeIfAbsent(indexName, k -> new TreeMap<>())
+                                    .put((int) rs.getShort("ORDINAL_POSITION"), column);
+                        }
+                    }
+                }
+                List<List<String>> keys = new ArrayList<>();
+                for (Map<Integer, String> key : keyColumns.values()) {
+                    keys.add(new ArrayList<>(key.values()));
+                }
+                uniqueKeysByTable.put(table, keys);
+            }
+
+            LOGGER.info("✅ Loaded database schema: " + columnsByTable.size() + " tables");
+            return fromColumns(columnsByTable, uniqueKeysByTable);
+
+        } catch (SQLException e) {
+            LOGGER.log(Level.SEVERE, "❌ Failed to read database schema", e);
+            throw new RuntimeException("Failed to read database schema: " + e.getMessage(), e);
+        }
+    }
+
+    public boolean hasTable(String table) {
+        return columnsByTable.containsKey(normalize(table));
+    }
+
+    public boolean hasColumn(String table, String column) {
+        return columnOrdinal(table, column) > 0;
+    }
+
+    /**
+     * @return 1-based position of the column in its table, or -1 if either does not exist
+     */
+    public int columnOrdinal(String table, String column) {
+        Map<String, Integer> columns = columnsByTable.get(normalize(table));
+        if (columns == null) {
+            return -1;
+        }
+        Integer ordinal = columns.get(normalize(column));
+        return ordinal != null ? ordinal : -1;
+    }
+
+    /**
+     * @return the table's column names in ordinal order, lower case, or an empty list if it does not exist
+     */
+    public List<String> getColumns(String table) {
+        Map<String, Integer> columns = columnsByTable.get(normalize(table));
+        return columns == null ? Collections.emptyList() : new ArrayList<>(columns.keySet());
+    }
+
+    /**
+     * @return true if the table has a primary or unique key on exactly these columns, in any order
+     */
+    public boolean hasUniqueKey(String table, String... columns) {
+        Set<String> wanted = normalize(Arrays.asList(columns));
+        for (Set<String> key : uniqueKeysByTable.getOrDefault(normalize(table), Collections.emptyList())) {
+            if (key.equals(wanted)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * @return the given tables that do not exist, in the order given
+     */
+    public List<String> missingTables(String... tables) {
+        List<String> missing = new ArrayList<>();
+        for (String table : tables) {
+            if (!hasTable(table)) {
+                missing.add(table);
+            }
+        }
+        return missing;
+    }
+
+    private static String normalize(String name) {
+        return name == null ? "" : name.toLowerCase(Locale.ROOT);
+    }
+
+    private static Set<String> normalize(List<String> names) {
+        Set<String> normalized = new HashSet<>();
+        for (String name : names) {
+            normalized.add(normalize(name));
+        }
+        return Collections.unmodifiableSet(normalized);
+    }
+}
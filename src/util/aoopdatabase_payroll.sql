@@ -15,6 +15,7 @@ DROP TABLE IF EXISTS payroll;
 DROP TABLE IF EXISTS overtime;
 DROP TABLE IF EXISTS deductions;
 DROP TABLE IF EXISTS government_contributions;
+DROP TABLE IF EXISTS contribution_brackets;
 DROP TABLE IF EXISTS compensation_details;
 DROP TABLE IF EXISTS attendance;
 DROP TABLE IF EXISTS leave_request;
@@ -169,7 +170,8 @@ CREATE TABLE attendance (
     log_out TIME NOT NULL,
     created_at TIMESTAMP DEFAULT CURRENT_TIMESTAMP,
     updated_at TIMESTAMP DEFAULT CURRENT_TIMESTAMP ON UPDATE CURRENT_TIMESTAMP,
-    FOREIGN KEY (employee_id) REFERENCES employees(employee_id) ON DELETE CASCADE
+    FOREIGN KEY (employee_id) REFERENCES employees(employee_id) ON DELETE CASCADE,
+    UNIQUE KEY unique_attendance_employee_date (employee_id, date)
 );
 
 -- Insert sample attendance data
@@ -221,15 +223,18 @@ CREATE TABLE overtime (
     FOREIGN KEY (employee_id) REFERENCES employees(employee_id) ON DELETE CASCADE
 );
 
+-- Payroll line items carry the payroll_id they itemize; manual deductions leave it NULL
 CREATE TABLE deductions (
     deduction_id INT AUTO_INCREMENT PRIMARY KEY,
     employee_id INT NOT NULL,
+    payroll_id INT NULL,
     type VARCHAR(50) NOT NULL,
     amount DECIMAL(8,2) NOT NULL,
     description TEXT,
     deduction_date DATE DEFAULT (CURRENT_DATE),
     created_at TIMESTAMP DEFAULT CURRENT_TIMESTAMP,
-    FOREIGN KEY (employee_id) REFERENCES employees(employee_id) ON DELETE CASCADE
+    FOREIGN KEY (employee_id) REFERENCES employees(employee_id) ON DELETE CASCADE,
+    FOREIGN KEY (payroll_id) REFERENCES payroll(payroll_id) ON DELETE CASCADE
 );
 
 CREATE TABLE government_contributions (
@@ -283,6 +288,46 @@ CREATE TABLE payroll (
     UNIQUE KEY unique_payroll_period (employee_id, period_start, period_end)
 );
 
+-- Contribution and withholding tax brackets, versioned by effective date.
+-- amount = fixed_amount + (base - excess_over) * rate, clamped to min/max.
+-- TAX brackets are on annual salary; the others on monthly salary.
+CREATE TABLE contribution_brackets (
+    bracket_id INT AUTO_INCREMENT PRIMARY KEY,
+    contribution_type VARCHAR(20) NOT NULL,
+    effective_date DATE NOT NULL,
+    upper_bound DECIMAL(12,2) NULL,
+    fixed_amount DECIMAL(12,2) DEFAULT 0,
+    rate DECIMAL(7,5) DEFAULT 0,
+    excess_over DECIMAL(12,2) DEFAULT 0,
+    min_amount DECIMAL(12,2) NULL,
+    max_amount DECIMAL(12,2) NULL,
+    UNIQUE KEY unique_bracket (contribution_type, effective_date, upper_bound)
+);
+
+INSERT INTO contribution_brackets (contribution_type, effective_date, upper_bound, fixed_amount, rate, excess_over, min_amount, max_amount) VALUES
+('SSS', '2000-01-01', 4000, 180.00, 0, 0, NULL, NULL),
+('SSS', '2000-01-01', 4750, 202.50, 0, 0, NULL, NULL),
+('SSS', '2000-01-01', 5500, 225.00, 0, 0, NULL, NULL),
+('SSS', '2000-01-01', 6250, 247.50, 0, 0, NULL, NULL),
+('SSS', '2000-01-01', 7000, 270.00, 0, 0, NULL, NULL),
+('SSS', '2000-01-01', 7750, 292.50, 0, 0, NULL, NULL),
+('SSS', '2000-01-01', 8500, 315.00, 0, 0, NULL, NULL),
+('SSS', '2000-01-01', 9250, 337.50, 0, 0, NULL, NULL),
+('SSS', '2000-01-01', 10000, 360.00, 0, 0, NULL, NULL),
+('SSS', '2000-01-01', 15000, 540.00, 0, 0, NULL, NULL),
+('SSS', '2000-01-01', 20000, 720.00, 0, 0, NULL, NULL),
+('SSS', '2000-01-01', 25000, 900.00, 0, 0, NULL, NULL),
+('SSS', '2000-01-01', NULL, 1125.00, 0, 0, NULL, NULL),
+('PHILHEALTH', '2000-01-01', NULL, 0, 0.025, 0, 500.00, 5000.00),
+('PAGIBIG', '2000-01-01', 1500, 0, 0.01, 0, NULL, NULL),
+('PAGIBIG', '2000-01-01', NULL, 0, 0.02, 0, NULL, 200.00),
+('TAX', '2000-01-01', 250000, 0, 0, 0, NULL, NULL),
+('TAX', '2000-01-01', 400000, 0, 0.15, 250000, NULL, NULL),
+('TAX', '2000-01-01', 800000, 22500, 0.20, 400000, NULL, NULL),
+('TAX', '2000-01-01', 2000000, 102500, 0.25, 800000, NULL, NULL),
+('TAX', '2000-01-01', 8000000, 402500, 0.30, 2000000, NULL, NULL),
+('TAX', '2000-01-01', NULL, 2202500, 0.35, 8000000, NULL, NULL);
+
 -- Insert compensation details from employee data
 INSERT INTO compensation_details (employee_id, rice_subsidy, phone_allowance, clothing_allowance)
 SELECT employee_id, rice_subsidy, phone_allowance, clothing_allowance FROM employees;
@@ -296,19 +341,20 @@ INSERT INTO overtime (employee_id, date, hours, reason, approved) VALUES
 -- =============================================
 -- Create indexes for better performance
 -- =============================================
-CREATE INDEX idx_employees_last_name ON employees(last_name);
+CREATE INDEX idx_employees_name ON employees(last_name, first_name, employee_id);
 CREATE INDEX idx_employees_position ON employees(position);
 CREATE INDEX idx_employees_status ON employees(status);
 CREATE INDEX idx_employees_supervisor ON employees(immediate_supervisor);
 CREATE INDEX idx_leave_request_employee_id ON leave_request(employee_id);
 CREATE INDEX idx_leave_request_dates ON leave_request(start_date, end_date);
-CREATE INDEX idx_attendance_employee_date ON attendance(employee_id, date);
 CREATE INDEX idx_attendance_date ON attendance(date);
 CREATE INDEX idx_payroll_employee_id ON payroll(employee_id);
 CREATE INDEX idx_payroll_period ON payroll(period_start, period_end);
 CREATE INDEX idx_overtime_employee_id ON overtime(employee_id);
 CREATE INDEX idx_deductions_employee_id ON deductions(employee_id);
+CREATE INDEX idx_deductions_payroll ON deductions(payroll_id, type);
 CREATE INDEX idx_government_contributions_employee ON government_contributions(employee_id);
+CREATE INDEX idx_government_contributions_period ON government_contributions(employee_id, contribution_period);
 CREATE INDEX idx_compensation_details_employee ON compensation_details(employee_id);
 
 -- Re-enable foreign key checks
@@ -337,6 +383,8 @@ SELECT 'deductions' as table_name, COUNT(*) as row_count FROM deductions
 UNION ALL
 SELECT 'government_contributions' as table_name, COUNT(*) as row_count FROM government_contributions
 UNION ALL
+SELECT 'contribution_brackets' as table_name, COUNT(*) as row_count FROM contribution_brackets
+UNION ALL
 SELECT 'compensation_details' as table_name, COUNT(*) as row_count FROM compensation_details;
 
 -- Test authentication query